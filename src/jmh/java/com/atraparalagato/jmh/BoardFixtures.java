@@ -0,0 +1,49 @@
+package com.atraparalagato.jmh;
+
+import com.atraparalagato.impl.model.HexGameBoard;
+import com.atraparalagato.impl.model.HexPosition;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Tableros de media partida para los benchmarks: una fracción de las celdas
+ * bloqueadas al azar (con semilla fija) y el gato en el centro, todavía con
+ * camino al borde. Así se mide el caso que importa, no el tablero vacío.
+ */
+final class BoardFixtures {
+
+    static final HexPosition CENTER = new HexPosition(0, 0);
+    private static final long SEED = 20_240_317L;
+
+    private BoardFixtures() {
+    }
+
+    /** Tablero de radio size con wallDensity de las celdas bloqueadas, del que el gato puede escapar */
+    static HexGameBoard midGame(int size, double wallDensity) {
+        SplittableRandom random = new SplittableRandom(SEED + size);
+        while (true) {
+            HexGameBoard board = new HexGameBoard(size);
+            int walls = (int) (board.getCellCount() * wallDensity);
+            while (board.getBlockedCount() < walls) {
+                HexPosition pos = board.positionAt(random.nextInt(board.getCellCount()));
+                if (!pos.equals(CENTER)) {
+                    board.blockTile(pos);
+                }
+            }
+            if (board.getEscapeField().canEscapeFrom(board.indexOf(0, 0))) {
+                return board;
+            }
+        }
+    }
+
+    /** Todas las posiciones del tablero, en el orden de sus índices */
+    static List<HexPosition> allPositions(HexGameBoard board) {
+        List<HexPosition> positions = new ArrayList<>(board.getCellCount());
+        for (int i = 0; i < board.getCellCount(); i++) {
+            positions.add(board.positionAt(i));
+        }
+        return positions;
+    }
+}
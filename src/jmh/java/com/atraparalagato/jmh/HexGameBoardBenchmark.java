@@ -0,0 +1,73 @@
+package com.atraparalagato.jmh;
+
+import com.atraparalagato.impl.model.HexGameBoard;
+import com.atraparalagato.impl.model.HexPosition;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Consultas de HexGameBoard que usan las estrategias y el controlador, sobre
+ * tableros de media partida. Cada operación recorre todas las celdas.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HexGameBoardBenchmark {
+
+    @Param({"5", "15", "50"})
+    public int boardSize;
+
+    @Param({"0.1", "0.3"})
+    public double wallDensity;
+
+    private HexGameBoard board;
+    private List<HexPosition> positions;
+
+    @Setup
+    public void setUp() {
+        board = BoardFixtures.midGame(boardSize, wallDensity);
+        positions = BoardFixtures.allPositions(board);
+    }
+
+    @Benchmark
+    public void adjacentPositions(Blackhole bh) {
+        for (HexPosition pos : positions) {
+            bh.consume(board.getAdjacentPositions(pos));
+        }
+    }
+
+    @Benchmark
+    public void freeNeighbors(Blackhole bh) {
+        for (HexPosition pos : positions) {
+            bh.consume(board.getFreeNeighbors(pos));
+        }
+    }
+
+    @Benchmark
+    public List<HexPosition> positionsWhereBlocked() {
+        return board.getPositionsWhere(board::isBlocked);
+    }
+
+    @Benchmark
+    public void isBlocked(Blackhole bh) {
+        for (HexPosition pos : positions) {
+            bh.consume(board.isBlocked(pos));
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.atraparalagato.jmh;
+
+import com.atraparalagato.impl.model.HexGameBoard;
+import com.atraparalagato.impl.model.HexPosition;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * hashCode, equals y conjuntos de HexPosition: la base de los HashSet/HashMap
+ * que todavía usan la API de objetos y las estrategias de ejemplo.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HexPositionBenchmark {
+
+    @Param({"5", "15", "50"})
+    public int boardSize;
+
+    private List<HexPosition> positions;
+    private List<HexPosition> copies;
+    private Set<HexPosition> set;
+
+    @Setup
+    public void setUp() {
+        HexGameBoard board = new HexGameBoard(boardSize);
+        positions = BoardFixtures.allPositions(board);
+        copies = positions.stream().map(p -> new HexPosition(p.getQ(), p.getR())).toList();
+        set = new HashSet<>(positions);
+    }
+
+    @Benchmark
+    public void hashCodeAll(Blackhole bh) {
+        for (HexPosition pos : positions) {
+            bh.consume(pos.hashCode());
+        }
+    }
+
+    @Benchmark
+    public void equalsCopies(Blackhole bh) {
+        for (int i = 0; i < positions.size(); i++) {
+            bh.consume(positions.get(i).equals(copies.get(i)));
+        }
+    }
+
+    @Benchmark
+    public Set<HexPosition> buildHashSet() {
+        return new HashSet<>(positions);
+    }
+
+    @Benchmark
+    public void containsCopies(Blackhole bh) {
+        for (HexPosition pos : copies) {
+            bh.consume(set.contains(pos));
+        }
+    }
+}
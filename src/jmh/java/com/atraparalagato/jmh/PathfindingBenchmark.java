@@ -0,0 +1,64 @@
+package com.atraparalagato.jmh;
+
+import com.atraparalagato.base.strategy.CatMovementStrategy;
+import com.atraparalagato.impl.model.HexGameBoard;
+import com.atraparalagato.impl.model.HexPosition;
+import com.atraparalagato.impl.strategy.CatStrategyType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Camino completo y mejor movimiento del gato desde el centro de un tablero de
+ * media partida, para las estrategias de búsqueda de caminos.
+ *
+ * El tablero no cambia entre invocaciones: distance-field mide la consulta sobre
+ * el campo ya calculado, que es su caso normal entre dos muros.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PathfindingBenchmark {
+
+    @Param({"5", "15", "50"})
+    public int boardSize;
+
+    @Param({"0.1", "0.3"})
+    public double wallDensity;
+
+    @Param({"bfs", "astar", "distance-field"})
+    public String strategy;
+
+    private CatMovementStrategy<HexPosition> cat;
+
+    @Setup
+    public void setUp() {
+        HexGameBoard board = BoardFixtures.midGame(boardSize, wallDensity);
+        cat = CatStrategyType.fromConfigName(strategy).create(board);
+    }
+
+    @Benchmark
+    public List<HexPosition> fullPath() {
+        return cat.getFullPath(BoardFixtures.CENTER, null);
+    }
+
+    @Benchmark
+    public Optional<HexPosition> bestMove() {
+        return cat.findBestMove(BoardFixtures.CENTER, null);
+    }
+}
@@ -60,7 +60,7 @@ public abstract class GameService<T extends Position> {
     public final GameState<T> startNewGame(int boardSize) {
         String gameId = generateGameId();
         GameBoard<T> board = createGameBoard(boardSize);
-        GameState<T> gameState = createGameState(gameId);
+        GameState<T> gameState = createGameState(gameId, boardSize);
         
         initializeGame(gameState, board);
         configureGameCallbacks(gameState);
@@ -76,25 +76,36 @@ public abstract class GameService<T extends Position> {
      * Coordina la actualización del tablero y el movimiento del gato.
      */
     public final Optional<GameState<T>> executePlayerMove(String gameId, T position) {
-        Optional<GameState<T>> gameStateOpt = loadGameState(gameId);
-        
-        if (gameStateOpt.isEmpty()) {
-            return Optional.empty();
-        }
-        
-        GameState<T> gameState = gameStateOpt.get();
-        
-        if (!gameState.executeMove(position)) {
-            return Optional.of(gameState);
-        }
-        
-        // Mover el gato después del movimiento del jugador
-        executeCatMove(gameState);
-        
-        GameState<T> updatedState = persistGameState(gameState);
-        onMoveExecuted(updatedState, position);
-        
-        return Optional.of(updatedState);
+        return runExclusively(gameId, () -> {
+            Optional<GameState<T>> gameStateOpt = loadGameState(gameId);
+            
+            if (gameStateOpt.isEmpty()) {
+                return Optional.empty();
+            }
+            
+            GameState<T> gameState = gameStateOpt.get();
+            
+            if (!gameState.executeMove(position)) {
+                return Optional.of(gameState);
+            }
+            
+            // Mover el gato después del movimiento del jugador
+            executeCatMove(gameState);
+            
+            GameState<T> updatedState = persistGameState(gameState);
+            onMoveExecuted(updatedState, position);
+            
+            return Optional.of(updatedState);
+        });
+    }
+    
+    /**
+     * Ejecuta la acción con acceso exclusivo a la partida.
+     * Por defecto no sincroniza nada; los servicios que atienden pedidos
+     * concurrentes lo sobrescriben (por ejemplo, con un lock por partida).
+     */
+    protected <R> R runExclusively(String gameId, Supplier<R> action) {
+        return action.get();
     }
     
     /**
@@ -120,6 +131,14 @@ public abstract class GameService<T extends Position> {
     protected GameState<T> createGameState(String gameId) {
         return gameStateFactory.apply(gameId);
     }
+
+    /**
+     * Crea el estado inicial para un tablero del tamaño pedido.
+     * Por defecto ignora el tamaño; lo sobrescriben los estados que arman su propio tablero.
+     */
+    protected GameState<T> createGameState(String gameId, int boardSize) {
+        return createGameState(gameId);
+    }
     
     /**
      * Inicializa el juego con valores por defecto.
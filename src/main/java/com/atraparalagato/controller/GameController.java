@@ -7,15 +7,32 @@ import com.atraparalagato.impl.model.HexPosition;
 import com.atraparalagato.impl.model.HexGameState;
 import com.atraparalagato.impl.model.Score;
 import com.atraparalagato.impl.repository.ScoreRepository;
+import com.atraparalagato.impl.service.AdaptiveStrategySelector;
+import com.atraparalagato.impl.service.BatchMove;
+import com.atraparalagato.impl.service.BatchMoveResult;
+import com.atraparalagato.impl.service.CatComputePool;
+import com.atraparalagato.impl.service.CatReplySpeculator;
+import com.atraparalagato.impl.service.GameEvent;
+import com.atraparalagato.impl.strategy.AlphaBetaCatMovement;
+import com.atraparalagato.impl.strategy.CatStrategyType;
+import com.atraparalagato.impl.strategy.MonteCarloCatMovement;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Controlador del juego que alterna entre implementaciones de ejemplo y de estudiantes.
@@ -28,18 +45,146 @@ import java.util.Optional;
 @RequestMapping("/api/game")
 @CrossOrigin(origins = "*")
 public class GameController {
+
+    /** Versión mínima de Java para 'spring.threads.virtual.enabled' */
+    public static final int VIRTUAL_THREADS_MIN_JAVA = 21;
     
     @Value("${game.use-example-implementation:true}")
     private boolean useExampleImplementation;
     
     private final ExampleGameService exampleGameService;
     private final HexGameService hexGameService = new HexGameService();
+    private final GameEventStream eventStream = new GameEventStream();
     
     @Autowired
     private ScoreRepository scoreRepository;
 
+    /** Plazo de POST /block-async (propiedad 'game.async.timeout-ms') */
+    @Value("${game.async.timeout-ms:5000}")
+    private long asyncTimeoutMillis;
+
     public GameController() {
         this.exampleGameService = new ExampleGameService();
+        this.hexGameService.setEventListener(eventStream::publish);
+    }
+
+    /**
+     * Estrategia del gato para la implementación 'impl' (propiedad 'game.cat-strategy').
+     */
+    @Value("${game.cat-strategy:bfs}")
+    public void setCatStrategy(String catStrategy) {
+        hexGameService.setCatStrategy(CatStrategyType.fromConfigName(catStrategy));
+    }
+
+    /**
+     * Tope de tiempo por movimiento de los gatos con búsqueda (propiedad 'game.cat-search.budget-ms').
+     */
+    @Value("${game.cat-search.budget-ms:50}")
+    public void setCatSearchBudget(long budgetMillis) {
+        AlphaBetaCatMovement.setDefaultBudgetMillis(budgetMillis);
+        MonteCarloCatMovement.setDefaultBudgetMillis(budgetMillis);
+    }
+
+    /**
+     * Entradas de cada tabla de transposición del gato alphabeta (propiedad 'game.cat-search.tt-entries').
+     */
+    @Value("${game.cat-search.tt-entries:65536}")
+    public void setCatSearchTableEntries(int entries) {
+        AlphaBetaCatMovement.setTableEntries(entries);
+    }
+
+    /**
+     * Degradación de la estrategia del gato bajo carga (propiedades 'game.cat-adaptive.*').
+     */
+    @Autowired
+    public void configureAdaptiveStrategy(@Value("${game.cat-adaptive.enabled:false}") boolean enabled,
+                                          @Value("${game.cat-adaptive.ladder:alphabeta,astar,distance-field}") String ladder,
+                                          @Value("${game.cat-adaptive.slo-ms:100}") long sloMillis,
+                                          @Value("${game.cat-adaptive.max-in-flight:16}") int maxInFlight) {
+        if (!enabled) {
+            hexGameService.setAdaptiveSelector(null);
+            return;
+        }
+        List<CatStrategyType> tiers = Arrays.stream(ladder.split(","))
+                .map(CatStrategyType::fromConfigName)
+                .toList();
+        hexGameService.setAdaptiveSelector(new AdaptiveStrategySelector(tiers, sloMillis, maxInFlight));
+    }
+
+    /**
+     * Plazo duro por movimiento del gato, con respaldo codicioso (propiedad 'game.cat-search.deadline-ms', 0 = sin plazo).
+     */
+    @Value("${game.cat-search.deadline-ms:0}")
+    public void setCatSearchDeadline(long deadlineMillis) {
+        hexGameService.setCatDeadlineMillis(deadlineMillis);
+    }
+
+    /**
+     * Hilos por movimiento del gato Monte Carlo (propiedad 'game.cat-search.threads', 0 = núcleos disponibles).
+     */
+    @Value("${game.cat-search.threads:0}")
+    public void setCatSearchThreads(int threads) {
+        MonteCarloCatMovement.setDefaultParallelism(threads > 0 ? threads : Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Hilos para los movimientos de un lote (propiedad 'game.batch.threads', 0 = núcleos disponibles).
+     */
+    @Value("${game.batch.threads:0}")
+    public void setBatchThreads(int threads) {
+        if (threads > 0) {
+            hexGameService.setBatchParallelism(threads);
+        }
+    }
+
+    /**
+     * Caché compartida de movimientos del gato (propiedades 'game.cat-cache.*').
+     */
+    @Value("${game.cat-cache.enabled:true}")
+    public void setCatCacheEnabled(boolean enabled) {
+        hexGameService.getMoveCache().setEnabled(enabled);
+    }
+
+    @Autowired
+    public void configureCatCache(@Value("${game.cat-cache.max-entries:200000}") long maxEntries,
+                                  @Value("${game.cat-cache.max-memory-mb:32}") long maxMemoryMb) {
+        hexGameService.getMoveCache().resize(maxEntries, maxMemoryMb * 1024 * 1024);
+    }
+
+    /**
+     * Especulación de respuestas del gato mientras el jugador piensa (propiedades 'game.cat-speculation.*').
+     */
+    @Autowired
+    public void configureCatSpeculation(@Value("${game.cat-speculation.enabled:false}") boolean enabled,
+                                        @Value("${game.cat-speculation.threads:1}") int threads) {
+        hexGameService.setSpeculator(enabled ? new CatReplySpeculator(threads) : null);
+    }
+
+    /**
+     * Pool acotado donde se calcula el gato, fuera de los hilos de las peticiones (propiedades 'game.cat-compute.*').
+     * Los hilos virtuales ('spring.threads.virtual.enabled') piden Java 21: en un runtime anterior Spring
+     * los ignora sin avisar, así que se corta el arranque.
+     */
+    @Autowired
+    public void configureCatCompute(@Value("${game.cat-compute.enabled:false}") boolean enabled,
+                                    @Value("${game.cat-compute.threads:0}") int threads,
+                                    @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        if (virtualThreads && Runtime.version().feature() < VIRTUAL_THREADS_MIN_JAVA) {
+            throw new IllegalStateException("spring.threads.virtual.enabled necesita Java "
+                    + VIRTUAL_THREADS_MIN_JAVA + " o más (runtime: Java " + Runtime.version().feature() + ")");
+        }
+        int count = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        hexGameService.setComputePool(enabled ? new CatComputePool(count) : null);
+    }
+
+    /**
+     * Directorio con tablebases de tableros chicos (propiedad 'game.tablebase.dir'; vacío = sin tablebases).
+     */
+    @Value("${game.tablebase.dir:}")
+    public void setTablebaseDirectory(String directory) {
+        if (!directory.isBlank()) {
+            hexGameService.loadTablebases(Path.of(directory));
+        }
     }
     
     /**
@@ -47,6 +192,11 @@ public class GameController {
      */
     @GetMapping("/start")
     public ResponseEntity<Map<String, Object>> startGame(@RequestParam(defaultValue = "5") int boardSize) {
+        if (boardSize < HexGameService.MIN_BOARD_SIZE || boardSize > HexGameService.MAX_BOARD_SIZE) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "El tamaño del tablero debe estar entre "
+                            + HexGameService.MIN_BOARD_SIZE + " y " + HexGameService.MAX_BOARD_SIZE));
+        }
         try {
             if (useExampleImplementation) {
                 return startGameWithExample(boardSize);
@@ -81,6 +231,89 @@ public class GameController {
         }
     }
     
+    /**
+     * Versión asíncrona de /block: el hilo del servlet se libera mientras el
+     * movimiento (muro, gato y guardado) corre en el pool de movimientos, y la
+     * respuesta, la misma que la de /block, se envía al terminar.
+     *
+     * El plazo ('game.async.timeout-ms') sólo corre hasta que el movimiento empieza:
+     * si vence antes, el movimiento se descarta y responde 503 (no se aplicó, se
+     * puede reintentar). Un movimiento que ya empezó se espera siempre, aunque pase
+     * el plazo: el muro ya se está poniendo, y un 503 haría que el cliente lo
+     * reintente y ponga un segundo muro. Si el cliente se desconecta antes de que
+     * empiece, también se descarta.
+     * Sólo disponible con las implementaciones de estudiantes.
+     */
+    @PostMapping("/block-async")
+    public DeferredResult<ResponseEntity<Map<String, Object>>> blockPositionAsync(
+            @RequestParam String gameId,
+            @RequestParam int q,
+            @RequestParam int r) {
+        // Sin plazo del contenedor (0): al vencer respondería 503 aunque el movimiento ya se esté aplicando
+        DeferredResult<ResponseEntity<Map<String, Object>>> result = new DeferredResult<>(0L);
+        if (useExampleImplementation) {
+            result.setResult(ResponseEntity.badRequest()
+                    .body(Map.of("error", "Los movimientos asíncronos requieren la implementación impl")));
+            return result;
+        }
+        HexPosition position = new HexPosition(q, r);
+        CompletableFuture<ResponseEntity<Map<String, Object>>> move =
+                hexGameService.withGameAsync(gameId, () -> executeAndBuildBlockResponse(gameId, position));
+        move.whenComplete((response, error) -> {
+            if (error == null) {
+                result.setResult(response);
+            } else if (move.isCancelled()) {
+                result.setErrorResult(ResponseEntity.status(503)
+                        .body(Map.of("error", "El movimiento no empezó en " + asyncTimeoutMillis
+                                + " ms y no se aplicó")));
+            } else {
+                result.setErrorResult(ResponseEntity.internalServerError()
+                        .body(Map.of("error", "Error al ejecutar movimiento: " + error.getMessage())));
+            }
+        });
+        // Sólo cancela si todavía está en cola; si ya empezó, cancel no hace nada y se espera el resultado
+        CompletableFuture.delayedExecutor(asyncTimeoutMillis, TimeUnit.MILLISECONDS).execute(() -> move.cancel(false));
+        result.onError(error -> move.cancel(false));
+        return result;
+    }
+
+    /**
+     * Ejecuta muchos movimientos de una vez (bots, torneos, pruebas de carga).
+     * Recibe una lista de {"gameId", "q", "r"} y devuelve un resultado por
+     * movimiento, en el mismo orden; los errores son por movimiento.
+     * Sólo disponible con las implementaciones de estudiantes.
+     */
+    @PostMapping("/block-batch")
+    public ResponseEntity<?> blockPositions(@RequestBody List<Map<String, Object>> moves) {
+        if (useExampleImplementation) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "El lote sólo está disponible con las implementaciones de estudiantes"));
+        }
+        List<BatchMove> batch = new ArrayList<>(moves.size());
+        for (Map<String, Object> move : moves) {
+            if (!(move.get("gameId") instanceof String gameId)
+                    || !(move.get("q") instanceof Number q) || !(move.get("r") instanceof Number r)) {
+                return ResponseEntity.badRequest()
+                        .body(Map.of("error", "Cada movimiento necesita gameId, q y r: " + move));
+            }
+            batch.add(new BatchMove(gameId, new HexPosition(q.intValue(), r.intValue())));
+        }
+        List<Map<String, Object>> response = new ArrayList<>(batch.size());
+        for (BatchMoveResult result : hexGameService.executePlayerMoves(batch)) {
+            Map<String, Object> item = new HashMap<>();
+            item.put("gameId", result.getGameId());
+            if (result.isSuccess()) {
+                item.put("status", result.getStatus().toString());
+                item.put("catPosition", Map.of("q", result.getCatPosition().getQ(), "r", result.getCatPosition().getR()));
+                item.put("movesCount", result.getMoveCount());
+            } else {
+                item.put("error", result.getError().get());
+            }
+            response.add(item);
+        }
+        return ResponseEntity.ok(response);
+    }
+    
     /**
      * Obtiene el estado actual del juego.
      */
@@ -98,6 +331,29 @@ public class GameController {
         }
     }
     
+    /**
+     * Flujo de eventos (SSE) de la partida, en vez de pedir /state una y otra vez.
+     * Primero llega un evento "snapshot" con el estado completo; después, por cada
+     * cambio, un evento chico: "wall" (muro nuevo), "cat" (el gato se movió) o
+     * "status" (la partida terminó). El flujo se cierra al terminar la partida.
+     * Sólo disponible con las implementaciones de estudiantes.
+     */
+    @GetMapping(path = "/stream/{gameId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamGame(@PathVariable String gameId) {
+        if (useExampleImplementation) {
+            return ResponseEntity.badRequest().build();
+        }
+        // Con el lock de la partida: ningún cambio se cuela entre el snapshot y la suscripción
+        return hexGameService.withGame(gameId, () -> hexGameService.getGameState(gameId)
+                .map(state -> {
+                    HexGameState hexState = (HexGameState) state;
+                    hexGameService.watchEvents(hexState);
+                    return ResponseEntity.ok(eventStream.subscribe(GameEvent.snapshot(hexState),
+                            () -> hexGameService.unwatchEvents(gameId)));
+                })
+                .orElseGet(() -> ResponseEntity.notFound().build()));
+    }
+
     /**
      * Obtiene estadísticas del juego.
      */
@@ -108,7 +364,9 @@ public class GameController {
                 Map<String, Object> stats = exampleGameService.getGameStatistics(gameId);
                 return ResponseEntity.ok(stats);
             } else {
-                return ResponseEntity.ok(Map.of("error", "Student implementation not available yet"));
+                Map<String, Object> stats = new HashMap<>(hexGameService.getGameStatistics(gameId));
+                stats.put("eventStream", eventStream.getStatistics());
+                return ResponseEntity.ok(stats);
             }
         } catch (Exception e) {
             return ResponseEntity.internalServerError()
@@ -134,7 +392,16 @@ public class GameController {
                     return ResponseEntity.ok(Map.of("message", "No hay sugerencias disponibles"));
                 }
             } else {
-                return ResponseEntity.ok(Map.of("error", "Student implementation not available yet"));
+                Optional<HexPosition> suggestion = hexGameService.getSuggestedMove(gameId);
+                if (suggestion.isPresent()) {
+                    HexPosition pos = suggestion.get();
+                    return ResponseEntity.ok(Map.of(
+                        "suggestion", Map.of("q", pos.getQ(), "r", pos.getR()),
+                        "message", "Sugerencia: bloquear una celda del corte mínimo entre el gato y el borde"
+                    ));
+                } else {
+                    return ResponseEntity.ok(Map.of("message", "No hay sugerencias disponibles"));
+                }
             }
         } catch (Exception e) {
             return ResponseEntity.internalServerError()
@@ -268,9 +535,6 @@ public class GameController {
     // Métodos privados para implementación de estudiantes (placeholder)
     
     private ResponseEntity<Map<String,Object>> startGameWithStudentImplementation(int boardSize) {
-    // 1) Avisamos al servicio del tamaño real
-    hexGameService.setLastBoardSize(boardSize);
-    // 2) Ahora creamos el juego con ese tamaño  
     GameState<HexPosition> gameState = hexGameService.startNewGame(boardSize);
 
         Map<String, Object> response = new HashMap<>();
@@ -289,7 +553,11 @@ public class GameController {
     
     private ResponseEntity<Map<String,Object>> blockPositionWithStudentImplementation(
         String gameId, HexPosition position) {
+    // La respuesta se arma con el lock de la partida: refleja este movimiento y no uno concurrente
+    return hexGameService.withGame(gameId, () -> executeAndBuildBlockResponse(gameId, position));
+}
 
+    private ResponseEntity<Map<String,Object>> executeAndBuildBlockResponse(String gameId, HexPosition position) {
     Optional<GameState<HexPosition>> gameStateOpt =
         hexGameService.executePlayerMove(gameId, position);
 
@@ -322,6 +590,10 @@ public class GameController {
 
 
     private ResponseEntity<Map<String, Object>> getGameStateWithStudentImplementation(String gameId) {
+        return hexGameService.withGame(gameId, () -> buildGameStateResponse(gameId));
+    }
+
+    private ResponseEntity<Map<String, Object>> buildGameStateResponse(String gameId) {
         Optional<GameState<HexPosition>> gameStateOpt = hexGameService.getGameState(gameId);
 
         if (gameStateOpt.isEmpty()) {
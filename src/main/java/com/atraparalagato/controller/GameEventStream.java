@@ -0,0 +1,220 @@
+package com.atraparalagato.controller;
+
+import com.atraparalagato.impl.service.GameEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Registro de suscriptores SSE por partida.
+ *
+ * Quien publica (el movimiento, con el lock de la partida tomado) sólo encola en
+ * el buffer de cada suscriptor, acotado a {@link #BUFFER_EVENTS} eventos, y los
+ * hilos emisores lo vacían. {@code SseEmitter.send} bloquea mientras el cliente no
+ * lee, y ni {@code complete()} lo destraba (espera al mismo send): lo corta el
+ * timeout de escritura del contenedor ('server.tomcat.connection-timeout'). Si el
+ * buffer de un suscriptor se llena, se lo desconecta (el EventSource se reconecta y
+ * recibe un snapshot nuevo) en vez de acumular memoria. Un suscriptor trabado ocupa
+ * un emisor hasta ese timeout; los emisores no son un número fijo, así que los
+ * demás nunca esperan detrás de él. Cada evento se serializa una vez. Los eventos
+ * de un suscriptor salen en orden, el snapshot primero.
+ */
+public class GameEventStream {
+
+    /** Conexión máxima; el cliente (EventSource) se reconecta solo y recibe un snapshot nuevo */
+    private static final long TIMEOUT_MILLIS = 30 * 60 * 1000L;
+    /** Eventos pendientes por suscriptor; una partida genera a lo sumo tres por movimiento */
+    static final int BUFFER_EVENTS = 64;
+    /** Emisores que quedan vivos sin trabajo; con más suscriptores enviando a la vez se crean más */
+    private static final int SENDER_THREADS = 4;
+
+    private final Map<String, List<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final ExecutorService senders;
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private final LongAdder events = new LongAdder();
+    private final LongAdder deliveries = new LongAdder();
+    private final LongAdder bytesSent = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder slowDropped = new LongAdder();
+
+    public GameEventStream() {
+        AtomicInteger counter = new AtomicInteger();
+        this.senders = new ThreadPoolExecutor(SENDER_THREADS, Integer.MAX_VALUE, 30, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "game-event-stream-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * Suscribe a la partida; el snapshot es lo primero que recibe. onClose corre una
+     * sola vez, cuando la suscripción termina por cualquier motivo.
+     */
+    public SseEmitter subscribe(GameEvent snapshot, Runnable onClose) {
+        String gameId = snapshot.getGameId();
+        SseEmitter emitter = new SseEmitter(TIMEOUT_MILLIS);
+        Subscriber subscriber = new Subscriber(gameId, emitter, onClose);
+        subscriber.buffer.add(new Message(snapshot));
+        // Dentro del compute: un close() que vacía la lista no la puede sacar del mapa entre medio
+        subscribers.compute(gameId, (id, list) -> {
+            List<Subscriber> targets = list != null ? list : new CopyOnWriteArrayList<>();
+            targets.add(subscriber);
+            return targets;
+        });
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+        subscriber.schedule();
+        return emitter;
+    }
+
+    /** Encola el evento para los suscriptores de su partida; si no hay ninguno, no hace nada */
+    public void publish(GameEvent event) {
+        List<Subscriber> targets = subscribers.get(event.getGameId());
+        if (targets == null) {
+            return;
+        }
+        events.increment();
+        Message message = new Message(event);
+        for (Subscriber subscriber : targets) {
+            if (subscriber.buffer.offer(message)) {
+                subscriber.schedule();
+            } else {
+                // No lee lo que le llega: se lo desconecta para no frenar a nadie
+                slowDropped.increment();
+                subscriber.close();
+            }
+        }
+    }
+
+    /** Suscriptores, eventos y bytes de datos enviados */
+    public Map<String, Object> getStatistics() {
+        long delivered = deliveries.sum();
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("games", subscribers.size());
+        stats.put("subscribers", subscribers.values().stream().mapToInt(List::size).sum());
+        stats.put("events", events.sum());
+        stats.put("deliveries", delivered);
+        stats.put("failures", failures.sum());
+        stats.put("slowSubscribersDropped", slowDropped.sum());
+        stats.put("averageEventBytes", delivered == 0 ? 0.0 : (double) bytesSent.sum() / delivered);
+        return stats;
+    }
+
+    /** Evento con su JSON, calculado una vez para todos los suscriptores */
+    private final class Message {
+        final GameEvent event;
+        private volatile String payload;
+
+        Message(GameEvent event) {
+            this.event = event;
+        }
+
+        String payload() throws JsonProcessingException {
+            String json = payload;
+            if (json == null) {
+                json = mapper.writeValueAsString(event.getData());
+                payload = json;
+            }
+            return json;
+        }
+    }
+
+    /** Una conexión: su buffer lo vacía un solo emisor a la vez, así que sale en orden */
+    private final class Subscriber {
+        final String gameId;
+        final SseEmitter emitter;
+        final Runnable onClose;
+        final ArrayBlockingQueue<Message> buffer = new ArrayBlockingQueue<>(BUFFER_EVENTS);
+        final AtomicBoolean scheduled = new AtomicBoolean();
+        final AtomicBoolean closed = new AtomicBoolean();
+
+        Subscriber(String gameId, SseEmitter emitter, Runnable onClose) {
+            this.gameId = gameId;
+            this.emitter = emitter;
+            this.onClose = onClose;
+        }
+
+        void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        /**
+         * Deja de recibir eventos. La conexión la cierra el emisor (quien publica no
+         * debe bloquear): en seguida si estaba libre, o al volver del send trabado.
+         */
+        void close() {
+            if (closed.compareAndSet(false, true)) {
+                subscribers.computeIfPresent(gameId, (id, list) -> {
+                    list.remove(this);
+                    return list.isEmpty() ? null : list;
+                });
+                buffer.clear();
+                onClose.run();
+                schedule();
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                if (closed.get()) {
+                    complete();
+                    return;
+                }
+                Message message = buffer.poll();
+                if (message == null) {
+                    scheduled.set(false);
+                    // Algo pudo llegar entre el poll y el set: si nadie más lo tomó, se sigue
+                    if ((buffer.isEmpty() && !closed.get()) || !scheduled.compareAndSet(false, true)) {
+                        return;
+                    }
+                    continue;
+                }
+                send(message);
+            }
+        }
+
+        private void send(Message message) {
+            try {
+                String payload = message.payload();
+                emitter.send(SseEmitter.event().name(message.event.getType()).data(payload));
+                deliveries.increment();
+                bytesSent.add(payload.length());
+                if (message.event.isFinal()) {
+                    close();
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Cliente desconectado (o evento que no se pudo serializar): se descarta sin frenar a los demás
+                failures.increment();
+                close();
+            }
+        }
+
+        private void complete() {
+            try {
+                emitter.complete();
+            } catch (IllegalStateException e) {
+                // Ya estaba cerrado
+            }
+        }
+    }
+}
@@ -25,10 +25,20 @@ import java.util.function.Predicate;
  */
 public class SimpleCatMovement extends CatMovementStrategy<HexPosition> {
     
-    private final Random random = new Random();
+    private final Random random;
     
     public SimpleCatMovement(GameBoard<HexPosition> board) {
+        this(board, new Random());
+    }
+    
+    /** Con semilla fija, para comparar estrategias de forma reproducible */
+    public SimpleCatMovement(GameBoard<HexPosition> board, long seed) {
+        this(board, new Random(seed));
+    }
+    
+    private SimpleCatMovement(GameBoard<HexPosition> board, Random random) {
         super(board);
+        this.random = random;
     }
     
     @Override
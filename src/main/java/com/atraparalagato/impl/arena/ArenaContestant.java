@@ -0,0 +1,68 @@
+package com.atraparalagato.impl.arena;
+
+import com.atraparalagato.base.strategy.CatMovementStrategy;
+import com.atraparalagato.example.strategy.SimpleCatMovement;
+import com.atraparalagato.impl.model.HexGameBoard;
+import com.atraparalagato.impl.model.HexPosition;
+import com.atraparalagato.impl.strategy.AStarCatMovement;
+import com.atraparalagato.impl.strategy.AlphaBetaCatMovement;
+import com.atraparalagato.impl.strategy.BFSCatMovement;
+import com.atraparalagato.impl.strategy.DistanceFieldCatMovement;
+import com.atraparalagato.impl.strategy.MonteCarloCatMovement;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Estrategia del gato inscrita en la arena: un nombre y una fábrica que recibe
+ * el tablero y una semilla. Las estrategias con búsqueda se inscriben en su
+ * variante reproducible (profundidad o simulaciones fijas, no tiempo), así dos
+ * corridas con la misma semilla juegan exactamente las mismas partidas.
+ */
+public final class ArenaContestant {
+
+    /** Fábrica de la estrategia para un movimiento */
+    @FunctionalInterface
+    public interface Factory {
+        CatMovementStrategy<HexPosition> create(HexGameBoard board, long seed);
+    }
+
+    /** Tope de tiempo que nunca se alcanza: la búsqueda de Monte Carlo termina por cantidad de simulaciones */
+    private static final long NO_TIME_LIMIT_MILLIS = 1_000_000_000L;
+
+    private final String name;
+    private final Factory factory;
+
+    public ArenaContestant(String name, Factory factory) {
+        this.name = name;
+        this.factory = factory;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public CatMovementStrategy<HexPosition> create(HexGameBoard board, long seed) {
+        return factory.create(board, seed);
+    }
+
+    /** Todas las estrategias del proyecto */
+    public static List<ArenaContestant> all() {
+        return List.of(
+                new ArenaContestant("simple", SimpleCatMovement::new),
+                new ArenaContestant("bfs", (board, seed) -> new BFSCatMovement(board)),
+                new ArenaContestant("astar", (board, seed) -> new AStarCatMovement(board)),
+                new ArenaContestant("distance-field", (board, seed) -> new DistanceFieldCatMovement(board)),
+                new ArenaContestant("alphabeta", (board, seed) -> AlphaBetaCatMovement.fixedDepth(board, 4)),
+                new ArenaContestant("mcts", (board, seed) -> new MonteCarloCatMovement(board, NO_TIME_LIMIT_MILLIS, 400, 1, seed)));
+    }
+
+    /** Por nombre (simple, bfs, astar, distance-field, alphabeta, mcts) */
+    public static ArenaContestant fromConfigName(String name) {
+        return all().stream()
+                .filter(contestant -> contestant.name.equalsIgnoreCase(name.trim()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Estrategia de gato desconocida: " + name
+                        + " (disponibles: " + Arrays.toString(all().stream().map(ArenaContestant::getName).toArray()) + ")"));
+    }
+}
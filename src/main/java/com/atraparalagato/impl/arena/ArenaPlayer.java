@@ -0,0 +1,94 @@
+package com.atraparalagato.impl.arena;
+
+import com.atraparalagato.impl.model.HexBoardTopology;
+import com.atraparalagato.impl.model.HexGameBoard;
+import com.atraparalagato.impl.strategy.MinCutHintEngine;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Jugador guionado de la arena: elige la celda del próximo muro.
+ */
+public final class ArenaPlayer {
+
+    /** Política del jugador: celda libre (índice del tablero) donde poner el muro */
+    @FunctionalInterface
+    public interface Policy {
+        int chooseWall(HexGameBoard board, int cat, SplittableRandom random);
+    }
+
+    private final String name;
+    private final Policy policy;
+
+    public ArenaPlayer(String name, Policy policy) {
+        this.name = name;
+        this.policy = policy;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int chooseWall(HexGameBoard board, int cat, SplittableRandom random) {
+        return policy.chooseWall(board, cat, random);
+    }
+
+    /** Muros al azar en cualquier celda libre */
+    public static ArenaPlayer random() {
+        return new ArenaPlayer("random", ArenaPlayer::randomFreeCell);
+    }
+
+    /** Bloquea el vecino del gato más cercano al borde (empates al azar) */
+    public static ArenaPlayer greedyAdjacent() {
+        return new ArenaPlayer("greedy-adjacent", (board, cat, random) -> {
+            HexBoardTopology topology = board.getTopology();
+            int best = -1;
+            int bestDistance = Integer.MAX_VALUE;
+            int ties = 0;
+            for (int k = topology.neighborsStart(cat); k < topology.neighborsEnd(cat); k++) {
+                int cell = topology.neighbor(k);
+                if (board.isBlockedIndex(cell)) continue;
+                int distance = board.getEscapeField().distanceAt(cell);
+                if (distance < bestDistance) {
+                    best = cell;
+                    bestDistance = distance;
+                    ties = 1;
+                } else if (distance == bestDistance && random.nextInt(++ties) == 0) {
+                    best = cell; // muestreo de reservorio entre los empatados
+                }
+            }
+            return best >= 0 ? best : randomFreeCell(board, cat, random);
+        });
+    }
+
+    /** La sugerencia de corte mínimo que se le da al jugador humano */
+    public static ArenaPlayer minCut() {
+        return new ArenaPlayer("min-cut", (board, cat, random) -> {
+            int wall = new MinCutHintEngine(board).suggestWall(cat);
+            return wall >= 0 ? wall : randomFreeCell(board, cat, random);
+        });
+    }
+
+    public static List<ArenaPlayer> all() {
+        return List.of(random(), greedyAdjacent(), minCut());
+    }
+
+    /** Por nombre (random, greedy-adjacent, min-cut) */
+    public static ArenaPlayer fromConfigName(String name) {
+        return all().stream()
+                .filter(player -> player.name.equalsIgnoreCase(name.trim()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Jugador desconocido: " + name));
+    }
+
+    private static int randomFreeCell(HexGameBoard board, int cat, SplittableRandom random) {
+        int cells = board.getCellCount();
+        int offset = random.nextInt(cells);
+        for (int i = 0; i < cells; i++) {
+            int cell = (offset + i) % cells;
+            if (cell != cat && !board.isBlockedIndex(cell)) return cell;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,103 @@
+package com.atraparalagato.impl.arena;
+
+import java.util.Arrays;
+
+/**
+ * Resultado de un cruce de la arena (estrategia del gato, jugador, radio):
+ * fuerza, con intervalo de confianza, y costo por movimiento del gato.
+ */
+public final class ArenaResult {
+
+    private static final double Z_95 = 1.959963984540054;
+
+    private final String contestant;
+    private final String player;
+    private final int boardSize;
+    private final int games;
+    private final int catWins;
+    private final long walls;
+    private final long[] thinkNanos;
+    private final long allocatedBytes;
+
+    ArenaResult(String contestant, String player, int boardSize, int games, int catWins, long walls,
+                long[] thinkNanos, long allocatedBytes) {
+        this.contestant = contestant;
+        this.player = player;
+        this.boardSize = boardSize;
+        this.games = games;
+        this.catWins = catWins;
+        this.walls = walls;
+        this.thinkNanos = thinkNanos.clone();
+        Arrays.sort(this.thinkNanos);
+        this.allocatedBytes = allocatedBytes;
+    }
+
+    public String getContestant() {
+        return contestant;
+    }
+
+    public String getPlayer() {
+        return player;
+    }
+
+    public int getBoardSize() {
+        return boardSize;
+    }
+
+    public int getGames() {
+        return games;
+    }
+
+    public int getCatWins() {
+        return catWins;
+    }
+
+    public double getCatWinRate() {
+        return games == 0 ? 0.0 : (double) catWins / games;
+    }
+
+    /** Intervalo de Wilson al 95% para la tasa de victorias del gato: {inferior, superior} */
+    public double[] getCatWinRateInterval() {
+        return wilson(catWins, games, Z_95);
+    }
+
+    static double[] wilson(int successes, int trials, double z) {
+        if (trials == 0) {
+            return new double[] {0.0, 1.0};
+        }
+        double p = (double) successes / trials;
+        double z2 = z * z;
+        double center = (p + z2 / (2.0 * trials)) / (1 + z2 / trials);
+        double margin = z * Math.sqrt(p * (1 - p) / trials + z2 / (4.0 * trials * trials)) / (1 + z2 / trials);
+        return new double[] {Math.max(0.0, center - margin), Math.min(1.0, center + margin)};
+    }
+
+    public double getAverageWalls() {
+        return games == 0 ? 0.0 : (double) walls / games;
+    }
+
+    /** Movimientos del gato medidos */
+    public int getCatMoves() {
+        return thinkNanos.length;
+    }
+
+    public double getAverageThinkMicros() {
+        return thinkNanos.length == 0 ? 0.0 : Arrays.stream(thinkNanos).average().orElse(0) / 1_000.0;
+    }
+
+    public double getThinkMicrosPercentile(double fraction) {
+        if (thinkNanos.length == 0) {
+            return 0.0;
+        }
+        int index = Math.min(thinkNanos.length - 1, (int) Math.ceil(fraction * thinkNanos.length) - 1);
+        return thinkNanos[Math.max(0, index)] / 1_000.0;
+    }
+
+    /** Bytes asignados por movimiento del gato en el hilo que lo calculó; -1 si la JVM no lo mide */
+    public double getAllocatedBytesPerMove() {
+        if (allocatedBytes < 0) {
+            return -1;
+        }
+        return thinkNanos.length == 0 ? 0.0 : (double) allocatedBytes / thinkNanos.length;
+    }
+}
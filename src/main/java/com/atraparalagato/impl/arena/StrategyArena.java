@@ -0,0 +1,249 @@
+package com.atraparalagato.impl.arena;
+
+import com.atraparalagato.impl.model.HexGameBoard;
+import com.atraparalagato.impl.model.HexGameState;
+import com.atraparalagato.impl.model.HexPosition;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Torneo todos contra todos entre estrategias del gato y jugadores guionados,
+ * en varios tamaños de tablero y en paralelo.
+ *
+ * Cada partida arranca con una fracción de celdas tapiadas al azar, como el
+ * juego original (sin ellas el gato gana casi siempre y los jugadores
+ * deterministas repetirían la misma partida), y tiene su propia semilla, derivada
+ * de la semilla del torneo, el jugador, el radio y el número de partida: todas
+ * las estrategias enfrentan las mismas aperturas, y el resultado no depende del
+ * orden ni del hilo en que se jueguen. Con la misma semilla, las victorias son
+ * idénticas entre corridas; los tiempos y la memoria, claro, no. Antes de medir
+ * se juegan unas partidas de calentamiento por cruce, para no medir al JIT.
+ *
+ * Ejecutar con:
+ *   java -cp target/classes com.atraparalagato.impl.arena.StrategyArena [clave=valor ...]
+ * claves: games (200), seed (1), sizes (5,9,15), cats (todas), players (todos),
+ *        opening (0.12, fracción de celdas tapiadas al empezar), threads (núcleos)
+ */
+public final class StrategyArena {
+
+    static final double DEFAULT_OPENING_WALLS = 0.12;
+    private static final int WARMUP_GAMES = 5;
+
+    private final List<ArenaContestant> contestants;
+    private final List<ArenaPlayer> players;
+    private final int[] sizes;
+    private final int gamesPerPairing;
+    private final double openingWalls;
+    private final long seed;
+    private final int parallelism;
+
+    /**
+     * @param openingWalls fracción de celdas tapiadas al azar antes de la primera jugada
+     */
+    public StrategyArena(List<ArenaContestant> contestants, List<ArenaPlayer> players, int[] sizes,
+                         int gamesPerPairing, double openingWalls, long seed, int parallelism) {
+        if (contestants.isEmpty() || players.isEmpty() || sizes.length == 0) {
+            throw new IllegalArgumentException("Hacen falta estrategias, jugadores y tamaños de tablero");
+        }
+        if (gamesPerPairing <= 0 || parallelism <= 0) {
+            throw new IllegalArgumentException("Las partidas por cruce y el paralelismo deben ser positivos");
+        }
+        if (openingWalls < 0 || openingWalls >= 0.5) {
+            throw new IllegalArgumentException("La fracción de muros iniciales debe estar en [0, 0.5): " + openingWalls);
+        }
+        this.contestants = List.copyOf(contestants);
+        this.players = List.copyOf(players);
+        this.sizes = sizes.clone();
+        this.gamesPerPairing = gamesPerPairing;
+        this.openingWalls = openingWalls;
+        this.seed = seed;
+        this.parallelism = parallelism;
+    }
+
+    public static void main(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int equals = arg.indexOf('=');
+            if (equals < 0) {
+                throw new IllegalArgumentException("Se esperaba clave=valor: " + arg);
+            }
+            options.put(arg.substring(0, equals), arg.substring(equals + 1));
+        }
+        List<ArenaContestant> cats = options.containsKey("cats")
+                ? Arrays.stream(options.get("cats").split(",")).map(ArenaContestant::fromConfigName).toList()
+                : ArenaContestant.all();
+        List<ArenaPlayer> players = options.containsKey("players")
+                ? Arrays.stream(options.get("players").split(",")).map(ArenaPlayer::fromConfigName).toList()
+                : ArenaPlayer.all();
+        int[] sizes = Arrays.stream(options.getOrDefault("sizes", "5,9,15").split(","))
+                .mapToInt(Integer::parseInt).toArray();
+        StrategyArena arena = new StrategyArena(cats, players, sizes,
+                Integer.parseInt(options.getOrDefault("games", "200")),
+                Double.parseDouble(options.getOrDefault("opening", String.valueOf(DEFAULT_OPENING_WALLS))),
+                Long.parseLong(options.getOrDefault("seed", "1")),
+                Integer.parseInt(options.getOrDefault("threads", String.valueOf(Runtime.getRuntime().availableProcessors()))));
+        System.out.print(report(arena.run()));
+    }
+
+    /** Juega todos los cruces; un resultado por (estrategia, jugador, radio), en ese orden */
+    public List<ArenaResult> run() {
+        int pairings = contestants.size() * players.size() * sizes.length;
+        int total = pairings * gamesPerPairing;
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        GameRecord[] records;
+        try {
+            int warmup = Math.min(WARMUP_GAMES, gamesPerPairing);
+            pool.submit(() -> IntStream.range(0, pairings * warmup).parallel()
+                    .forEach(task -> play(task / warmup * gamesPerPairing + task % warmup))).join();
+            records = pool.submit(() -> IntStream.range(0, total).parallel()
+                    .mapToObj(this::play)
+                    .toArray(GameRecord[]::new)).join();
+        } finally {
+            pool.shutdown();
+        }
+
+        List<ArenaResult> results = new ArrayList<>(pairings);
+        for (int pairing = 0; pairing < pairings; pairing++) {
+            int catWins = 0;
+            long walls = 0;
+            long allocated = 0;
+            int moves = 0;
+            for (int game = 0; game < gamesPerPairing; game++) {
+                GameRecord record = records[pairing * gamesPerPairing + game];
+                if (record.catWon) catWins++;
+                walls += record.walls;
+                allocated = allocated < 0 || record.allocatedBytes < 0 ? -1 : allocated + record.allocatedBytes;
+                moves += record.thinkNanos.length;
+            }
+            long[] think = new long[moves];
+            int offset = 0;
+            for (int game = 0; game < gamesPerPairing; game++) {
+                long[] samples = records[pairing * gamesPerPairing + game].thinkNanos;
+                System.arraycopy(samples, 0, think, offset, samples.length);
+                offset += samples.length;
+            }
+            results.add(new ArenaResult(contestantOf(pairing).getName(), playerOf(pairing).getName(), sizeOf(pairing),
+                    gamesPerPairing, catWins, walls, think, allocated));
+        }
+        return results;
+    }
+
+    private ArenaContestant contestantOf(int pairing) {
+        return contestants.get(pairing / (players.size() * sizes.length));
+    }
+
+    private ArenaPlayer playerOf(int pairing) {
+        return players.get(pairing / sizes.length % players.size());
+    }
+
+    private int sizeOf(int pairing) {
+        return sizes[pairing % sizes.length];
+    }
+
+    /** Semilla de la partida: no depende de la estrategia, así todas juegan las mismas aperturas */
+    long gameSeed(String player, int size, int game) {
+        long h = seed;
+        h = h * 0x9E3779B97F4A7C15L + player.hashCode();
+        h = h * 0x9E3779B97F4A7C15L + size;
+        h = h * 0x9E3779B97F4A7C15L + game;
+        return new SplittableRandom(h).nextLong();
+    }
+
+    private GameRecord play(int task) {
+        int pairing = task / gamesPerPairing;
+        ArenaContestant contestant = contestantOf(pairing);
+        ArenaPlayer player = playerOf(pairing);
+        int size = sizeOf(pairing);
+        SplittableRandom random = new SplittableRandom(gameSeed(player.getName(), size, task % gamesPerPairing));
+
+        HexGameState state = new HexGameState("arena-" + task, size);
+        HexGameBoard board = state.getGameBoard();
+        int center = board.indexOf(0, 0);
+        int opening = (int) Math.round(openingWalls * board.getCellCount());
+        for (int placed = 0; placed < opening; ) {
+            int cell = random.nextInt(board.getCellCount());
+            if (cell != center && !board.isBlockedIndex(cell)) {
+                board.blockTile(board.positionAt(cell));
+                placed++;
+            }
+        }
+
+        long[] think = new long[board.getCellCount()];
+        int moves = 0;
+        long allocated = 0;
+        while (!state.isGameFinished()) {
+            HexPosition cat = state.getCatPosition();
+            int wall = player.chooseWall(board, board.indexOf(cat.getQ(), cat.getR()), random);
+            if (wall < 0 || !state.executeMove(board.positionAt(wall))) {
+                throw new IllegalStateException(player.getName() + " eligió un muro inválido: " + wall);
+            }
+            if (state.isGameFinished()) break;
+
+            long strategySeed = random.nextLong();
+            long allocatedBefore = allocatedBytes();
+            long begin = System.nanoTime();
+            Optional<HexPosition> move = contestant.create(board, strategySeed).findBestMove(cat, null);
+            think[moves++] = System.nanoTime() - begin;
+            long allocatedAfter = allocatedBytes();
+            allocated = allocated < 0 || allocatedBefore < 0 ? -1 : allocated + allocatedAfter - allocatedBefore;
+
+            if (move.isEmpty()) break; // el gato se rinde: cuenta como derrota
+            HexPosition next = move.get();
+            if (!next.isAdjacentTo(cat) || board.isBlocked(next)) {
+                throw new IllegalStateException(contestant.getName() + " movió el gato a una celda inválida: " + next);
+            }
+            state.setCatPosition(next);
+        }
+        boolean catWon = state.isGameFinished() && !state.hasPlayerWon();
+        return new GameRecord(catWon, state.getMoveCount(), Arrays.copyOf(think, moves), allocated);
+    }
+
+    /** Bytes asignados por el hilo actual, o -1 si la JVM no lo mide */
+    private static long allocatedBytes() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads
+                && threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled()) {
+            return threads.getCurrentThreadAllocatedBytes();
+        }
+        return -1;
+    }
+
+    /** Tabla de resultados para la salida de CI */
+    public static String report(List<ArenaResult> results) {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format(Locale.ROOT, "%-15s %-16s %5s %8s %9s %17s %8s %10s %10s %12s%n",
+                "gato", "jugador", "radio", "partidas", "gana gato", "IC 95%", "muros", "µs prom", "µs p99", "bytes/mov"));
+        for (ArenaResult result : results) {
+            double[] interval = result.getCatWinRateInterval();
+            out.append(String.format(Locale.ROOT, "%-15s %-16s %5d %8d %8.1f%% %7.1f%% - %5.1f%% %8.2f %10.1f %10.1f %12.0f%n",
+                    result.getContestant(), result.getPlayer(), result.getBoardSize(), result.getGames(),
+                    100 * result.getCatWinRate(), 100 * interval[0], 100 * interval[1], result.getAverageWalls(),
+                    result.getAverageThinkMicros(), result.getThinkMicrosPercentile(0.99),
+                    result.getAllocatedBytesPerMove()));
+        }
+        return out.toString();
+    }
+
+    private static final class GameRecord {
+        final boolean catWon;
+        final int walls;
+        final long[] thinkNanos;
+        final long allocatedBytes;
+
+        GameRecord(boolean catWon, int walls, long[] thinkNanos, long allocatedBytes) {
+            this.catWon = catWon;
+            this.walls = walls;
+            this.thinkNanos = thinkNanos;
+            this.allocatedBytes = allocatedBytes;
+        }
+    }
+}
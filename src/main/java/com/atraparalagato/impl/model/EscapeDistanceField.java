@@ -0,0 +1,259 @@
+package com.atraparalagato.impl.model;
+
+import java.util.Arrays;
+
+/**
+ * Campo de distancias de escape: para cada celda, cuántos pasos le faltan
+ * al gato para llegar a una celda libre del borde.
+ *
+ * Se calcula con una única BFS multi-origen que parte de todas las celdas
+ * libres del borde hacia adentro. Con el campo ya calculado:
+ * - el mejor movimiento del gato es el vecino con menor distancia,
+ * - saber si el gato puede escapar es una sola consulta.
+ *
+ * El tablero mantiene el campo al día de forma incremental: cada muro nuevo
+ * sólo repara las celdas cuya distancia dependía de él (ver {@link #onCellBlocked}).
+ *
+ * Las celdas bloqueadas o encerradas quedan con {@link #UNREACHABLE}.
+ */
+public final class EscapeDistanceField {
+
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    private static final ThreadLocal<RepairScratch> SCRATCH = ThreadLocal.withInitial(RepairScratch::new);
+
+    private final HexGameBoard board;
+    private final HexBoardTopology topology;
+    private final int[] distance;
+    private int lastRepairSize;
+
+    EscapeDistanceField(HexGameBoard board) {
+        this.board = board;
+        this.topology = board.getTopology();
+        this.distance = new int[topology.getCellCount()];
+        recompute();
+    }
+
+    /** Recalcula todo el campo en una pasada lineal sobre el tablero */
+    void recompute() {
+        int cellCount = topology.getCellCount();
+        int[] queue = SCRATCH.get().ensureCapacity(cellCount).queue;
+        int head = 0, tail = 0;
+        for (int cell = 0; cell < cellCount; cell++) {
+            if (topology.isBorder(cell) && !board.isBlockedIndex(cell)) {
+                distance[cell] = 0;
+                queue[tail++] = cell;
+            } else {
+                distance[cell] = UNREACHABLE;
+            }
+        }
+        while (head < tail) {
+            int curr = queue[head++];
+            int next = distance[curr] + 1;
+            for (int k = topology.neighborsStart(curr); k < topology.neighborsEnd(curr); k++) {
+                int n = topology.neighbor(k);
+                if (distance[n] == UNREACHABLE && !board.isBlockedIndex(n)) {
+                    distance[n] = next;
+                    queue[tail++] = n;
+                }
+            }
+        }
+        lastRepairSize = cellCount;
+    }
+
+    /**
+     * Repara el campo tras bloquear una celda. Con muros sólo pueden crecer
+     * las distancias, así que se hace en dos fases:
+     * 1. Se buscan, en orden de distancia, las celdas "huérfanas": las que ya no
+     *    tienen un vecino no huérfano a distancia d - 1.
+     * 2. Se recalculan sólo las huérfanas, sembrando cada una con su mejor vecino
+     *    intacto y propagando con una BFS de dos colas (semillas ordenadas + FIFO).
+     * El costo es proporcional al número de celdas afectadas, no al tablero.
+     */
+    void onCellBlocked(int blockedCell) {
+        int blockedDistance = distance[blockedCell];
+        distance[blockedCell] = UNREACHABLE;
+        lastRepairSize = 0;
+        if (blockedDistance == UNREACHABLE) {
+            return;
+        }
+
+        RepairScratch scratch = SCRATCH.get().ensureCapacity(topology.getCellCount());
+        int[] orphanStamp = scratch.stamp;
+        int[] queuedStamp = scratch.queuedStamp;
+        int[] orphans = scratch.orphans;
+        int[] queue = scratch.queue;
+        int generation = scratch.nextGeneration();
+
+        // Fase 1: celdas que perdieron todo su soporte hacia el borde
+        int head = 0, tail = 0, orphanCount = 0;
+        for (int k = topology.neighborsStart(blockedCell); k < topology.neighborsEnd(blockedCell); k++) {
+            int n = topology.neighbor(k);
+            if (distance[n] == blockedDistance + 1) {
+                queuedStamp[n] = generation;
+                queue[tail++] = n;
+            }
+        }
+        while (head < tail) {
+            int v = queue[head++];
+            if (hasSupport(v, orphanStamp, generation)) {
+                continue;
+            }
+            orphanStamp[v] = generation;
+            orphans[orphanCount++] = v;
+            for (int k = topology.neighborsStart(v); k < topology.neighborsEnd(v); k++) {
+                int n = topology.neighbor(k);
+                if (distance[n] == distance[v] + 1 && queuedStamp[n] != generation) {
+                    queuedStamp[n] = generation;
+                    queue[tail++] = n;
+                }
+            }
+        }
+        lastRepairSize = orphanCount;
+        if (orphanCount == 0) {
+            return;
+        }
+
+        // Fase 2: semillas = mejor vecino no huérfano de cada huérfana
+        long[] seeds = scratch.seeds;
+        int seedCount = 0;
+        for (int i = 0; i < orphanCount; i++) {
+            int v = orphans[i];
+            int best = UNREACHABLE;
+            for (int k = topology.neighborsStart(v); k < topology.neighborsEnd(v); k++) {
+                int n = topology.neighbor(k);
+                if (orphanStamp[n] != generation && distance[n] < best) {
+                    best = distance[n];
+                }
+            }
+            if (best != UNREACHABLE) {
+                seeds[seedCount++] = ((long) (best + 1) << 32) | v;
+            }
+        }
+        for (int i = 0; i < orphanCount; i++) {
+            distance[orphans[i]] = UNREACHABLE;
+        }
+        Arrays.sort(seeds, 0, seedCount);
+
+        head = 0;
+        tail = 0;
+        int nextSeed = 0;
+        while (nextSeed < seedCount || head < tail) {
+            int v;
+            if (nextSeed < seedCount
+                    && (head == tail || (int) (seeds[nextSeed] >>> 32) <= distance[queue[head]])) {
+                long seed = seeds[nextSeed++];
+                v = (int) seed;
+                int d = (int) (seed >>> 32);
+                if (d >= distance[v]) continue;
+                distance[v] = d;
+            } else {
+                v = queue[head++];
+            }
+            int next = distance[v] + 1;
+            for (int k = topology.neighborsStart(v); k < topology.neighborsEnd(v); k++) {
+                int n = topology.neighbor(k);
+                if (orphanStamp[n] == generation && next < distance[n]) {
+                    distance[n] = next;
+                    queue[tail++] = n;
+                }
+            }
+        }
+    }
+
+    /** ¿Tiene la celda algún vecino no huérfano exactamente un paso más cerca del borde? */
+    private boolean hasSupport(int cell, int[] orphanStamp, int generation) {
+        int wanted = distance[cell] - 1;
+        for (int k = topology.neighborsStart(cell); k < topology.neighborsEnd(cell); k++) {
+            int n = topology.neighbor(k);
+            if (distance[n] == wanted && orphanStamp[n] != generation) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Pasos hasta el borde desde la celda, o UNREACHABLE */
+    public int distanceAt(int cell) {
+        return distance[cell];
+    }
+
+    public int distanceAt(HexPosition position) {
+        int cell = topology.indexOf(position.getQ(), position.getR());
+        return cell < 0 ? UNREACHABLE : distance[cell];
+    }
+
+    public boolean canEscapeFrom(int cell) {
+        return distance[cell] != UNREACHABLE;
+    }
+
+    /**
+     * Vecino libre con menor distancia de escape (empates por orden de dirección),
+     * o -1 si desde la celda no se puede escapar.
+     */
+    public int bestNeighbor(int cell) {
+        int best = -1;
+        int bestDistance = UNREACHABLE;
+        for (int k = topology.neighborsStart(cell); k < topology.neighborsEnd(cell); k++) {
+            int n = topology.neighbor(k);
+            if (distance[n] < bestDistance) {
+                best = n;
+                bestDistance = distance[n];
+            }
+        }
+        return best;
+    }
+
+    /** Cuántos vecinos libres acercan al gato al borde: rutas de escape distintas desde la celda */
+    public int countBestNeighbors(int cell) {
+        int d = distance[cell];
+        if (d == UNREACHABLE || d == 0) {
+            return 0;
+        }
+        int count = 0;
+        for (int k = topology.neighborsStart(cell); k < topology.neighborsEnd(cell); k++) {
+            if (distance[topology.neighbor(k)] == d - 1) count++;
+        }
+        return count;
+    }
+
+    /** Celdas tocadas por la última actualización (todo el tablero si fue un recálculo) */
+    public int getLastRepairSize() {
+        return lastRepairSize;
+    }
+
+    public HexBoardTopology getTopology() {
+        return topology;
+    }
+
+    /** Arreglos de trabajo por hilo, compartidos por todos los campos de ese hilo */
+    private static final class RepairScratch {
+        int[] queue = new int[0];
+        int[] orphans = new int[0];
+        int[] stamp = new int[0];
+        int[] queuedStamp = new int[0];
+        long[] seeds = new long[0];
+        int generation;
+
+        RepairScratch ensureCapacity(int cellCount) {
+            if (queue.length < cellCount) {
+                queue = new int[cellCount];
+                orphans = new int[cellCount];
+                stamp = new int[cellCount];
+                queuedStamp = new int[cellCount];
+                seeds = new long[cellCount];
+                generation = 0;
+            }
+            return this;
+        }
+
+        int nextGeneration() {
+            if (++generation == Integer.MAX_VALUE) {
+                Arrays.fill(stamp, 0);
+                Arrays.fill(queuedStamp, 0);
+                generation = 1;
+            }
+            return generation;
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.atraparalagato.impl.model;
+
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Topología inmutable de un tablero hexagonal de radio dado.
+ *
+ * Se calcula una vez por tamaño y se comparte entre todas las partidas de ese
+ * tamaño mientras alguna la use: la caché sólo la referencia débilmente, así
+ * que los tamaños que ya nadie juega no ocupan memoria. Guarda, por índice denso de celda:
+ * - las coordenadas axiales (q, r),
+ * - la lista de vecinos en formato CSR (offsets + destinos),
+ * - si la celda está en el borde y su distancia al borde.
+ *
+ * Los vecinos se listan en el orden de {@link #DIRECTIONS}, el mismo que usa
+ * getAdjacentPositions, para que los recorridos sean deterministas.
+ */
+public final class HexBoardTopology {
+
+    /** Direcciones axiales de los 6 vecinos, en el orden histórico del tablero */
+    public static final int[][] DIRECTIONS = {{1,0},{1,-1},{0,-1},{-1,0},{-1,1},{0,1}};
+
+    /** Simetrías del hexágono alrededor del centro: 6 rotaciones y 6 reflexiones */
+    public static final int SYMMETRY_COUNT = 12;
+
+    private static final Map<Integer, WeakReference<HexBoardTopology>> CACHE = new ConcurrentHashMap<>();
+
+    private final int size;
+    private final int cellCount;
+    private final int[] columnOffset;
+    private final int[] cellQ;
+    private final int[] cellR;
+    private final int[] neighborOffsets;
+    private final int[] neighborTargets;
+    private final long[] border;
+    private final int[] borderDistance;
+
+    /** Devuelve la topología compartida para el radio indicado */
+    public static HexBoardTopology forSize(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("El radio del tablero no puede ser negativo: " + size);
+        }
+        WeakReference<HexBoardTopology> cached = CACHE.get(size);
+        HexBoardTopology topology = cached == null ? null : cached.get();
+        if (topology != null) {
+            return topology;
+        }
+        HexBoardTopology[] result = new HexBoardTopology[1];
+        CACHE.compute(size, (key, previous) -> {
+            result[0] = previous == null ? null : previous.get();
+            if (result[0] == null) {
+                result[0] = new HexBoardTopology(key);
+                return new WeakReference<>(result[0]);
+            }
+            return previous;
+        });
+        return result[0];
+    }
+
+    private HexBoardTopology(int size) {
+        this.size = size;
+        this.columnOffset = new int[2 * size + 2];
+        for (int q = -size; q <= size; q++) {
+            columnOffset[q + size + 1] = columnOffset[q + size] + (rMax(q) - rMin(q) + 1);
+        }
+        this.cellCount = columnOffset[2 * size + 1];
+        this.cellQ = new int[cellCount];
+        this.cellR = new int[cellCount];
+        this.border = new long[(cellCount + 63) >>> 6];
+        this.borderDistance = new int[cellCount];
+        this.neighborOffsets = new int[cellCount + 1];
+
+        int[] targets = new int[cellCount * DIRECTIONS.length];
+        int edges = 0;
+        int index = 0;
+        for (int q = -size; q <= size; q++) {
+            for (int r = rMin(q); r <= rMax(q); r++, index++) {
+                cellQ[index] = q;
+                cellR[index] = r;
+                int s = -q - r;
+                borderDistance[index] = size - Math.max(Math.abs(q), Math.max(Math.abs(r), Math.abs(s)));
+                if (borderDistance[index] == 0) {
+                    border[index >>> 6] |= 1L << index;
+                }
+                neighborOffsets[index] = edges;
+                for (int[] d : DIRECTIONS) {
+                    int n = indexOf(q + d[0], r + d[1]);
+                    if (n >= 0) targets[edges++] = n;
+                }
+            }
+        }
+        neighborOffsets[cellCount] = edges;
+        this.neighborTargets = Arrays.copyOf(targets, edges);
+    }
+
+    private int rMin(int q) {
+        return Math.max(-size, -q - size);
+    }
+
+    private int rMax(int q) {
+        return Math.min(size, -q + size);
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    /** Número de celdas del tablero: 3n² + 3n + 1 */
+    public int getCellCount() {
+        return cellCount;
+    }
+
+    public boolean isInBounds(int q, int r) {
+        int s = -q - r;
+        return Math.abs(q) <= size && Math.abs(r) <= size && Math.abs(s) <= size;
+    }
+
+    /** Índice denso de (q, r), o -1 si la celda está fuera del tablero */
+    public int indexOf(int q, int r) {
+        if (!isInBounds(q, r)) {
+            return -1;
+        }
+        return columnOffset[q + size] + r - rMin(q);
+    }
+
+    public int getQ(int index) {
+        return cellQ[index];
+    }
+
+    public int getR(int index) {
+        return cellR[index];
+    }
+
+    /** Materializa la posición de una celda (única operación que crea objetos) */
+    public HexPosition positionAt(int index) {
+        return new HexPosition(cellQ[index], cellR[index]);
+    }
+
+    /** Primer elemento de la lista de vecinos de la celda (incluido) */
+    public int neighborsStart(int index) {
+        return neighborOffsets[index];
+    }
+
+    /** Fin de la lista de vecinos de la celda (excluido) */
+    public int neighborsEnd(int index) {
+        return neighborOffsets[index + 1];
+    }
+
+    /** Celda vecina en la posición k de la lista CSR */
+    public int neighbor(int k) {
+        return neighborTargets[k];
+    }
+
+    public boolean isBorder(int index) {
+        return (border[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /** Distancia hexagonal al borde ignorando muros: size - max(|q|,|r|,|s|) */
+    public int distanceToBorder(int index) {
+        return borderDistance[index];
+    }
+
+    /**
+     * Imagen de la celda por la simetría g (0 = identidad).
+     * g = k para la rotación de k·60°, g = 6 + k para reflejar (intercambiar r y s)
+     * y luego rotar k·60°. Se calcula en el momento para no guardar tablas por tamaño.
+     */
+    public int transform(int g, int index) {
+        int q = cellQ[index];
+        int r = cellR[index];
+        int s = -q - r;
+        if (g >= 6) {
+            int t = r;
+            r = s;
+            s = t;
+        }
+        for (int k = g % 6; k > 0; k--) {
+            int t = q;
+            q = -r;
+            r = -s;
+            s = -t;
+        }
+        return indexOf(q, r);
+    }
+
+    /** Simetría que deshace g: rotación opuesta, y las reflexiones son su propia inversa */
+    public static int inverseSymmetry(int g) {
+        return g < 6 ? (6 - g) % 6 : g;
+    }
+}
@@ -4,35 +4,86 @@ import com.atraparalagato.base.model.GameBoard;
 import java.util.*;
 import java.util.function.Predicate;
 
+/**
+ * Tablero hexagonal con los muros guardados en un bitset.
+ *
+ * Cada celda dentro del radio recibe un índice denso (columna q por columna q),
+ * de modo que consultar o bloquear una celda es una operación de bits sin
+ * hashing ni objetos intermedios. La geometría (índices, vecinos, borde) vive
+ * en un {@link HexBoardTopology} compartido por todos los tableros del mismo tamaño.
+ */
 public class HexGameBoard extends GameBoard<HexPosition> {
 
+    /** Direcciones axiales de los 6 vecinos, en el orden histórico del tablero */
+    public static final int[][] DIRECTIONS = HexBoardTopology.DIRECTIONS;
+
+    private final HexBoardTopology topology;
+    private final ZobristKeys zobrist;
+    private final long[] blocked;
+    private int blockedCount;
+    private final long[] wallHashes = new long[HexBoardTopology.SYMMETRY_COUNT];
+    private int modCount;
+    private EscapeDistanceField escapeField;
+    private int escapeFieldVersion;
+
     public HexGameBoard(int size) {
         super(size);
+        this.topology = HexBoardTopology.forSize(size);
+        this.zobrist = ZobristKeys.forSize(size);
+        this.blocked = new long[(topology.getCellCount() + 63) >>> 6];
+    }
+
+    /** Copia independiente con los mismos muros; el campo de escape se calcula en la copia cuando se pida */
+    public HexGameBoard copy() {
+        HexGameBoard copy = new HexGameBoard(size);
+        System.arraycopy(blocked, 0, copy.blocked, 0, blocked.length);
+        System.arraycopy(wallHashes, 0, copy.wallHashes, 0, wallHashes.length);
+        copy.blockedCount = blockedCount;
+        return copy;
     }
 
-    /** Inicialmente no hay muros */
+    /** Vista de solo lectura sobre el bitset: getBlockedPositions() sigue funcionando */
     @Override
     protected Set<HexPosition> initializeBlockedPositions() {
-        return new HashSet<>();
+        return new BlockedPositionsView();
     }
 
     /** Comprueba que la posición esté dentro del “radio” del tablero */
     @Override
     public boolean isPositionInBounds(HexPosition pos) {
-        int q = pos.getQ(), r = pos.getR(), s = -q - r;
-        return Math.abs(q) <= size && Math.abs(r) <= size && Math.abs(s) <= size;
+        return isInBounds(pos.getQ(), pos.getR());
     }
 
     /** Un movimiento válido está dentro de bounds y no es un muro */
     @Override
     protected boolean isValidMove(HexPosition pos) {
-        return isPositionInBounds(pos) && !isBlocked(pos);
+        int index = indexOf(pos.getQ(), pos.getR());
+        return index >= 0 && !isBlockedIndex(index);
     }
 
-    /** Cuando el jugador coloca una pared, se agrega aquí */
+    /**
+     * Cuando el jugador coloca una pared, se marca su bit.
+     * Si el campo de escape ya existe y estaba al día, se repara sólo la zona afectada.
+     */
     @Override
     protected void executeMove(HexPosition pos) {
-        blockedPositions.add(pos);
+        int index = topology.indexOf(pos.getQ(), pos.getR());
+        if (index < 0) {
+            throw new IllegalArgumentException("Posición fuera del tablero: " + pos);
+        }
+        long mask = 1L << index;
+        if ((blocked[index >>> 6] & mask) == 0) {
+            blocked[index >>> 6] |= mask;
+            blockedCount++;
+            for (int g = 0; g < wallHashes.length; g++) {
+                wallHashes[g] ^= zobrist.wallKey(topology.transform(g, index));
+            }
+            modCount++;
+            if (escapeField != null && escapeFieldVersion == modCount - 1) {
+                escapeField.onCellBlocked(index);
+                escapeFieldVersion = modCount;
+            }
+        }
     }
 
     /** Permite filtrar cualquier posición del tablero */
@@ -52,23 +103,62 @@ public class HexGameBoard extends GameBoard<HexPosition> {
         return result;
     }
 
-    /** Vecinos según tus direcciones */
+    /** Vecinos según la tabla de adyacencia compartida */
     @Override
     public List<HexPosition> getAdjacentPositions(HexPosition position) {
-        int[][] dirs = {{1,0},{1,-1},{0,-1},{-1,0},{-1,1},{0,1}};
+        int index = topology.indexOf(position.getQ(), position.getR());
+        if (index < 0) {
+            return adjacentOutOfBounds(position);
+        }
+        List<HexPosition> adj = new ArrayList<>(topology.neighborsEnd(index) - topology.neighborsStart(index));
+        for (int k = topology.neighborsStart(index); k < topology.neighborsEnd(index); k++) {
+            adj.add(topology.positionAt(topology.neighbor(k)));
+        }
+        return adj;
+    }
+
+    /** Vecinos dentro del tablero cuyo bit está libre, consultando el bitset directamente */
+    public List<HexPosition> getFreeNeighbors(HexPosition position) {
+        int index = topology.indexOf(position.getQ(), position.getR());
+        if (index < 0) {
+            List<HexPosition> adj = adjacentOutOfBounds(position);
+            adj.removeIf(this::isBlocked);
+            return adj;
+        }
+        List<HexPosition> free = new ArrayList<>(DIRECTIONS.length);
+        for (int k = topology.neighborsStart(index); k < topology.neighborsEnd(index); k++) {
+            int n = topology.neighbor(k);
+            if (!isBlockedIndex(n)) free.add(topology.positionAt(n));
+        }
+        return free;
+    }
+
+    /** Caso raro: la posición consultada está fuera del tablero y no tiene índice */
+    private List<HexPosition> adjacentOutOfBounds(HexPosition position) {
         List<HexPosition> adj = new ArrayList<>();
-        for (int[] d : dirs) {
-            HexPosition n = new HexPosition(position.getQ()+d[0],
-                                            position.getR()+d[1]);
-            if (isPositionInBounds(n)) adj.add(n);
+        for (int[] d : DIRECTIONS) {
+            int q = position.getQ() + d[0];
+            int r = position.getR() + d[1];
+            if (isInBounds(q, r)) adj.add(new HexPosition(q, r));
         }
         return adj;
     }
 
-    /** Ya NO puede ser siempre false: debe consultar el set de muros */
+    /** Consulta el bit de la celda; fuera del tablero nunca hay muro */
     @Override
     public boolean isBlocked(HexPosition pos) {
-        return blockedPositions.contains(pos);
+        return isBlocked(pos.getQ(), pos.getR());
+    }
+
+    /** Variante sin objetos de isBlocked para los algoritmos de búsqueda */
+    public boolean isBlocked(int q, int r) {
+        int index = indexOf(q, r);
+        return index >= 0 && isBlockedIndex(index);
+    }
+
+    /** Consulta directa por índice denso (0 <= index < getCellCount()) */
+    public boolean isBlockedIndex(int index) {
+        return (blocked[index >>> 6] & (1L << index)) != 0;
     }
 
     /** NUEVO: método público para bloquear una posición */
@@ -84,4 +174,108 @@ public class HexGameBoard extends GameBoard<HexPosition> {
     public int getBoardSize() {
         return this.size;
     }
+
+    public boolean isInBounds(int q, int r) {
+        return topology.isInBounds(q, r);
+    }
+
+    /** Índice denso de (q, r), o -1 si la celda está fuera del tablero */
+    public int indexOf(int q, int r) {
+        return topology.indexOf(q, r);
+    }
+
+    /** Inversa de indexOf */
+    public HexPosition positionAt(int index) {
+        if (index < 0 || index >= topology.getCellCount()) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return topology.positionAt(index);
+    }
+
+    /** Número de celdas del tablero: 3n² + 3n + 1 */
+    public int getCellCount() {
+        return topology.getCellCount();
+    }
+
+    /** Geometría compartida por todas las partidas de este tamaño */
+    public HexBoardTopology getTopology() {
+        return topology;
+    }
+
+    public int getBlockedCount() {
+        return blockedCount;
+    }
+
+    /** Hash Zobrist del conjunto de muros; se actualiza en O(1) con cada muro */
+    public long getStateHash() {
+        return wallHashes[0];
+    }
+
+    /**
+     * Hash Zobrist de los muros vistos a través de la simetría g
+     * (ver {@link HexBoardTopology#transform}). Se mantienen los 12 a la vez
+     * para poder canonicalizar posiciones sin recorrer el tablero.
+     */
+    public long getSymmetricHash(int g) {
+        return wallHashes[g];
+    }
+
+    public ZobristKeys getZobristKeys() {
+        return zobrist;
+    }
+
+    /**
+     * Distancias de escape al borde para este tablero.
+     * Se calcula la primera vez; después cada muro lo repara de forma incremental
+     * y sólo se recalcula entero si quedó desfasado.
+     */
+    public EscapeDistanceField getEscapeField() {
+        if (escapeField == null) {
+            escapeField = new EscapeDistanceField(this);
+        } else if (escapeFieldVersion != modCount) {
+            escapeField.recompute();
+        }
+        escapeFieldVersion = modCount;
+        return escapeField;
+    }
+
+    /** Recorre los muros en orden de índice, materializando cada posición */
+    private final class BlockedPositionsView extends AbstractSet<HexPosition> {
+
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof HexPosition p && isBlocked(p);
+        }
+
+        @Override
+        public int size() {
+            return blockedCount;
+        }
+
+        @Override
+        public Iterator<HexPosition> iterator() {
+            return new Iterator<>() {
+                private int word = 0;
+                private long bits = blocked.length > 0 ? blocked[0] : 0L;
+
+                @Override
+                public boolean hasNext() {
+                    while (bits == 0 && word + 1 < blocked.length) {
+                        bits = blocked[++word];
+                    }
+                    return bits != 0;
+                }
+
+                @Override
+                public HexPosition next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    int index = (word << 6) + Long.numberOfTrailingZeros(bits);
+                    bits &= bits - 1;
+                    return positionAt(index);
+                }
+            };
+        }
+    }
 }
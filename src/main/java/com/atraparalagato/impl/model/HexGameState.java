@@ -11,9 +11,13 @@ import java.util.Map;
 public class HexGameState extends GameState<HexPosition> {
 
     private HexPosition catPosition;
+    private HexPosition lastWall;
+    private long catKey;
     private final HexGameBoard gameBoard;
     private final int boardSize;
 
+    private Map<String, Object> lastCatSearchStatistics = Map.of();
+
     private long startTime = System.currentTimeMillis();
     private long endTime = -1;
 
@@ -22,17 +26,20 @@ public class HexGameState extends GameState<HexPosition> {
         this.boardSize = boardSize;
         this.gameBoard = new HexGameBoard(boardSize);
         this.catPosition = new HexPosition(0, 0);
+        this.catKey = catKeyOf(catPosition);
     }
 
+    /** Con la partida terminada ya no se aceptan muros, y nunca sobre la celda del gato */
     @Override
     protected boolean canExecuteMove(HexPosition position) {
-        return gameBoard.isValidMove(position);
+        return !isGameFinished() && !position.equals(catPosition) && gameBoard.isValidMove(position);
     }
 
     @Override
     protected boolean performMove(HexPosition position) {
         if (gameBoard.isValidMove(position)) {
             gameBoard.executeMove(position); // bloquea la celda
+            lastWall = position;
             return true;
         }
         return false;
@@ -42,8 +49,8 @@ public class HexGameState extends GameState<HexPosition> {
     protected void updateGameStatus() {
         if (isCatAtBorder()) {
             setStatus(GameStatus.PLAYER_LOST);   // El gato escapó
-        } else if (isCatTrapped()) {
-            setStatus(GameStatus.PLAYER_WON);    // El gato está atrapado
+        } else if (isCatEnclosed()) {
+            setStatus(GameStatus.PLAYER_WON);    // El gato ya no puede llegar al borde
         } else {
             setStatus(GameStatus.IN_PROGRESS);
         }
@@ -56,10 +63,28 @@ public class HexGameState extends GameState<HexPosition> {
             || Math.abs(s) == boardSize;
     }
 
-    private boolean isCatTrapped() {
-        return gameBoard.getAdjacentPositions(catPosition)
-                        .stream()
-                        .allMatch(gameBoard::isBlocked);
+    /**
+     * ¿Quedó el gato encerrado en una región sin salida al borde?
+     * Detecta el encierro apenas se cierra la región, aunque el gato todavía
+     * tenga vecinos libres. Es una consulta al campo de escape del tablero,
+     * que cada muro mantiene al día de forma incremental.
+     */
+    public boolean isCatEnclosed() {
+        int cat = gameBoard.indexOf(catPosition.getQ(), catPosition.getR());
+        return cat >= 0 && !gameBoard.getEscapeField().canEscapeFrom(cat);
+    }
+
+    /**
+     * Hash Zobrist de la configuración (muros + gato). Es estable entre
+     * reinicios y sirve como clave de cachés y tablas de transposición.
+     */
+    public long getStateHash() {
+        return gameBoard.getStateHash() ^ catKey;
+    }
+
+    private long catKeyOf(HexPosition position) {
+        int cell = gameBoard.indexOf(position.getQ(), position.getR());
+        return cell < 0 ? 0L : gameBoard.getZobristKeys().catKey(cell);
     }
 
     @Override
@@ -70,6 +95,7 @@ public class HexGameState extends GameState<HexPosition> {
     @Override
     public void setCatPosition(HexPosition position) {
         this.catPosition = position;
+        this.catKey = catKeyOf(position);
         updateGameStatus();
         if (isGameFinished() && endTime == -1) {
             endTime = System.currentTimeMillis();
@@ -114,6 +140,20 @@ public class HexGameState extends GameState<HexPosition> {
         return gameBoard;
     }
 
+    /** Último muro aceptado, o null si todavía no hubo ninguno */
+    public HexPosition getLastWall() {
+        return lastWall;
+    }
+
+    /** Métricas de la última búsqueda del gato (profundidad, nodos/s, ...), si la estrategia las reporta */
+    public Map<String, Object> getLastCatSearchStatistics() {
+        return lastCatSearchStatistics;
+    }
+
+    public void setLastCatSearchStatistics(Map<String, Object> statistics) {
+        this.lastCatSearchStatistics = statistics;
+    }
+
     public int getGameDurationSeconds() {
         long end = (endTime != -1) ? endTime : System.currentTimeMillis();
         return (int) ((end - startTime) / 1000);
@@ -0,0 +1,74 @@
+package com.atraparalagato.impl.model;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tablas de claves Zobrist para un tablero de radio dado.
+ *
+ * Cada celda tiene una clave aleatoria de 64 bits para "hay un muro aquí" y
+ * otra para "el gato está aquí". El hash de una configuración es el XOR de las
+ * claves presentes, así que agregar un muro o mover el gato lo actualiza en O(1).
+ *
+ * Las claves salen de SplitMix64 con una semilla fija por radio: son las mismas
+ * en cada arranque y en cada nodo, y los hashes pueden guardarse o compartirse.
+ * Como con {@link HexBoardTopology}, la caché por radio es débil: recalcularlas
+ * da las mismas claves.
+ */
+public final class ZobristKeys {
+
+    private static final long SEED = 0x41545241_5041474CL; // "ATRAPAGL"
+
+    private static final Map<Integer, WeakReference<ZobristKeys>> CACHE = new ConcurrentHashMap<>();
+
+    private final long[] wallKeys;
+    private final long[] catKeys;
+
+    /** Claves compartidas para el radio indicado */
+    public static ZobristKeys forSize(int size) {
+        WeakReference<ZobristKeys> cached = CACHE.get(size);
+        ZobristKeys keys = cached == null ? null : cached.get();
+        if (keys != null) {
+            return keys;
+        }
+        ZobristKeys[] result = new ZobristKeys[1];
+        CACHE.compute(size, (key, previous) -> {
+            result[0] = previous == null ? null : previous.get();
+            if (result[0] == null) {
+                result[0] = new ZobristKeys(key);
+                return new WeakReference<>(result[0]);
+            }
+            return previous;
+        });
+        return result[0];
+    }
+
+    private ZobristKeys(int size) {
+        int cellCount = HexBoardTopology.forSize(size).getCellCount();
+        wallKeys = new long[cellCount];
+        catKeys = new long[cellCount];
+        long state = SEED ^ (size * 0x9E3779B97F4A7C15L);
+        for (int cell = 0; cell < cellCount; cell++) {
+            wallKeys[cell] = mix(state += 0x9E3779B97F4A7C15L);
+        }
+        for (int cell = 0; cell < cellCount; cell++) {
+            catKeys[cell] = mix(state += 0x9E3779B97F4A7C15L);
+        }
+    }
+
+    /** Finalizador de SplitMix64 */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    public long wallKey(int cell) {
+        return wallKeys[cell];
+    }
+
+    public long catKey(int cell) {
+        return catKeys[cell];
+    }
+}
@@ -0,0 +1,189 @@
+package com.atraparalagato.impl.service;
+
+import com.atraparalagato.impl.strategy.CatStrategyType;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Elige con qué estrategia mueve el gato según la carga del servidor.
+ *
+ * Las estrategias forman una escalera de la más fuerte a la más barata. Con
+ * cada movimiento se registra su latencia; cuando el p99 de los últimos
+ * movimientos supera el SLO, o hay demasiados movimientos del gato en curso,
+ * se baja un escalón. Se vuelve a subir cuando el p99 queda holgado (debajo
+ * de la mitad del SLO) con poca carga.
+ *
+ * Histéresis: las muestras se descartan en cada cambio de escalón, y hace
+ * falta una ventana mínima de muestras nuevas para volver a bajar y varias
+ * ventanas sanas seguidas para subir. Así una latencia entre el umbral de
+ * subida y el SLO no hace oscilar al selector.
+ *
+ * Retroceso: si después de subir se vuelve a bajar antes de sostener el escalón
+ * tantas ventanas como costó ganarlo, la subida falló (la sobrecarga sigue) y
+ * se duplican las ventanas sanas que hace falta juntar para el próximo intento.
+ * Con sobrecarga sostenida los intentos se espacian en vez de repetirse cada
+ * pocas ventanas. Una subida que se sostiene vuelve la espera a su valor inicial.
+ *
+ * Sólo los movimientos calculados aportan latencia; los que salen de la caché
+ * se cuentan como servidos pero no diluyen el p99.
+ */
+public final class AdaptiveStrategySelector {
+
+    static final int WINDOW = 256;
+    static final int MIN_SAMPLES = 32;
+    static final int HEALTHY_WINDOWS_TO_RECOVER = 3;
+    static final int MAX_WINDOWS_TO_RECOVER = 48;
+    private static final double RECOVERY_FRACTION = 0.5;
+
+    private final CatStrategyType[] ladder;
+    private final long sloNanos;
+    private final int maxInFlight;
+
+    private final long[] samples = new long[WINDOW];
+    private int sampleCount;
+    private int sampleIndex;
+    private int healthyWindows;
+    private int windowsToRecover = HEALTHY_WINDOWS_TO_RECOVER;
+    /** Ventanas desde la última subida, o -1 si el escalón actual no vino de una subida o ya se sostuvo */
+    private int windowsSinceStepUp = -1;
+    private int windowPeakInFlight;
+    private volatile int tier;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder[] servedByTier;
+    private final LongAdder stepsDown = new LongAdder();
+    private final LongAdder stepsUp = new LongAdder();
+    private final LongAdder failedStepsUp = new LongAdder();
+
+    /**
+     * @param ladder      estrategias de la más fuerte a la más barata
+     * @param sloMillis   p99 objetivo de la latencia del movimiento del gato
+     * @param maxInFlight movimientos del gato simultáneos a partir de los cuales se considera sobrecarga
+     */
+    public AdaptiveStrategySelector(List<CatStrategyType> ladder, long sloMillis, int maxInFlight) {
+        if (ladder.isEmpty()) {
+            throw new IllegalArgumentException("La escalera de estrategias no puede estar vacía");
+        }
+        if (sloMillis <= 0 || maxInFlight <= 0) {
+            throw new IllegalArgumentException("El SLO y el máximo de movimientos en curso deben ser positivos");
+        }
+        this.ladder = ladder.toArray(new CatStrategyType[0]);
+        this.sloNanos = sloMillis * 1_000_000L;
+        this.maxInFlight = maxInFlight;
+        this.servedByTier = new LongAdder[this.ladder.length];
+        for (int i = 0; i < servedByTier.length; i++) {
+            servedByTier[i] = new LongAdder();
+        }
+    }
+
+    /** Empieza un movimiento del gato: devuelve el escalón con el que debe calcularse */
+    public int beginMove() {
+        inFlight.incrementAndGet();
+        return tier;
+    }
+
+    /** Termina un movimiento empezado con beginMove, con la latencia que tuvo */
+    public void endMove(int servedTier, long elapsedNanos) {
+        int concurrent = inFlight.getAndDecrement();
+        servedByTier[servedTier].increment();
+        synchronized (this) {
+            if (servedTier != tier) {
+                return; // muestra de otro escalón: no dice nada del actual
+            }
+            samples[sampleIndex] = elapsedNanos;
+            sampleIndex = (sampleIndex + 1) % WINDOW;
+            sampleCount++;
+            windowPeakInFlight = Math.max(windowPeakInFlight, concurrent);
+            if (sampleCount < MIN_SAMPLES || sampleCount % MIN_SAMPLES != 0) {
+                return;
+            }
+            long p99 = percentile(0.99);
+            int peak = windowPeakInFlight;
+            windowPeakInFlight = 0;
+            if (p99 > sloNanos || peak > maxInFlight) {
+                healthyWindows = 0;
+                if (tier < ladder.length - 1) {
+                    if (windowsSinceStepUp >= 0) {
+                        failedStepsUp.increment();
+                        windowsToRecover = Math.min(2 * windowsToRecover, MAX_WINDOWS_TO_RECOVER);
+                    }
+                    changeTier(tier + 1);
+                }
+                return;
+            }
+            if (windowsSinceStepUp >= 0 && ++windowsSinceStepUp >= windowsToRecover) {
+                windowsSinceStepUp = -1; // la subida se sostuvo
+                windowsToRecover = HEALTHY_WINDOWS_TO_RECOVER;
+            }
+            if (p99 < sloNanos * RECOVERY_FRACTION && peak <= maxInFlight / 2) {
+                if (++healthyWindows >= windowsToRecover && tier > 0) changeTier(tier - 1);
+            } else {
+                healthyWindows = 0;
+            }
+        }
+    }
+
+    /** Termina un movimiento que no se calculó (salió de la caché): cuenta como servido, sin muestra de latencia */
+    public void endUncomputedMove(int servedTier) {
+        inFlight.decrementAndGet();
+        servedByTier[servedTier].increment();
+    }
+
+    public CatStrategyType strategyAt(int tierIndex) {
+        return ladder[tierIndex];
+    }
+
+    public CatStrategyType getCurrentStrategy() {
+        return ladder[tier];
+    }
+
+    private void changeTier(int next) {
+        if (next > tier) {
+            stepsDown.increment();
+            windowsSinceStepUp = -1;
+        } else {
+            stepsUp.increment();
+            windowsSinceStepUp = 0;
+        }
+        tier = next;
+        sampleCount = 0;
+        sampleIndex = 0;
+        healthyWindows = 0;
+        windowPeakInFlight = 0;
+    }
+
+    private long percentile(double fraction) {
+        int count = Math.min(sampleCount, WINDOW);
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        return sorted[Math.min(count - 1, (int) (count * fraction))];
+    }
+
+    /** Escalón actual, movimientos servidos por cada escalón y percentiles de la ventana */
+    public synchronized Map<String, Object> getStatistics() {
+        Map<String, Object> served = new LinkedHashMap<>();
+        for (int i = 0; i < ladder.length; i++) {
+            served.put(ladder[i].getConfigName(), servedByTier[i].sum());
+        }
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("enabled", true);
+        stats.put("currentTier", ladder[tier].getConfigName());
+        stats.put("servedByTier", served);
+        stats.put("stepsDown", stepsDown.sum());
+        stats.put("stepsUp", stepsUp.sum());
+        stats.put("failedStepsUp", failedStepsUp.sum());
+        stats.put("windowsToRecover", windowsToRecover);
+        stats.put("inFlight", inFlight.get());
+        stats.put("sloMillis", sloNanos / 1_000_000);
+        boolean hasSamples = sampleCount > 0;
+        stats.put("p50Millis", hasSamples ? percentile(0.50) / 1e6 : 0.0);
+        stats.put("p99Millis", hasSamples ? percentile(0.99) / 1e6 : 0.0);
+        return stats;
+    }
+}
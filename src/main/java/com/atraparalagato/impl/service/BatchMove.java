@@ -0,0 +1,26 @@
+package com.atraparalagato.impl.service;
+
+import com.atraparalagato.impl.model.HexPosition;
+
+/**
+ * Un muro a colocar en una partida, como parte de un lote de
+ * {@link HexGameService#executePlayerMoves}.
+ */
+public final class BatchMove {
+
+    private final String gameId;
+    private final HexPosition position;
+
+    public BatchMove(String gameId, HexPosition position) {
+        this.gameId = gameId;
+        this.position = position;
+    }
+
+    public String getGameId() {
+        return gameId;
+    }
+
+    public HexPosition getPosition() {
+        return position;
+    }
+}
@@ -0,0 +1,69 @@
+package com.atraparalagato.impl.service;
+
+import com.atraparalagato.base.model.GameState.GameStatus;
+import com.atraparalagato.impl.model.HexGameState;
+import com.atraparalagato.impl.model.HexPosition;
+
+import java.util.Optional;
+
+/**
+ * Resultado de un movimiento de un lote: la partida tal como quedó después de ese
+ * movimiento (no la del final del lote), o el error que lo impidió.
+ */
+public final class BatchMoveResult {
+
+    private final int index;
+    private final String gameId;
+    private final String error;
+    private final HexPosition catPosition;
+    private final GameStatus status;
+    private final int moveCount;
+
+    private BatchMoveResult(int index, String gameId, String error,
+                            HexPosition catPosition, GameStatus status, int moveCount) {
+        this.index = index;
+        this.gameId = gameId;
+        this.error = error;
+        this.catPosition = catPosition;
+        this.status = status;
+        this.moveCount = moveCount;
+    }
+
+    static BatchMoveResult success(int index, HexGameState state) {
+        return new BatchMoveResult(index, state.getGameId(), null,
+                state.getCatPosition(), state.getStatus(), state.getMoveCount());
+    }
+
+    static BatchMoveResult failure(int index, String gameId, String error) {
+        return new BatchMoveResult(index, gameId, error, null, null, 0);
+    }
+
+    /** Posición del movimiento en el lote recibido */
+    public int getIndex() {
+        return index;
+    }
+
+    public String getGameId() {
+        return gameId;
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+    public Optional<String> getError() {
+        return Optional.ofNullable(error);
+    }
+
+    public HexPosition getCatPosition() {
+        return catPosition;
+    }
+
+    public GameStatus getStatus() {
+        return status;
+    }
+
+    public int getMoveCount() {
+        return moveCount;
+    }
+}
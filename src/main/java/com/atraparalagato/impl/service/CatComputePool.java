@@ -0,0 +1,159 @@
+package com.atraparalagato.impl.service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Pool acotado para el cálculo del gato, separado de los hilos de las peticiones.
+ *
+ * El hilo de la petición encola la búsqueda y se bloquea hasta tener el
+ * resultado (con el candado de la partida tomado). Lo único que gana es acotar
+ * las búsquedas simultáneas: con un hilo por núcleo, una ráfaga de movimientos
+ * en tableros grandes hace cola en vez de repartir los núcleos entre cientos de
+ * búsquedas. No libera hilos de petición; con Java 17 cada espera ocupa un hilo
+ * de Tomcat igual que sin el pool. El trabajo bloqueante (JDBC de las
+ * puntuaciones) nunca entra acá.
+ *
+ * También sirve para correr movimientos completos de forma asíncrona
+ * ({@link #submit}), pero en una instancia aparte: las tareas de un pool de
+ * búsquedas no deben tomar locks de partidas, porque el que tiene el lock puede
+ * estar esperando justo ese pool. Un cálculo pedido desde un hilo del propio pool
+ * se hace ahí mismo, sin encolarlo (si no, con pocos hilos el pool se esperaría a
+ * sí mismo).
+ */
+public final class CatComputePool {
+
+    private static final ThreadLocal<CatComputePool> CURRENT = new ThreadLocal<>();
+
+    private final ThreadPoolExecutor executor;
+    private final LongAdder cancelled = new LongAdder();
+    private final LongAdder computed = new LongAdder();
+    private final LongAdder queueNanos = new LongAdder();
+
+    public CatComputePool(int threadCount) {
+        this(threadCount, "cat-compute");
+    }
+
+    /** Pool con hilos llamados prefijo-1, prefijo-2... */
+    public CatComputePool(int threadCount, String threadPrefix) {
+        if (threadCount <= 0) {
+            throw new IllegalArgumentException("Se necesita al menos un hilo de cálculo: " + threadCount);
+        }
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threadCount, threadCount, 30, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(() -> {
+                        CURRENT.set(this);
+                        runnable.run();
+                    }, threadPrefix + "-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /** Calcula en el pool y espera el resultado; las excepciones de la tarea se relanzan tal cual */
+    public <T> T compute(Callable<T> task) {
+        if (CURRENT.get() == this) {
+            computed.increment();
+            try {
+                return task.call();
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IllegalStateException("Falló el cálculo del gato", e);
+            }
+        }
+        long submitted = System.nanoTime();
+        Future<T> future = executor.submit(() -> {
+            queueNanos.add(System.nanoTime() - submitted);
+            return task.call();
+        });
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Cálculo del gato interrumpido", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Falló el cálculo del gato", e.getCause());
+        } finally {
+            computed.increment();
+        }
+    }
+
+    /**
+     * Corre la tarea en el pool sin esperarla. Cancelar el futuro antes de que la
+     * tarea empiece la descarta; una vez empezada, cancel devuelve false y el futuro
+     * se completa con su resultado (un movimiento no se deja a medias ni se aplica
+     * sin avisar).
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        PoolTask<T> result = new PoolTask<>();
+        long submitted = System.nanoTime();
+        executor.execute(() -> {
+            if (!result.start()) {
+                cancelled.increment();
+                return;
+            }
+            queueNanos.add(System.nanoTime() - submitted);
+            try {
+                result.complete(task.get());
+            } catch (RuntimeException | Error e) {
+                result.completeExceptionally(e);
+            } finally {
+                computed.increment();
+            }
+        });
+        return result;
+    }
+
+    /** Futuro que sólo se deja cancelar mientras su tarea espera en la cola */
+    private static final class PoolTask<T> extends CompletableFuture<T> {
+        private final AtomicBoolean claimed = new AtomicBoolean();
+
+        /** La tarea toma el futuro para correr; false si ya lo habían cancelado */
+        boolean start() {
+            return claimed.compareAndSet(false, true);
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            return claimed.compareAndSet(false, true) && super.cancel(mayInterruptIfRunning);
+        }
+    }
+
+    /** Hilos, cola y espera promedio en la cola */
+    public Map<String, Object> getStatistics() {
+        long count = computed.sum();
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("enabled", true);
+        stats.put("threads", executor.getMaximumPoolSize());
+        stats.put("busy", executor.getActiveCount());
+        stats.put("queued", executor.getQueue().size());
+        stats.put("computed", count);
+        stats.put("cancelledBeforeStart", cancelled.sum());
+        stats.put("averageQueueMillis", count == 0 ? 0.0 : queueNanos.sum() / 1e6 / count);
+        return stats;
+    }
+
+    /** Deja de aceptar cálculos; los ya encolados terminan (hay peticiones esperándolos) */
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,249 @@
+package com.atraparalagato.impl.service;
+
+import com.atraparalagato.impl.model.HexBoardTopology;
+import com.atraparalagato.impl.model.HexGameBoard;
+import com.atraparalagato.impl.model.HexPosition;
+import com.atraparalagato.impl.model.ZobristKeys;
+import com.atraparalagato.impl.strategy.CatStrategyType;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Caché de transposición de movimientos del gato, compartida por todas las partidas.
+ *
+ * La clave es la posición canónica: de las 12 simetrías del tablero se elige la
+ * que da el menor hash Zobrist (muros + gato), así una apertura rotada o reflejada
+ * cae en la misma entrada. El movimiento se guarda en el marco canónico y se
+ * devuelve al marco de la partida con la simetría inversa.
+ *
+ * Está dividida en segmentos LRU con su propio lock, y acotada tanto en entradas
+ * como en memoria estimada. Un acierto se valida (el movimiento debe ser un vecino
+ * libre del gato), así una colisión de hash nunca produce un movimiento ilegal.
+ */
+public final class CatMoveCache {
+
+    /** Costo aproximado de una entrada: nodo de LinkedHashMap + Long + Integer */
+    static final int BYTES_PER_ENTRY = 96;
+
+    private static final int SEGMENTS = 16;
+    private static final long DEFAULT_MAX_ENTRIES = 200_000;
+    private static final long DEFAULT_MAX_MEMORY_BYTES = 32L * 1024 * 1024;
+
+    private static final CatMoveCache SHARED = new CatMoveCache(DEFAULT_MAX_ENTRIES, DEFAULT_MAX_MEMORY_BYTES);
+
+    private final Segment[] segments = new Segment[SEGMENTS];
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder uncacheable = new LongAdder();
+    private volatile boolean enabled = true;
+    private volatile boolean useSymmetries = true;
+
+    public CatMoveCache(long maxEntries, long maxMemoryBytes) {
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment();
+        }
+        resize(maxEntries, maxMemoryBytes);
+    }
+
+    /** Instancia del proceso, la que usa HexGameService por defecto */
+    public static CatMoveCache shared() {
+        return SHARED;
+    }
+
+    /** Ajusta los límites; si la caché quedó más grande, se descartan las entradas más viejas */
+    public void resize(long maxEntries, long maxMemoryBytes) {
+        if (maxEntries < 0 || maxMemoryBytes < 0) {
+            throw new IllegalArgumentException("Los límites de la caché no pueden ser negativos");
+        }
+        long entries = Math.min(maxEntries, maxMemoryBytes / BYTES_PER_ENTRY);
+        int perSegment = (int) Math.min(Integer.MAX_VALUE, (entries + SEGMENTS - 1) / SEGMENTS);
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.capacity = perSegment;
+                segment.trim();
+            }
+        }
+    }
+
+    /** Interruptor para comparar latencias con y sin caché */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /** Con false la clave es la posición tal cual, sin canonicalizar (para medir el aporte de las simetrías) */
+    public void setUseSymmetries(boolean useSymmetries) {
+        this.useSymmetries = useSymmetries;
+    }
+
+    /**
+     * Movimiento del gato para la posición actual: de la caché si ya se vio esta
+     * posición (o una simétrica) con la misma estrategia, o calculándolo y guardándolo.
+     */
+    public Optional<HexPosition> findBestMove(HexGameBoard board, HexPosition cat, CatStrategyType strategy) {
+        return findBestMove(board, cat, strategy, () -> strategy.create(board).findBestMove(cat, null));
+    }
+
+    /** Igual que el anterior, pero en un fallo calcula el movimiento con la búsqueda indicada */
+    public Optional<HexPosition> findBestMove(HexGameBoard board, HexPosition cat, CatStrategyType strategy,
+                                              Supplier<Optional<HexPosition>> search) {
+        return findBestMove(board, cat, strategy, search, () -> true);
+    }
+
+    /**
+     * Igual que el anterior, pero el movimiento calculado sólo se guarda si cacheable
+     * (consultado después de la búsqueda) lo acepta: una respuesta de emergencia
+     * (plazo vencido, pool saturado) no debe contestar por la estrategia para siempre.
+     */
+    public Optional<HexPosition> findBestMove(HexGameBoard board, HexPosition cat, CatStrategyType strategy,
+                                              Supplier<Optional<HexPosition>> search, BooleanSupplier cacheable) {
+        int catCell = board.indexOf(cat.getQ(), cat.getR());
+        if (!enabled || catCell < 0) {
+            return search.get();
+        }
+
+        HexBoardTopology topology = board.getTopology();
+        ZobristKeys keys = board.getZobristKeys();
+        int symmetry = 0;
+        long canonical = board.getSymmetricHash(0) ^ keys.catKey(catCell);
+        for (int g = 1; useSymmetries && g < HexBoardTopology.SYMMETRY_COUNT; g++) {
+            long hash = board.getSymmetricHash(g) ^ keys.catKey(topology.transform(g, catCell));
+            if (hash < canonical) {
+                canonical = hash;
+                symmetry = g;
+            }
+        }
+        int toCanonical = symmetry;
+        long key = canonical ^ (((long) board.getBoardSize() << 8 | strategy.ordinal()) * 0x9E3779B97F4A7C15L);
+        Segment segment = segments[(int) (key >>> 32) & (SEGMENTS - 1)];
+
+        Integer stored;
+        synchronized (segment) {
+            stored = segment.get(key);
+        }
+        if (stored != null) {
+            int move = topology.transform(HexBoardTopology.inverseSymmetry(toCanonical), stored);
+            if (isFreeNeighbor(board, catCell, move)) {
+                hits.increment();
+                return Optional.of(board.positionAt(move));
+            }
+            rejected.increment();
+        }
+
+        misses.increment();
+        Optional<HexPosition> move = search.get();
+        if (move.isPresent() && !cacheable.getAsBoolean()) {
+            uncacheable.increment();
+            return move;
+        }
+        move.ifPresent(pos -> {
+            int canonicalMove = topology.transform(toCanonical, board.indexOf(pos.getQ(), pos.getR()));
+            synchronized (segment) {
+                segment.put(key, canonicalMove);
+            }
+        });
+        return move;
+    }
+
+    private static boolean isFreeNeighbor(HexGameBoard board, int cell, int candidate) {
+        HexBoardTopology topology = board.getTopology();
+        for (int k = topology.neighborsStart(cell); k < topology.neighborsEnd(cell); k++) {
+            if (topology.neighbor(k) == candidate) {
+                return !board.isBlockedIndex(candidate);
+            }
+        }
+        return false;
+    }
+
+    /** Vacía la caché sin tocar los contadores */
+    public void clear() {
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /** Aciertos descartados porque el movimiento guardado no era legal (colisión de hash) */
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    public Map<String, Object> getStatistics() {
+        long h = getHits(), m = getMisses();
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("entries", size());
+        stats.put("hits", h);
+        stats.put("misses", m);
+        stats.put("evictions", getEvictions());
+        stats.put("rejected", getRejected());
+        stats.put("uncacheable", uncacheable.sum());
+        stats.put("hitRate", h + m == 0 ? 0.0 : (double) h / (h + m));
+        stats.put("estimatedBytes", (long) size() * BYTES_PER_ENTRY);
+        return stats;
+    }
+
+    /** Segmento LRU: LinkedHashMap en orden de acceso que descarta la entrada más vieja */
+    private final class Segment extends LinkedHashMap<Long, Integer> {
+        private static final long serialVersionUID = 1L;
+
+        int capacity;
+
+        Segment() {
+            super(64, 0.75f, true);
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Integer> eldest) {
+            if (size() > capacity) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        }
+
+        void trim() {
+            Iterator<Map.Entry<Long, Integer>> it = entrySet().iterator();
+            while (size() > capacity && it.hasNext()) {
+                it.next();
+                it.remove();
+                evictions.increment();
+            }
+        }
+    }
+}
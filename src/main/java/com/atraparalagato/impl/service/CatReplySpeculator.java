@@ -0,0 +1,245 @@
+package com.atraparalagato.impl.service;
+
+import com.atraparalagato.base.strategy.CatMovementStrategy;
+import com.atraparalagato.impl.model.HexGameBoard;
+import com.atraparalagato.impl.model.HexGameState;
+import com.atraparalagato.impl.model.HexPosition;
+import com.atraparalagato.impl.model.ZobristKeys;
+import com.atraparalagato.impl.strategy.CatStrategyType;
+import com.atraparalagato.impl.strategy.MinCutHintEngine;
+import com.atraparalagato.impl.strategy.MonteCarloCatMovement;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Calcula por adelantado la respuesta del gato a los muros más probables
+ * mientras el jugador piensa.
+ *
+ * Después de cada respuesta se encolan, en un pool de baja prioridad, los muros
+ * candidatos: la sugerencia de corte mínimo y las celdas del camino más corto
+ * del gato. Cada partida tiene una tabla chica, de celda bloqueada a respuesta,
+ * ligada al hash de la posición de la que salió. Si el jugador pone uno de esos
+ * muros, el gato responde sin buscar.
+ *
+ * Una tabla nueva reemplaza a la anterior; las tareas de una tabla vieja se
+ * descartan sin calcular. Si la cola se llena, se tira la tarea más vieja
+ * (de cualquier partida) y se cuenta como "dropped". Se cuenta el CPU gastado
+ * y el desperdiciado (respuestas calculadas que nadie usó).
+ *
+ * La tabla recuerda con qué estrategia se calculó y sólo responde si el gato
+ * sigue moviendo con esa misma (p. ej. si el selector adaptativo no cambió de
+ * escalón). Las respuestas se calculan sin el plazo duro por movimiento: corren
+ * fuera del camino de la petición, y el plazo sólo acota la latencia. Cada una
+ * corre entera en su hilo de baja prioridad (Monte Carlo, con un solo árbol).
+ */
+public final class CatReplySpeculator {
+
+    private static final int MAX_CANDIDATES = 8;
+    private static final int MAX_GAMES = 4_096;
+    private static final int QUEUE_CAPACITY = 256;
+
+    private final ThreadPoolExecutor executor;
+    private final Map<String, Table> tables = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Table> eldest) {
+                    return size() > MAX_GAMES;
+                }
+            });
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder computed = new LongAdder();
+    private final LongAdder discarded = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder cpuNanosSpent = new LongAdder();
+    private final LongAdder cpuNanosUsed = new LongAdder();
+
+    public CatReplySpeculator(int threadCount) {
+        if (threadCount <= 0) {
+            throw new IllegalArgumentException("Se necesita al menos un hilo de especulación: " + threadCount);
+        }
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threadCount, threadCount, 30, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "cat-speculation-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    thread.setPriority(Thread.MIN_PRIORITY);
+                    return thread;
+                },
+                (task, pool) -> {
+                    // Como DiscardOldestPolicy, pero contando lo que se tira
+                    if (!pool.isShutdown()) {
+                        if (pool.getQueue().poll() != null) {
+                            dropped.increment();
+                        }
+                        pool.execute(task);
+                    }
+                });
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /** Encola las respuestas del gato a los muros candidatos de la posición actual */
+    public void speculate(HexGameState state, CatStrategyType strategyType) {
+        if (state.isGameFinished()) {
+            forget(state.getGameId());
+            return;
+        }
+        HexGameBoard board = state.getGameBoard();
+        String gameId = state.getGameId();
+        HexPosition cat = state.getCatPosition();
+        HexGameBoard snapshot = board.copy();
+        Table table = new Table(state.getStateHash(), board.getZobristKeys(), strategyType);
+        tables.put(gameId, table);
+
+        // Elegir candidatos también cuesta (corte mínimo): se hace fuera del hilo de la petición
+        executor.execute(() -> {
+            if (tables.get(gameId) != table) {
+                discarded.increment();
+                return;
+            }
+            for (int cell : candidates(snapshot, snapshot.indexOf(cat.getQ(), cat.getR()))) {
+                executor.execute(() -> compute(gameId, table, snapshot, cat, cell, strategyType));
+            }
+        });
+    }
+
+    /**
+     * Respuesta precalculada para la posición actual (el jugador ya puso su muro),
+     * o vacío si el muro no estaba entre los candidatos, todavía no se calculó o
+     * se calculó con otra estrategia.
+     */
+    public OptionalInt lookup(HexGameState state, CatStrategyType strategyType) {
+        Table table = tables.get(state.getGameId());
+        if (table != null && table.strategyType == strategyType) {
+            long hash = state.getStateHash();
+            HexGameBoard board = state.getGameBoard();
+            for (Map.Entry<Integer, Reply> entry : table.replies.entrySet()) {
+                int wall = entry.getKey();
+                if ((table.baseHash ^ table.keys.wallKey(wall)) == hash && board.isBlockedIndex(wall)) {
+                    Reply reply = entry.getValue();
+                    hits.increment();
+                    cpuNanosUsed.add(reply.cpuNanos);
+                    return OptionalInt.of(reply.cell);
+                }
+            }
+        }
+        misses.increment();
+        return OptionalInt.empty();
+    }
+
+    public void forget(String gameId) {
+        tables.remove(gameId);
+    }
+
+    private void compute(String gameId, Table table, HexGameBoard snapshot, HexPosition cat,
+                         int candidate, CatStrategyType strategyType) {
+        if (tables.get(gameId) != table) {
+            discarded.increment(); // el jugador ya movió: la tabla es vieja
+            return;
+        }
+        long start = cpuTime();
+        HexGameBoard copy = snapshot.copy();
+        copy.blockTile(copy.positionAt(candidate));
+        Optional<HexPosition> reply = speculativeStrategy(strategyType, copy).findBestMove(cat, null);
+        long cpu = cpuTime() - start;
+        cpuNanosSpent.add(cpu);
+        computed.increment();
+        reply.ifPresent(pos -> table.replies.put(candidate, new Reply(copy.indexOf(pos.getQ(), pos.getR()), cpu)));
+    }
+
+    /**
+     * La estrategia del gato, pero toda en el hilo de especulación: Monte Carlo
+     * usaría el pool de todos los núcleos y las búsquedas en vivo esperarían detrás.
+     */
+    private static CatMovementStrategy<HexPosition> speculativeStrategy(CatStrategyType strategyType,
+                                                                        HexGameBoard board) {
+        return strategyType == CatStrategyType.MONTE_CARLO
+                ? MonteCarloCatMovement.singleThreaded(board)
+                : strategyType.create(board);
+    }
+
+    /** Sugerencia de corte mínimo primero, después el camino más corto del gato */
+    private static int[] candidates(HexGameBoard board, int cat) {
+        int[] cells = new int[MAX_CANDIDATES];
+        int count = 0;
+        int hint = new MinCutHintEngine(board).suggestWall(cat);
+        if (hint >= 0) {
+            cells[count++] = hint;
+        }
+        for (int cell = board.getEscapeField().bestNeighbor(cat); cell >= 0 && count < MAX_CANDIDATES;
+             cell = board.getEscapeField().bestNeighbor(cell)) {
+            if (cell != hint) cells[count++] = cell;
+            if (board.getTopology().isBorder(cell)) break;
+        }
+        return Arrays.copyOf(cells, count);
+    }
+
+    private long cpuTime() {
+        return threads.isCurrentThreadCpuTimeSupported() ? threads.getCurrentThreadCpuTime() : System.nanoTime();
+    }
+
+    /** Aciertos, desperdicio y trabajo pendiente */
+    public Map<String, Object> getStatistics() {
+        long hitCount = hits.sum();
+        long lookups = hitCount + misses.sum();
+        long spent = cpuNanosSpent.sum();
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("enabled", true);
+        stats.put("hits", hitCount);
+        stats.put("misses", misses.sum());
+        stats.put("hitRate", lookups == 0 ? 0.0 : (double) hitCount / lookups);
+        stats.put("computed", computed.sum());
+        stats.put("discarded", discarded.sum());
+        stats.put("dropped", dropped.sum());
+        stats.put("pending", executor.getQueue().size() + executor.getActiveCount());
+        stats.put("cpuMillisSpent", spent / 1_000_000.0);
+        stats.put("cpuMillisWasted", Math.max(0, spent - cpuNanosUsed.sum()) / 1_000_000.0);
+        return stats;
+    }
+
+    /** Detiene el pool; las especulaciones pendientes se descartan */
+    public void shutdown() {
+        executor.shutdownNow();
+        tables.clear();
+    }
+
+    private static final class Table {
+        final long baseHash;
+        final ZobristKeys keys;
+        final CatStrategyType strategyType;
+        final Map<Integer, Reply> replies = new ConcurrentHashMap<>();
+
+        Table(long baseHash, ZobristKeys keys, CatStrategyType strategyType) {
+            this.baseHash = baseHash;
+            this.keys = keys;
+            this.strategyType = strategyType;
+        }
+    }
+
+    private static final class Reply {
+        final int cell;
+        final long cpuNanos;
+
+        Reply(int cell, long cpuNanos) {
+            this.cell = cell;
+            this.cpuNanos = cpuNanos;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.atraparalagato.impl.service;
+
+import com.atraparalagato.base.model.GameState.GameStatus;
+import com.atraparalagato.impl.model.HexGameState;
+import com.atraparalagato.impl.model.HexPosition;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cambio de una partida para los suscriptores de su flujo de eventos.
+ *
+ * Salvo el "snapshot" inicial (el estado completo, una vez por suscripción),
+ * cada evento lleva unos pocos campos: su tamaño no depende de cuántos muros
+ * tenga el tablero. movesCount permite ordenarlos y detectar huecos.
+ */
+public final class GameEvent {
+
+    public static final String SNAPSHOT = "snapshot";
+    public static final String WALL = "wall";
+    public static final String CAT = "cat";
+    public static final String STATUS = "status";
+
+    private final String gameId;
+    private final String type;
+    private final Map<String, Object> data;
+
+    private GameEvent(String gameId, String type, Map<String, Object> data) {
+        this.gameId = gameId;
+        this.type = type;
+        this.data = Collections.unmodifiableMap(data);
+    }
+
+    /** Estado completo: con esto arranca el suscriptor antes de recibir cambios */
+    public static GameEvent snapshot(HexGameState state) {
+        List<Map<String, Integer>> walls = new ArrayList<>();
+        for (HexPosition wall : state.getGameBoard().getBlockedPositions()) {
+            walls.add(Map.of("q", wall.getQ(), "r", wall.getR()));
+        }
+        Map<String, Object> data = base(state);
+        data.put("status", state.getStatus().toString());
+        data.put("boardSize", state.getGameBoard().getBoardSize());
+        data.put("catPosition", position(state.getCatPosition()));
+        data.put("blockedCells", walls);
+        return new GameEvent(state.getGameId(), SNAPSHOT, data);
+    }
+
+    static GameEvent wall(HexGameState state) {
+        Map<String, Object> data = base(state);
+        data.put("q", state.getLastWall().getQ());
+        data.put("r", state.getLastWall().getR());
+        return new GameEvent(state.getGameId(), WALL, data);
+    }
+
+    static GameEvent cat(HexGameState state) {
+        Map<String, Object> data = base(state);
+        data.put("q", state.getCatPosition().getQ());
+        data.put("r", state.getCatPosition().getR());
+        return new GameEvent(state.getGameId(), CAT, data);
+    }
+
+    static GameEvent status(HexGameState state) {
+        Map<String, Object> data = base(state);
+        data.put("status", state.getStatus().toString());
+        return new GameEvent(state.getGameId(), STATUS, data);
+    }
+
+    private static Map<String, Object> base(HexGameState state) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("movesCount", state.getMoveCount());
+        data.put("score", state.calculateScore());
+        return data;
+    }
+
+    private static Map<String, Integer> position(HexPosition pos) {
+        return Map.of("q", pos.getQ(), "r", pos.getR());
+    }
+
+    public String getGameId() {
+        return gameId;
+    }
+
+    /** snapshot, wall, cat o status */
+    public String getType() {
+        return type;
+    }
+
+    public Map<String, Object> getData() {
+        return data;
+    }
+
+    /** Después de este evento la partida ya no cambia (terminó) */
+    public boolean isFinal() {
+        return (STATUS.equals(type) || SNAPSHOT.equals(type))
+                && !GameStatus.IN_PROGRESS.toString().equals(data.get("status"));
+    }
+}
@@ -4,18 +4,60 @@ import com.atraparalagato.base.model.GameBoard;
 import com.atraparalagato.base.model.GameState;
 import com.atraparalagato.base.repository.DataRepository;
 import com.atraparalagato.base.service.GameService;
+import com.atraparalagato.base.strategy.CatMovementStrategy;
+import com.atraparalagato.impl.model.EscapeDistanceField;
 import com.atraparalagato.impl.model.HexGameBoard;
 import com.atraparalagato.impl.model.HexGameState;
 import com.atraparalagato.impl.model.HexPosition;
 import com.atraparalagato.impl.repository.H2GameRepository;
+import com.atraparalagato.impl.solver.EndgameTablebase;
+import com.atraparalagato.impl.strategy.AlphaBetaCatMovement;
 import com.atraparalagato.impl.strategy.BFSCatMovement;
+import com.atraparalagato.impl.strategy.CatStrategyType;
+import com.atraparalagato.impl.strategy.DeadlineCatMovement;
+import com.atraparalagato.impl.strategy.MinCutHintEngine;
+import com.atraparalagato.impl.strategy.MonteCarloCatMovement;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 public class HexGameService extends GameService<HexPosition> {
 
-    private static int lastBoardSize = 9;
+    private static final int DEFAULT_BOARD_SIZE = 9;
+    /** Franjas de locks por partida (potencia de dos); dos partidas en la misma franja se esperan entre sí */
+    private static final int LOCK_STRIPES = 1024;
+    /** Radios que se pueden jugar; fuera de este rango startNewGame falla antes de reservar el tablero */
+    public static final int MIN_BOARD_SIZE = 2;
+    public static final int MAX_BOARD_SIZE = 50;
+
+    private volatile CatStrategyType catStrategy = CatStrategyType.BFS;
+    private CatMoveCache moveCache = CatMoveCache.shared();
+    private final Map<Integer, EndgameTablebase> tablebases = new ConcurrentHashMap<>();
+    private volatile CatReplySpeculator speculator;
+    private volatile long catDeadlineMillis;
+    private volatile AdaptiveStrategySelector adaptiveSelector;
+    private volatile ForkJoinPool batchPool;
+    private volatile CatComputePool computePool;
+    private volatile CatComputePool movePool;
+    private final ReentrantLock[] gameLocks = new ReentrantLock[LOCK_STRIPES];
+    private volatile Consumer<GameEvent> eventListener;
+    private final Map<String, Published> published = new ConcurrentHashMap<>();
 
     public HexGameService() {
         super(
@@ -24,12 +66,345 @@ public class HexGameService extends GameService<HexPosition> {
             new H2GameRepository(),
             () -> UUID.randomUUID().toString(),
             HexGameBoard::new,
-            id -> new HexGameState(id, HexGameService.lastBoardSize)
+            id -> new HexGameState(id, DEFAULT_BOARD_SIZE)
         );
+        for (int i = 0; i < gameLocks.length; i++) {
+            gameLocks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Los movimientos y consultas de una misma partida van en serie; los de
+     * partidas distintas, en paralelo. No hay lock global: cada partida usa el
+     * lock de la franja de su id. El lock es reentrante, así que se puede
+     * anidar con {@link #withGame}.
+     */
+    @Override
+    protected <R> R runExclusively(String gameId, Supplier<R> action) {
+        ReentrantLock lock = lockFor(gameId);
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Ejecuta la acción con acceso exclusivo a la partida, por ejemplo para armar
+     * una respuesta que no mezcle el estado de dos movimientos concurrentes.
+     */
+    public <R> R withGame(String gameId, Supplier<R> action) {
+        return runExclusively(gameId, action);
+    }
+
+    /**
+     * Como {@link #withGame}, pero en el pool de movimientos y sin bloquear al que llama
+     * (por ejemplo, para liberar el hilo del servlet mientras mueve el gato).
+     * Cancelar el futuro descarta la acción si todavía no empezó; si ya empezó,
+     * cancel devuelve false y el futuro se completa cuando termine.
+     *
+     * Nunca corre en el pool de cálculo: esos hilos no toman locks de partidas. Si
+     * un hilo de cálculo esperara el lock que tiene un /block sincrónico, y ese
+     * /block esperara un hilo de cálculo libre, se bloquearían para siempre.
+     */
+    public <R> CompletableFuture<R> withGameAsync(String gameId, Supplier<R> action) {
+        return movePool().submit(() -> runExclusively(gameId, action));
+    }
+
+    private CatComputePool movePool() {
+        CatComputePool pool = movePool;
+        if (pool == null) {
+            synchronized (this) {
+                if (movePool == null) {
+                    movePool = new CatComputePool(Runtime.getRuntime().availableProcessors(), "cat-move");
+                }
+                pool = movePool;
+            }
+        }
+        return pool;
+    }
+
+    private ReentrantLock lockFor(String gameId) {
+        int hash = gameId.hashCode();
+        return gameLocks[(hash ^ (hash >>> 16)) & (LOCK_STRIPES - 1)];
+    }
+
+    /** Selecciona el algoritmo con el que se moverá el gato en los próximos turnos */
+    public void setCatStrategy(CatStrategyType catStrategy) {
+        this.catStrategy = catStrategy;
+    }
+
+    public CatStrategyType getCatStrategy() {
+        return catStrategy;
+    }
+
+    /** Estrategia que usaría el próximo movimiento: la del selector adaptativo si está activo */
+    private CatStrategyType currentStrategy() {
+        AdaptiveStrategySelector selector = adaptiveSelector;
+        return selector == null ? catStrategy : selector.getCurrentStrategy();
+    }
+
+    /**
+     * Plazo duro por movimiento del gato: la estrategia se envuelve en un
+     * {@link DeadlineCatMovement}. 0 la deja correr sin plazo.
+     */
+    public void setCatDeadlineMillis(long deadlineMillis) {
+        if (deadlineMillis < 0) {
+            throw new IllegalArgumentException("El plazo no puede ser negativo: " + deadlineMillis);
+        }
+        this.catDeadlineMillis = deadlineMillis;
+    }
+
+    public long getCatDeadlineMillis() {
+        return catDeadlineMillis;
+    }
+
+    /** Degrada la estrategia del gato según la carga; null usa siempre la configurada */
+    public void setAdaptiveSelector(AdaptiveStrategySelector adaptiveSelector) {
+        this.adaptiveSelector = adaptiveSelector;
+    }
+
+    public Optional<AdaptiveStrategySelector> getAdaptiveSelector() {
+        return Optional.ofNullable(adaptiveSelector);
+    }
+
+    /** Caché de movimientos del gato; por defecto la compartida por todo el proceso */
+    public void setMoveCache(CatMoveCache moveCache) {
+        this.moveCache = moveCache;
+    }
+
+    public CatMoveCache getMoveCache() {
+        return moveCache;
+    }
+
+    /** Activa la especulación de respuestas del gato mientras el jugador piensa; null la desactiva */
+    public void setSpeculator(CatReplySpeculator speculator) {
+        CatReplySpeculator previous = this.speculator;
+        this.speculator = speculator;
+        if (previous != null && previous != speculator) {
+            previous.shutdown();
+        }
+    }
+
+    public Optional<CatReplySpeculator> getSpeculator() {
+        return Optional.ofNullable(speculator);
+    }
+
+    /**
+     * Calcula el movimiento del gato en un pool acotado en vez de en el hilo de la
+     * petición, que espera bloqueado; null lo calcula en el hilo.
+     */
+    public void setComputePool(CatComputePool computePool) {
+        if (computePool != null && computePool == movePool) {
+            throw new IllegalArgumentException("El pool de cálculo no puede ser el de movimientos asíncronos");
+        }
+        CatComputePool previous = this.computePool;
+        this.computePool = computePool;
+        if (previous != null && previous != computePool) {
+            previous.shutdown();
+        }
+    }
+
+    public Optional<CatComputePool> getComputePool() {
+        return Optional.ofNullable(computePool);
+    }
+
+    /**
+     * Pool donde corren los movimientos de {@link #withGameAsync}; por defecto uno
+     * propio de un hilo por núcleo, creado al primer uso. No puede ser el de cálculo.
+     */
+    public void setMovePool(CatComputePool movePool) {
+        if (movePool != null && movePool == computePool) {
+            throw new IllegalArgumentException("Los movimientos asíncronos no pueden correr en el pool de cálculo");
+        }
+        CatComputePool previous;
+        synchronized (this) {
+            previous = this.movePool;
+            this.movePool = movePool;
+        }
+        if (previous != null && previous != movePool) {
+            previous.shutdown();
+        }
+    }
+
+    /**
+     * Recibe los cambios de las partidas observadas ({@link #watchEvents}) a medida
+     * que pasan; null deja de publicarlos. Se llama con el lock de la partida tomado
+     * y en orden, así que no debe bloquear: a lo sumo encolar.
+     */
+    public void setEventListener(Consumer<GameEvent> eventListener) {
+        this.eventListener = eventListener;
+    }
+
+    /**
+     * Empieza a publicar los cambios de la partida a partir de su estado actual (el
+     * del snapshot que recibe el suscriptor). Cada llamada se cierra con un
+     * {@link #unwatchEvents}: las partidas que nadie mira no guardan nada.
+     */
+    public void watchEvents(HexGameState state) {
+        runExclusively(state.getGameId(), () -> published.compute(state.getGameId(), (id, last) -> {
+            Published watched = last != null ? last : new Published(state);
+            watched.watchers++;
+            return watched;
+        }));
+    }
+
+    /** Cierra un {@link #watchEvents}; con el último deja de seguir la partida */
+    public void unwatchEvents(String gameId) {
+        published.computeIfPresent(gameId, (id, last) -> --last.watchers > 0 ? last : null);
+    }
+
+    /** Tablebase que resuelve las partidas de su tamaño con una consulta, sin búsqueda */
+    public void registerTablebase(EndgameTablebase tablebase) {
+        tablebases.put(tablebase.getBoardSize(), tablebase);
+    }
+
+    /** Registra los tablebases del directorio (tablebase-r{radio}.bin); devuelve cuántos encontró */
+    public int loadTablebases(Path directory) {
+        int loaded = 0;
+        for (int radius = 1; radius <= EndgameTablebase.MAX_RADIUS; radius++) {
+            Path file = directory.resolve(EndgameTablebase.fileName(radius));
+            if (Files.isRegularFile(file)) {
+                registerTablebase(EndgameTablebase.open(file));
+                loaded++;
+            }
+        }
+        return loaded;
+    }
+
+    public Optional<EndgameTablebase> getTablebase(int boardSize) {
+        return Optional.ofNullable(tablebases.get(boardSize));
+    }
+
+    /** Hilos con los que se calculan los movimientos del gato de un lote; por defecto, uno por núcleo */
+    public void setBatchParallelism(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("El paralelismo debe ser positivo: " + parallelism);
+        }
+        ForkJoinPool previous = batchPool;
+        batchPool = new ForkJoinPool(parallelism);
+        if (previous != null) {
+            previous.shutdown();
+        }
+    }
+
+    private ForkJoinPool batchPool() {
+        ForkJoinPool pool = batchPool;
+        if (pool == null) {
+            synchronized (this) {
+                if (batchPool == null) {
+                    batchPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+                }
+                pool = batchPool;
+            }
+        }
+        return pool;
+    }
+
+    /**
+     * Ejecuta muchos movimientos del jugador (con la respuesta del gato) de una vez.
+     *
+     * Los movimientos de una misma partida se aplican en el orden recibido; partidas
+     * distintas se calculan en paralelo, agrupadas por tamaño de tablero para que
+     * cada hilo trabaje seguido sobre la misma topología y los mismos búferes de
+     * búsqueda. Las partidas tocadas se guardan todas juntas en una transacción.
+     *
+     * Devuelve un resultado por movimiento, en el orden recibido; un error en un
+     * movimiento (partida inexistente, muro inválido) no afecta a los demás.
+     */
+    public List<BatchMoveResult> executePlayerMoves(List<BatchMove> moves) {
+        BatchMoveResult[] results = new BatchMoveResult[moves.size()];
+        Map<String, List<Integer>> byGame = new LinkedHashMap<>();
+        for (int i = 0; i < moves.size(); i++) {
+            byGame.computeIfAbsent(moves.get(i).getGameId(), id -> new ArrayList<>()).add(i);
+        }
+
+        List<BatchGame> games = new ArrayList<>(byGame.size());
+        byGame.forEach((gameId, indexes) -> {
+            Optional<GameState<HexPosition>> loaded = loadGameState(gameId);
+            if (loaded.isEmpty()) {
+                indexes.forEach(i -> results[i] = BatchMoveResult.failure(i, gameId, "Partida no encontrada"));
+            } else {
+                games.add(new BatchGame((HexGameState) loaded.get(), indexes));
+            }
+        });
+        games.sort(Comparator.comparingInt(game -> game.state.getGameBoard().getBoardSize()));
+
+        batchPool().submit(() -> games.parallelStream().forEach(game -> game.play(moves, results))).join();
+
+        List<BatchGame> moved = games.stream().filter(game -> game.lastMove != null).toList();
+        gameRepository.executeInTransaction(repository -> {
+            moved.forEach(game -> repository.save(game.state));
+            return moved.size();
+        });
+        moved.forEach(game -> runExclusively(game.state.getGameId(), () -> {
+            onMoveExecuted(game.state, game.lastMove);
+            return null;
+        }));
+        return Arrays.asList(results);
     }
 
-    public void setLastBoardSize(int boardSize) {
-        HexGameService.lastBoardSize = boardSize;
+    /** Lo último que se publicó de una partida observada, y cuántos la miran */
+    private static final class Published {
+        int watchers;
+        int moves;
+        HexPosition cat;
+        GameState.GameStatus status;
+
+        Published(HexGameState state) {
+            this.moves = state.getMoveCount();
+            this.cat = state.getCatPosition();
+            this.status = state.getStatus();
+        }
+    }
+
+    /** Movimientos de una partida dentro de un lote; se juegan en un solo hilo */
+    private final class BatchGame {
+        final HexGameState state;
+        final List<Integer> indexes;
+        HexPosition lastMove;
+
+        BatchGame(HexGameState state, List<Integer> indexes) {
+            this.state = state;
+            this.indexes = indexes;
+        }
+
+        void play(List<BatchMove> moves, BatchMoveResult[] results) {
+            // Con el lock de la partida: un /block concurrente no se intercala con el lote
+            runExclusively(state.getGameId(), () -> {
+                for (int i : indexes) {
+                    HexPosition position = moves.get(i).getPosition();
+                    try {
+                        if (!state.executeMove(position)) {
+                            results[i] = BatchMoveResult.failure(i, state.getGameId(), "Movimiento inválido: " + position);
+                            continue;
+                        }
+                        moveCat(state, false); // ya corre en el pool del lote
+                        lastMove = position;
+                        results[i] = BatchMoveResult.success(i, state);
+                    } catch (RuntimeException e) {
+                        results[i] = BatchMoveResult.failure(i, state.getGameId(), "Error al ejecutar movimiento: " + e.getMessage());
+                    }
+                }
+                return null;
+            });
+        }
+    }
+
+    @Override
+    protected GameBoard<HexPosition> createGameBoard(int size) {
+        if (size < MIN_BOARD_SIZE || size > MAX_BOARD_SIZE) {
+            throw new IllegalArgumentException("El tamaño del tablero debe estar entre "
+                    + MIN_BOARD_SIZE + " y " + MAX_BOARD_SIZE + ": " + size);
+        }
+        return super.createGameBoard(size);
+    }
+
+    /** El tamaño viaja con cada partida: dos /start simultáneos de distinto tamaño no se pisan */
+    @Override
+    protected GameState<HexPosition> createGameState(String gameId, int boardSize) {
+        return new HexGameState(gameId, boardSize);
     }
 
     @Override
@@ -45,11 +420,70 @@ public class HexGameService extends GameService<HexPosition> {
 
     @Override
     protected void executeCatMove(GameState<HexPosition> gs) {
-        HexGameState state = (HexGameState) gs;
+        moveCat((HexGameState) gs, true);
+    }
+
+    /** Mueve el gato; con offload y pool de cálculo configurado, la búsqueda corre en ese pool */
+    private void moveCat(HexGameState state, boolean offload) {
+        if (state.isGameFinished()) {
+            return; // el gato escapó o quedó encerrado con el último muro
+        }
         HexGameBoard board = state.getGameBoard();
 
-        BFSCatMovement strat = new BFSCatMovement(board);
-        Optional<HexPosition> next = strat.findBestMove(state.getCatPosition(), null);
+        HexPosition cat = state.getCatPosition();
+        EndgameTablebase tablebase = tablebases.get(board.getBoardSize());
+        if (tablebase != null) {
+            moveWithTablebase(state, tablebase);
+            return;
+        }
+        CatReplySpeculator speculation = speculator;
+        if (speculation != null) {
+            CatStrategyType expected = currentStrategy();
+            OptionalInt reply = speculation.lookup(state, expected);
+            if (reply.isPresent()) {
+                HexPosition pos = board.positionAt(reply.getAsInt());
+                state.setLastCatSearchStatistics(Map.of("speculated", true, "tier", expected.getConfigName()));
+                state.setCatPosition(pos);
+                onCatMoved(state, pos);
+                return;
+            }
+        }
+        AdaptiveStrategySelector selector = adaptiveSelector;
+        int tier = selector == null ? -1 : selector.beginMove();
+        CatStrategyType strategyType = selector == null ? catStrategy : selector.strategyAt(tier);
+        long deadline = catDeadlineMillis;
+        CatComputePool pool = offload ? computePool : null;
+        long[] computedNanos = {-1}; // queda en -1 si la respuesta sale de la caché
+        boolean[] completed = {true}; // con plazo: si la búsqueda terminó antes de vencer
+        Optional<HexPosition> next;
+        try {
+            next = moveCache.findBestMove(board, cat, strategyType, () -> {
+                long begin = System.nanoTime();
+                CatMovementStrategy<HexPosition> strategy = deadline > 0
+                        ? new DeadlineCatMovement(board, strategyType, deadline)
+                        : strategyType.create(board);
+                // Con el lock de la partida tomado: nadie más toca el tablero mientras el pool calcula
+                Optional<HexPosition> move = pool == null
+                        ? strategy.findBestMove(cat, null)
+                        : pool.compute(() -> strategy.findBestMove(cat, null));
+                computedNanos[0] = System.nanoTime() - begin;
+                if (strategy instanceof DeadlineCatMovement deadlined) {
+                    completed[0] = "completed".equals(deadlined.getLastOutcome());
+                }
+                Map<String, Object> stats = new HashMap<>(searchStatistics(strategy));
+                stats.put("tier", strategyType.getConfigName());
+                state.setLastCatSearchStatistics(stats);
+                return move;
+            }, () -> completed[0]); // las respuestas de emergencia no se guardan
+        } finally {
+            if (selector != null) {
+                if (computedNanos[0] >= 0) {
+                    selector.endMove(tier, computedNanos[0]);
+                } else {
+                    selector.endUncomputedMove(tier);
+                }
+            }
+        }
 
         next.ifPresent(pos -> {
             state.setCatPosition(pos);
@@ -57,9 +491,93 @@ public class HexGameService extends GameService<HexPosition> {
         });
     }
 
+    /** Estadísticas de las estrategias con búsqueda; con plazo, las de la envuelta más el desenlace */
+    private static Map<String, Object> searchStatistics(CatMovementStrategy<HexPosition> strategy) {
+        if (strategy instanceof DeadlineCatMovement deadline) {
+            Map<String, Object> stats = new HashMap<>(
+                    deadline.getLastSearch().map(HexGameService::searchStatistics).orElse(Map.of()));
+            stats.put("deadlineOutcome", deadline.getLastOutcome());
+            return stats;
+        }
+        if (strategy instanceof AlphaBetaCatMovement search) {
+            return search.getSearchStatistics();
+        }
+        if (strategy instanceof MonteCarloCatMovement search) {
+            return search.getSearchStatistics();
+        }
+        return Map.of();
+    }
+
+    /** Juega la victoria si existe; si la posición está perdida, el paso más corto hacia el borde */
+    private void moveWithTablebase(HexGameState state, EndgameTablebase tablebase) {
+        HexGameBoard board = state.getGameBoard();
+        HexPosition cat = state.getCatPosition();
+        int catCell = board.indexOf(cat.getQ(), cat.getR());
+        int next = tablebase.winningCatMove(board, catCell);
+        boolean winning = next >= 0;
+        if (!winning) {
+            next = board.getEscapeField().bestNeighbor(catCell);
+        }
+        state.setLastCatSearchStatistics(Map.of("tablebase", true, "catWins", winning));
+        if (next >= 0) {
+            HexPosition pos = board.positionAt(next);
+            state.setCatPosition(pos);
+            onCatMoved(state, pos);
+        }
+    }
+
+    /** Publica la diferencia con lo último publicado de la partida, en eventos de tamaño fijo */
+    @Override
+    protected void onGameStateChanged(GameState<HexPosition> gs) {
+        Consumer<GameEvent> listener = eventListener;
+        Published last = published.get(gs.getGameId());
+        if (listener == null || last == null) {
+            return;
+        }
+        HexGameState state = (HexGameState) gs;
+        if (state.getMoveCount() != last.moves && state.getLastWall() != null) {
+            listener.accept(GameEvent.wall(state));
+        }
+        if (!state.getCatPosition().equals(last.cat)) {
+            listener.accept(GameEvent.cat(state));
+        }
+        if (state.getStatus() != last.status) {
+            listener.accept(GameEvent.status(state));
+        }
+        if (state.isGameFinished()) {
+            published.remove(state.getGameId());
+        } else {
+            last.moves = state.getMoveCount();
+            last.cat = state.getCatPosition();
+            last.status = state.getStatus();
+        }
+    }
+
+    @Override
+    protected void onGameStarted(GameState<HexPosition> gs) {
+        speculate((HexGameState) gs);
+    }
+
+    @Override
+    protected void onMoveExecuted(GameState<HexPosition> gs, HexPosition position) {
+        speculate((HexGameState) gs);
+    }
+
+    /** Mientras el jugador piensa, calcula las respuestas del gato a sus muros más probables */
+    private void speculate(HexGameState state) {
+        CatReplySpeculator speculation = speculator;
+        if (speculation != null && !tablebases.containsKey(state.getGameBoard().getBoardSize())) {
+            speculation.speculate(state, currentStrategy());
+        }
+    }
+
     @Override
     protected void onGameEnded(GameState<HexPosition> gs) {
         HexGameState state = (HexGameState) gs;
+        CatReplySpeculator speculation = speculator;
+        if (speculation != null) {
+            speculation.forget(state.getGameId());
+        }
         if (state.hasPlayerWon()) {
             System.out.println("¡Ganaste, atrapaste al gato!");
         } else {
@@ -69,13 +587,53 @@ public class HexGameService extends GameService<HexPosition> {
 
     @Override
     protected HexPosition getTargetPosition(GameState<HexPosition> gameState) {
-        // No utilizado por BFSCatMovement
+        // No utilizado: BFS y A* buscan cualquier celda del borde
         return null;
     }
 
+    /** Estadísticas de la partida, apoyadas en el campo de distancias de escape */
     @Override
-    public Object getGameStatistics(String gameId) {
-        return null;
+    public Map<String, Object> getGameStatistics(String gameId) {
+        return runExclusively(gameId, () -> computeGameStatistics(gameId));
+    }
+
+    private Map<String, Object> computeGameStatistics(String gameId) {
+        Optional<GameState<HexPosition>> stateOpt = loadGameState(gameId);
+        if (stateOpt.isEmpty()) {
+            return Map.of("error", "Game not found");
+        }
+        HexGameState state = (HexGameState) stateOpt.get();
+        HexGameBoard board = state.getGameBoard();
+        HexPosition cat = state.getCatPosition();
+        EscapeDistanceField field = board.getEscapeField();
+        int catCell = board.indexOf(cat.getQ(), cat.getR());
+        int escapeDistance = field.distanceAt(catCell);
+
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("gameId", gameId);
+        stats.put("status", state.getStatus().toString());
+        stats.put("boardSize", board.getBoardSize());
+        stats.put("movesCount", state.getMoveCount());
+        stats.put("blockedCells", board.getBlockedCount());
+        stats.put("catPosition", Map.of("q", cat.getQ(), "r", cat.getR()));
+        stats.put("catCanEscape", escapeDistance != EscapeDistanceField.UNREACHABLE);
+        stats.put("catEscapeDistance", escapeDistance == EscapeDistanceField.UNREACHABLE ? -1 : escapeDistance);
+        stats.put("catEscapeRoutes", field.countBestNeighbors(catCell));
+        AdaptiveStrategySelector selector = adaptiveSelector;
+        stats.put("catStrategy", currentStrategy().getConfigName());
+        stats.put("catAdaptive", selector == null ? Map.of("enabled", false) : selector.getStatistics());
+        stats.put("catMoveCache", moveCache.getStatistics());
+        stats.put("catSearch", state.getLastCatSearchStatistics());
+        Map<String, Object> deadlineStats = new HashMap<>(DeadlineCatMovement.getMetrics());
+        deadlineStats.put("deadlineMillis", catDeadlineMillis);
+        stats.put("catDeadline", deadlineStats);
+        CatReplySpeculator speculation = speculator;
+        stats.put("catSpeculation", speculation == null ? Map.of("enabled", false) : speculation.getStatistics());
+        CatComputePool pool = computePool;
+        stats.put("catCompute", pool == null ? Map.of("enabled", false) : pool.getStatistics());
+        CatComputePool moves = movePool;
+        stats.put("asyncMoves", moves == null ? Map.of("enabled", false) : moves.getStatistics());
+        return stats;
     }
 
     @Override
@@ -83,9 +641,26 @@ public class HexGameService extends GameService<HexPosition> {
         return false;
     }
 
+    /**
+     * Sugiere un muro ganador si hay tablebase para el tamaño; si no (o si ya no
+     * hay victoria), la celda del corte mínimo entre el gato y el borde que cruza su camino más corto.
+     */
     @Override
     public Optional<HexPosition> getSuggestedMove(String gameId) {
-        return Optional.empty();
+        return runExclusively(gameId, () -> loadGameState(gameId)
+                .map(HexGameState.class::cast)
+                .filter(state -> !state.isGameFinished())
+                .flatMap(state -> {
+                    HexGameBoard board = state.getGameBoard();
+                    HexPosition cat = state.getCatPosition();
+                    int catCell = board.indexOf(cat.getQ(), cat.getR());
+                    EndgameTablebase tablebase = tablebases.get(board.getBoardSize());
+                    int wall = tablebase == null ? -1 : tablebase.winningWall(board, catCell);
+                    if (wall < 0) {
+                        wall = new MinCutHintEngine(board).suggestWall(catCell);
+                    }
+                    return wall < 0 ? Optional.empty() : Optional.of(board.positionAt(wall));
+                }));
     }
 
     public Optional<GameState<HexPosition>> getGameState(String gameId) {
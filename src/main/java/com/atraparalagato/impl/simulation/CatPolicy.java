@@ -0,0 +1,14 @@
+package com.atraparalagato.impl.simulation;
+
+/**
+ * Gato de la simulación: elige a qué vecino moverse.
+ */
+@FunctionalInterface
+public interface CatPolicy {
+
+    /**
+     * Vecino libre del gato al que se mueve. Al llamarse, la búsqueda ya tiene el
+     * camino más corto al borde desde la posición actual (el gato puede escapar).
+     */
+    int chooseMove(SimulatedGames games, int game, EscapeSearch search);
+}
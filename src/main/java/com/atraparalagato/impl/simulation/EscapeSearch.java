@@ -0,0 +1,157 @@
+package com.atraparalagato.impl.simulation;
+
+import java.util.Arrays;
+
+/**
+ * BFS desde el gato hasta el borde más cercano, paralela por bits sobre el
+ * bitset de una partida simulada.
+ *
+ * Cada capa de la BFS es un bitset: la siguiente sale de correr la actual en
+ * las seis direcciones de {@link SimulationGrid} y quedarse con las celdas
+ * libres no visitadas, 64 celdas por operación y sin ramas por celda. La capa k
+ * está a lo sumo a k filas del gato, así que sólo se recorren esas palabras. Al
+ * tocar el borde se vuelve capa por capa hasta el gato para obtener el primer paso.
+ *
+ * Cada hilo del motor tiene la suya: los arreglos se reutilizan entre búsquedas.
+ */
+public final class EscapeSearch {
+
+    private long[] free = new long[0];
+    private long[] layers = new long[0];
+
+    private int distance = -1;
+    private int firstStep = -1;
+
+    /**
+     * Busca el camino más corto del gato al borde en la partida; devuelve su
+     * largo, o -1 si el gato está encerrado. Deja el primer paso en {@link #firstStep()}.
+     */
+    public int search(SimulatedGames games, int game) {
+        SimulationGrid grid = games.getGrid();
+        int words = grid.getWords();
+        int cat = games.getCatCell(game);
+        distance = -1;
+        firstStep = -1;
+        if (grid.isBorder(cat)) {
+            distance = 0;
+            return 0;
+        }
+        if (free.length < words) {
+            free = new long[words];
+        }
+        for (int w = 0; w < words; w++) {
+            free[w] = grid.inBoardWord(w) & ~games.wallWord(game, w);
+        }
+        free[cat >>> 6] &= ~(1L << cat);
+        ensureLayers(1, words);
+        Arrays.fill(layers, 0, words, 0L);
+        layers[cat >>> 6] = 1L << cat;
+
+        int rowSpan = grid.getStride() + 1; // mayor desplazamiento de una dirección
+        for (int depth = 0; ; depth++) {
+            ensureLayers(depth + 2, words);
+            int current = depth * words;
+            int next = current + words;
+            // La capa se limpia entera (así se puede leer fuera del rango) pero se calcula sólo en el rango
+            Arrays.fill(layers, next, next + words, 0L);
+            int lo = Math.max(0, cat - (depth + 1) * rowSpan) >>> 6;
+            int hi = Math.min(words - 1, (cat + (depth + 1) * rowSpan) >>> 6);
+            for (int d = 0; d < 6; d++) {
+                shiftOr(layers, current, next, grid.offset(d), lo, hi, words);
+            }
+            long any = 0;
+            int borderWord = -1;
+            for (int w = lo; w <= hi; w++) {
+                long cells = layers[next + w] & free[w];
+                layers[next + w] = cells;
+                free[w] &= ~cells;
+                any |= cells;
+                if (borderWord < 0 && (cells & grid.borderWord(w)) != 0) borderWord = w;
+            }
+            if (any == 0) {
+                return -1; // la capa quedó vacía: el gato está encerrado
+            }
+            if (borderWord >= 0) {
+                long hits = layers[next + borderWord] & grid.borderWord(borderWord);
+                return trace(grid, (borderWord << 6) + Long.numberOfTrailingZeros(hits), depth + 1, words);
+            }
+        }
+    }
+
+    /** Primer paso del último camino encontrado, o -1 si no hubo camino */
+    public int firstStep() {
+        return firstStep;
+    }
+
+    /** Largo del último camino encontrado, o -1 si no hubo camino */
+    public int distance() {
+        return distance;
+    }
+
+    /** Vuelve desde la celda del borde (capa depth) por un vecino de cada capa anterior hasta la 1 */
+    private int trace(SimulationGrid grid, int border, int depth, int words) {
+        int cell = border;
+        for (int layer = depth - 1; layer >= 1; layer--) {
+            for (int d = 0; d < 6; d++) {
+                int previous = cell + grid.offset(d);
+                if (previous >= 0 && previous < words << 6
+                        && (layers[layer * words + (previous >>> 6)] & (1L << previous)) != 0) {
+                    cell = previous;
+                    break;
+                }
+            }
+        }
+        firstStep = cell;
+        distance = depth;
+        return depth;
+    }
+
+    /**
+     * bits[next + w] |= bits[current..] corridos shift posiciones (positivo: hacia
+     * índices mayores), para las palabras w en [lo, hi].
+     */
+    private static void shiftOr(long[] bits, int current, int next, int shift, int lo, int hi, int words) {
+        if (shift >= 0) {
+            int wordShift = shift >>> 6, bitShift = shift & 63;
+            int from = Math.max(lo, wordShift);
+            if (bitShift == 0) {
+                for (int w = from; w <= hi; w++) {
+                    bits[next + w] |= bits[current + w - wordShift];
+                }
+                return;
+            }
+            if (from == wordShift && from <= hi) {
+                bits[next + from] |= bits[current] << bitShift;
+                from++;
+            }
+            for (int w = from; w <= hi; w++) {
+                int source = current + w - wordShift;
+                bits[next + w] |= (bits[source] << bitShift) | (bits[source - 1] >>> (64 - bitShift));
+            }
+        } else {
+            int wordShift = -shift >>> 6, bitShift = -shift & 63;
+            int last = words - 1 - wordShift;
+            int to = Math.min(hi, last);
+            if (bitShift == 0) {
+                for (int w = lo; w <= to; w++) {
+                    bits[next + w] |= bits[current + w + wordShift];
+                }
+                return;
+            }
+            if (to == last && to >= lo) {
+                bits[next + to] |= bits[current + words - 1] >>> bitShift;
+                to--;
+            }
+            for (int w = lo; w <= to; w++) {
+                int source = current + w + wordShift;
+                bits[next + w] |= (bits[source] >>> bitShift) | (bits[source + 1] << (64 - bitShift));
+            }
+        }
+    }
+
+    private void ensureLayers(int count, int words) {
+        if (layers.length < count * words) {
+            layers = Arrays.copyOf(layers, Math.max(count * words, 2 * layers.length));
+        }
+    }
+}
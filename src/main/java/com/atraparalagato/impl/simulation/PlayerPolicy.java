@@ -0,0 +1,14 @@
+package com.atraparalagato.impl.simulation;
+
+/**
+ * Jugador de la simulación: elige dónde poner el próximo muro.
+ */
+@FunctionalInterface
+public interface PlayerPolicy {
+
+    /**
+     * Celda libre (sin muro y sin el gato) donde poner el muro de la partida.
+     * La búsqueda es la del hilo que la avanza y puede usarse libremente.
+     */
+    int chooseWall(SimulatedGames games, int game, EscapeSearch search);
+}
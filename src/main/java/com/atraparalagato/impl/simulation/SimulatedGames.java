@@ -0,0 +1,147 @@
+package com.atraparalagato.impl.simulation;
+
+import java.util.Arrays;
+
+/**
+ * Muchas partidas del mismo tamaño guardadas en arreglos primitivos, una
+ * posición por partida (struct-of-arrays): celda del gato, muros como bitset,
+ * cantidad de muros, estado y el generador aleatorio de cada una.
+ *
+ * Las celdas son bits de {@link SimulationGrid}. Los muros de la partida g
+ * ocupan las palabras [g * words, (g + 1) * words) de un único long[]. Cada
+ * partida tiene su propio generador (SplitMix64), así el resultado no depende
+ * de qué hilo la avance.
+ */
+public final class SimulatedGames {
+
+    public static final byte IN_PROGRESS = 0;
+    public static final byte PLAYER_WON = 1;
+    public static final byte PLAYER_LOST = 2;
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final SimulationGrid grid;
+    private final int count;
+    private final int words;
+    private final int startCell;
+
+    private final int[] catCells;
+    private final long[] walls;
+    private final int[] moveCounts;
+    private final byte[] statuses;
+    private final long[] randomStates;
+
+    public SimulatedGames(int boardSize, int count, long seed) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("Se necesita al menos una partida: " + count);
+        }
+        this.grid = SimulationGrid.forSize(boardSize);
+        this.count = count;
+        this.words = grid.getWords();
+        this.startCell = grid.cellAt(0, 0);
+        this.catCells = new int[count];
+        this.walls = new long[count * words];
+        this.moveCounts = new int[count];
+        this.statuses = new byte[count];
+        this.randomStates = new long[count];
+        reset(seed);
+    }
+
+    /** Vuelve todas las partidas al inicio (gato en el centro, sin muros) con generadores nuevos */
+    public void reset(long seed) {
+        Arrays.fill(catCells, startCell);
+        Arrays.fill(walls, 0L);
+        Arrays.fill(moveCounts, 0);
+        Arrays.fill(statuses, IN_PROGRESS);
+        for (int game = 0; game < count; game++) {
+            randomStates[game] = mix(seed + (game + 1) * GOLDEN_GAMMA);
+        }
+    }
+
+    public SimulationGrid getGrid() {
+        return grid;
+    }
+
+    public int getBoardSize() {
+        return grid.getSize();
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public int getCatCell(int game) {
+        return catCells[game];
+    }
+
+    void setCatCell(int game, int cell) {
+        catCells[game] = cell;
+    }
+
+    public boolean isWall(int game, int cell) {
+        return (walls[game * words + (cell >>> 6)] & (1L << cell)) != 0;
+    }
+
+    /** Celda libre: en el tablero, sin muro y sin el gato */
+    public boolean isFree(int game, int cell) {
+        return grid.isInBoard(cell) && cell != catCells[game] && !isWall(game, cell);
+    }
+
+    /** Palabra w del bitset de muros de la partida */
+    long wallWord(int game, int word) {
+        return walls[game * words + word];
+    }
+
+    /** Pone un muro en la celda; cuenta como un movimiento del jugador */
+    public void addWall(int game, int cell) {
+        walls[game * words + (cell >>> 6)] |= 1L << cell;
+        moveCounts[game]++;
+    }
+
+    /** Cantidad de muros que puso el jugador */
+    public int getMoveCount(int game) {
+        return moveCounts[game];
+    }
+
+    public byte getStatus(int game) {
+        return statuses[game];
+    }
+
+    void setStatus(int game, byte status) {
+        statuses[game] = status;
+    }
+
+    /** Entero uniforme en [0, bound) del generador de la partida */
+    public int nextInt(int game, int bound) {
+        long state = randomStates[game] + GOLDEN_GAMMA;
+        randomStates[game] = state;
+        return (int) (((mix(state) >>> 33) * bound) >>> 31);
+    }
+
+    /** Double uniforme en [0, 1) del generador de la partida */
+    public double nextDouble(int game) {
+        long state = randomStates[game] + GOLDEN_GAMMA;
+        randomStates[game] = state;
+        return (mix(state) >>> 11) * 0x1.0p-53;
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /** Resultados de las partidas terminadas */
+    public SimulationSummary summarize() {
+        long playerWins = 0;
+        long catWins = 0;
+        long moves = 0;
+        for (int game = 0; game < count; game++) {
+            if (statuses[game] == IN_PROGRESS) continue;
+            if (statuses[game] == PLAYER_WON) playerWins++;
+            else catWins++;
+            moves += moveCounts[game];
+        }
+        return new SimulationSummary(grid.getSize(), playerWins, catWins, moves);
+    }
+}
@@ -0,0 +1,192 @@
+package com.atraparalagato.impl.simulation;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Motor de simulación masiva sin interfaz: avanza por ticks muchas partidas
+ * guardadas en {@link SimulatedGames}, sin objetos por partida ni por posición.
+ *
+ * En cada tick, cada partida en curso juega un turno completo: muro del jugador,
+ * comprobación de encierro y paso del gato. Las partidas se reparten en tramos
+ * entre los hilos de un ForkJoinPool; cada tramo escribe sólo sus partidas y sus
+ * propios contadores, así que no hay sincronización dentro del tick.
+ *
+ * Ejecutar con:
+ *   java -cp target/classes com.atraparalagato.impl.simulation.SimulationEngine radios partidas salida.csv [hilos] [jugador] [gato]
+ * por ejemplo: 5,9,15 1000000 simulacion.csv 8 blocking:0.2 noisy:0.2
+ */
+public final class SimulationEngine implements AutoCloseable {
+
+    static final int CHUNK = 1_024;
+    private static final int DEFAULT_SLOTS = 65_536;
+    private static final String CSV_HEADER =
+            "radio,tanda,partidas,victorias_jugador,victorias_gato,tasa_victoria_jugador,muros_promedio,turnos_por_segundo";
+    private static final ThreadLocal<EscapeSearch> SEARCHES = ThreadLocal.withInitial(EscapeSearch::new);
+
+    private final PlayerPolicy player;
+    private final CatPolicy cat;
+    private final int parallelism;
+    private final ForkJoinPool pool;
+
+    private long ticks;
+    private long turns;
+    private long elapsedNanos;
+
+    public SimulationEngine(PlayerPolicy player, CatPolicy cat, int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("El paralelismo debe ser positivo: " + parallelism);
+        }
+        this.player = player;
+        this.cat = cat;
+        this.parallelism = parallelism;
+        this.pool = new ForkJoinPool(parallelism);
+    }
+
+    public static void main(String[] args) throws IOException {
+        int[] sizes = Arrays.stream(args[0].split(",")).mapToInt(Integer::parseInt).toArray();
+        long games = Long.parseLong(args[1]);
+        Path output = Path.of(args[2]);
+        int threads = args.length > 3 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+        PlayerPolicy player = SimulationPolicies.playerFromConfigName(args.length > 4 ? args[4] : "blocking:0.2");
+        CatPolicy cat = SimulationPolicies.catFromConfigName(args.length > 5 ? args[5] : "noisy:0.2");
+        try (SimulationEngine engine = new SimulationEngine(player, cat, threads);
+             Writer csv = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+            Map<Integer, SimulationSummary> summaries = engine.simulate(sizes, games, DEFAULT_SLOTS, 1L, csv);
+            summaries.values().forEach(System.out::println);
+            System.out.println("Simulación escrita en " + output + ": " + engine.getStatistics());
+        }
+    }
+
+    /**
+     * Simula gamesPerSize partidas de cada tamaño, en tandas de a lo sumo slots
+     * partidas a la vez, y escribe una fila CSV por tanda a medida que terminan.
+     */
+    public Map<Integer, SimulationSummary> simulate(int[] sizes, long gamesPerSize, int slots, long seed, Writer csv) {
+        Map<Integer, SimulationSummary> summaries = new LinkedHashMap<>();
+        try {
+            csv.write(CSV_HEADER);
+            csv.write('\n');
+            for (int size : sizes) {
+                SimulationSummary total = new SimulationSummary(size, 0, 0, 0);
+                SimulatedGames games = null;
+                int batch = 0;
+                for (long started = 0; started < gamesPerSize; started += games.getCount(), batch++) {
+                    int count = (int) Math.min(slots, gamesPerSize - started);
+                    long batchSeed = seed * 31 + size * 1_000_003L + batch;
+                    if (games == null || games.getCount() != count) {
+                        games = new SimulatedGames(size, count, batchSeed);
+                    } else {
+                        games.reset(batchSeed);
+                    }
+                    long turnsBefore = turns;
+                    long begin = System.nanoTime();
+                    play(games);
+                    double seconds = (System.nanoTime() - begin) / 1e9;
+                    SimulationSummary summary = games.summarize();
+                    total = total.plus(summary);
+                    csv.write(String.format(Locale.ROOT, "%d,%d,%d,%d,%d,%.6f,%.4f,%.0f%n", size, batch,
+                            summary.getGames(), summary.getPlayerWins(), summary.getCatWins(),
+                            summary.getPlayerWinRate(), summary.getAverageMoves(), (turns - turnsBefore) / seconds));
+                    csv.flush();
+                }
+                summaries.put(size, total);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo escribir el CSV de la simulación", e);
+        }
+        return summaries;
+    }
+
+    /** Avanza todas las partidas hasta que terminen; devuelve la cantidad de ticks */
+    public int play(SimulatedGames games) {
+        int played = 0;
+        int active;
+        do {
+            active = tick(games);
+            played++;
+        } while (active > 0);
+        return played;
+    }
+
+    /** Un turno de cada partida en curso; devuelve cuántas siguen en curso */
+    public int tick(SimulatedGames games) {
+        long begin = System.nanoTime();
+        int chunks = (games.getCount() + CHUNK - 1) / CHUNK;
+        int[] active = new int[chunks];
+        int[] played = new int[chunks];
+        if (chunks == 1 || parallelism == 1) {
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                advance(games, chunk, active, played);
+            }
+        } else {
+            pool.submit(() -> IntStream.range(0, chunks).parallel()
+                    .forEach(chunk -> advance(games, chunk, active, played))).join();
+        }
+        ticks++;
+        turns += Arrays.stream(played).sum();
+        elapsedNanos += System.nanoTime() - begin;
+        return Arrays.stream(active).sum();
+    }
+
+    private void advance(SimulatedGames games, int chunk, int[] active, int[] played) {
+        SimulationGrid grid = games.getGrid();
+        EscapeSearch search = SEARCHES.get();
+        int from = chunk * CHUNK;
+        int to = Math.min(games.getCount(), from + CHUNK);
+        int stillActive = 0;
+        int turnsPlayed = 0;
+        for (int game = from; game < to; game++) {
+            if (games.getStatus(game) != SimulatedGames.IN_PROGRESS) continue;
+            int wall = player.chooseWall(games, game, search);
+            if (wall < 0 || !games.isFree(game, wall)) {
+                throw new IllegalStateException("El jugador eligió una celda ocupada: " + wall);
+            }
+            games.addWall(game, wall);
+            turnsPlayed++;
+            if (search.search(games, game) < 0) {
+                games.setStatus(game, SimulatedGames.PLAYER_WON);
+                continue;
+            }
+            int next = cat.chooseMove(games, game, search);
+            if (next < 0 || !games.isFree(game, next)) {
+                throw new IllegalStateException("El gato eligió una celda ocupada: " + next);
+            }
+            games.setCatCell(game, next);
+            if (grid.isBorder(next)) {
+                games.setStatus(game, SimulatedGames.PLAYER_LOST);
+            } else {
+                stillActive++;
+            }
+        }
+        active[chunk] = stillActive;
+        played[chunk] = turnsPlayed;
+    }
+
+    /** Ticks, turnos y turnos por segundo acumulados */
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("threads", parallelism);
+        stats.put("ticks", ticks);
+        stats.put("turns", turns);
+        stats.put("elapsedMillis", elapsedNanos / 1_000_000);
+        stats.put("turnsPerSecond", elapsedNanos == 0 ? 0.0 : turns / (elapsedNanos / 1e9));
+        return stats;
+    }
+
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+}
@@ -0,0 +1,134 @@
+package com.atraparalagato.impl.simulation;
+
+import com.atraparalagato.impl.model.HexBoardTopology;
+import com.atraparalagato.impl.model.HexPosition;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Disposición en bits de un tablero para la simulación: filas r de ancho
+ * 2 * radio + 2, celda (q, r) en el bit (r + radio) * ancho + (q + radio).
+ *
+ * A diferencia de la indexación densa de {@link HexBoardTopology}, acá cada
+ * dirección es un desplazamiento fijo (±1, ±ancho, ±(ancho - 1)), así un
+ * conjunto de celdas se expande a todos sus vecinos con seis corrimientos del
+ * bitset. La columna extra queda siempre fuera del tablero: un corrimiento que
+ * se pasa de una fila cae ahí y la máscara del tablero lo descarta.
+ */
+public final class SimulationGrid {
+
+    private static final Map<Integer, SimulationGrid> CACHE = new ConcurrentHashMap<>();
+
+    private final int size;
+    private final int stride;
+    private final int bits;
+    private final int words;
+    private final int cellCount;
+    private final int[] offsets;
+    private final long[] inBoard;
+    private final long[] border;
+
+    /** Devuelve la disposición compartida para el radio indicado */
+    public static SimulationGrid forSize(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("El radio del tablero no puede ser negativo: " + size);
+        }
+        return CACHE.computeIfAbsent(size, SimulationGrid::new);
+    }
+
+    private SimulationGrid(int size) {
+        this.size = size;
+        this.stride = 2 * size + 2;
+        this.bits = (2 * size + 1) * stride;
+        this.words = (bits + 63) >>> 6;
+        this.offsets = new int[HexBoardTopology.DIRECTIONS.length];
+        for (int d = 0; d < offsets.length; d++) {
+            offsets[d] = HexBoardTopology.DIRECTIONS[d][0] + HexBoardTopology.DIRECTIONS[d][1] * stride;
+        }
+        this.inBoard = new long[words];
+        this.border = new long[words];
+        int cells = 0;
+        for (int r = -size; r <= size; r++) {
+            for (int q = -size; q <= size; q++) {
+                int s = -q - r;
+                if (Math.abs(s) > size) continue;
+                int cell = cellAt(q, r);
+                inBoard[cell >>> 6] |= 1L << cell;
+                cells++;
+                if (Math.abs(q) == size || Math.abs(r) == size || Math.abs(s) == size) {
+                    border[cell >>> 6] |= 1L << cell;
+                }
+            }
+        }
+        this.cellCount = cells;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    /** Cantidad de celdas del tablero (sin contar las posiciones de relleno) */
+    public int getCellCount() {
+        return cellCount;
+    }
+
+    /** Ancho de una fila en bits (con la columna de relleno) */
+    public int getStride() {
+        return stride;
+    }
+
+    /** Posiciones de bit, contando las de relleno: las celdas son [0, bits) */
+    public int getBits() {
+        return bits;
+    }
+
+    /** Palabras de 64 bits por tablero */
+    public int getWords() {
+        return words;
+    }
+
+    /** Bit de la celda (q, r); no comprueba que esté en el tablero */
+    public int cellAt(int q, int r) {
+        return (r + size) * stride + (q + size);
+    }
+
+    public int getQ(int cell) {
+        return cell % stride - size;
+    }
+
+    public int getR(int cell) {
+        return cell / stride - size;
+    }
+
+    public HexPosition positionAt(int cell) {
+        return new HexPosition(getQ(cell), getR(cell));
+    }
+
+    public boolean isInBoard(int cell) {
+        return cell >= 0 && cell < bits && (inBoard[cell >>> 6] & (1L << cell)) != 0;
+    }
+
+    public boolean isBorder(int cell) {
+        return (border[cell >>> 6] & (1L << cell)) != 0;
+    }
+
+    /** Vecino de la celda en la dirección d de {@link HexBoardTopology#DIRECTIONS}, o -1 si cae fuera */
+    public int neighbor(int cell, int direction) {
+        int next = cell + offsets[direction];
+        return isInBoard(next) ? next : -1;
+    }
+
+    /** Desplazamiento de bits de la dirección d */
+    int offset(int direction) {
+        return offsets[direction];
+    }
+
+    long inBoardWord(int word) {
+        return inBoard[word];
+    }
+
+    long borderWord(int word) {
+        return border[word];
+    }
+}
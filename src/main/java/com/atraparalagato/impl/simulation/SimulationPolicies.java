@@ -0,0 +1,83 @@
+package com.atraparalagato.impl.simulation;
+
+/**
+ * Jugadores y gatos predefinidos para la simulación.
+ */
+public final class SimulationPolicies {
+
+    private SimulationPolicies() {
+    }
+
+    /** Gato que siempre da el primer paso del camino más corto al borde */
+    public static CatPolicy shortestPathCat() {
+        return (games, game, search) -> search.firstStep();
+    }
+
+    /** Camino más corto, salvo que con probabilidad noise se mueve a un vecino libre al azar */
+    public static CatPolicy noisyCat(double noise) {
+        return (games, game, search) -> noise > 0 && games.nextDouble(game) < noise
+                ? randomFreeNeighbor(games, game, search.firstStep())
+                : search.firstStep();
+    }
+
+    /** Jugador que pone cada muro en una celda libre al azar */
+    public static PlayerPolicy randomPlayer() {
+        return SimulationPolicies::randomFreeCell;
+    }
+
+    /**
+     * Jugador que bloquea el próximo paso del gato; con probabilidad noise pone
+     * el muro en un vecino libre del gato al azar.
+     */
+    public static PlayerPolicy blockingPlayer(double noise) {
+        return (games, game, search) -> {
+            if (search.search(games, game) <= 0) {
+                return randomFreeCell(games, game, search);
+            }
+            return noise > 0 && games.nextDouble(game) < noise
+                    ? randomFreeNeighbor(games, game, search.firstStep())
+                    : search.firstStep();
+        };
+    }
+
+    /** Por nombre de configuración: random, blocking o blocking:ruido */
+    public static PlayerPolicy playerFromConfigName(String name) {
+        if (name.equals("random")) return randomPlayer();
+        if (name.equals("blocking")) return blockingPlayer(0);
+        if (name.startsWith("blocking:")) return blockingPlayer(Double.parseDouble(name.substring(9)));
+        throw new IllegalArgumentException("Jugador simulado desconocido: " + name);
+    }
+
+    /** Por nombre de configuración: shortest o noisy:ruido */
+    public static CatPolicy catFromConfigName(String name) {
+        if (name.equals("shortest")) return shortestPathCat();
+        if (name.startsWith("noisy:")) return noisyCat(Double.parseDouble(name.substring(6)));
+        throw new IllegalArgumentException("Gato simulado desconocido: " + name);
+    }
+
+    private static int randomFreeNeighbor(SimulatedGames games, int game, int fallback) {
+        SimulationGrid grid = games.getGrid();
+        int cat = games.getCatCell(game);
+        int offset = games.nextInt(game, 6);
+        for (int i = 0; i < 6; i++) {
+            int cell = grid.neighbor(cat, (offset + i) % 6);
+            if (cell >= 0 && games.isFree(game, cell)) return cell;
+        }
+        return fallback;
+    }
+
+    /** Muestreo por rechazo (también descarta el relleno); si no hay suerte, la primera libre desde un punto al azar */
+    private static int randomFreeCell(SimulatedGames games, int game, EscapeSearch search) {
+        int cells = games.getGrid().getBits();
+        for (int attempt = 0; attempt < 16; attempt++) {
+            int cell = games.nextInt(game, cells);
+            if (games.isFree(game, cell)) return cell;
+        }
+        int offset = games.nextInt(game, cells);
+        for (int i = 0; i < cells; i++) {
+            int cell = (offset + i) % cells;
+            if (games.isFree(game, cell)) return cell;
+        }
+        return -1;
+    }
+}
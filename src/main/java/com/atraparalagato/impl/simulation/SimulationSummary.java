@@ -0,0 +1,61 @@
+package com.atraparalagato.impl.simulation;
+
+/**
+ * Resultados acumulados de partidas simuladas de un tamaño de tablero.
+ */
+public final class SimulationSummary {
+
+    private final int boardSize;
+    private final long playerWins;
+    private final long catWins;
+    private final long moves;
+
+    public SimulationSummary(int boardSize, long playerWins, long catWins, long moves) {
+        this.boardSize = boardSize;
+        this.playerWins = playerWins;
+        this.catWins = catWins;
+        this.moves = moves;
+    }
+
+    public SimulationSummary plus(SimulationSummary other) {
+        if (other.boardSize != boardSize) {
+            throw new IllegalArgumentException("No se pueden sumar tamaños distintos: " + boardSize + " y " + other.boardSize);
+        }
+        return new SimulationSummary(boardSize, playerWins + other.playerWins, catWins + other.catWins, moves + other.moves);
+    }
+
+    public int getBoardSize() {
+        return boardSize;
+    }
+
+    public long getGames() {
+        return playerWins + catWins;
+    }
+
+    public long getPlayerWins() {
+        return playerWins;
+    }
+
+    public long getCatWins() {
+        return catWins;
+    }
+
+    /** Muros colocados en total (un turno por muro) */
+    public long getMoves() {
+        return moves;
+    }
+
+    public double getPlayerWinRate() {
+        return getGames() == 0 ? 0.0 : (double) playerWins / getGames();
+    }
+
+    public double getAverageMoves() {
+        return getGames() == 0 ? 0.0 : (double) moves / getGames();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("radio %d: %d partidas, %.1f%% ganadas por el jugador, %.2f muros por partida",
+                boardSize, getGames(), 100 * getPlayerWinRate(), getAverageMoves());
+    }
+}
@@ -0,0 +1,216 @@
+package com.atraparalagato.impl.solver;
+
+import com.atraparalagato.impl.model.HexBoardTopology;
+import com.atraparalagato.impl.model.HexGameBoard;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Tablero resuelto: para cada posición canónica (muros, gato) con el gato por
+ * mover, si el gato puede escapar contra cualquier jugada del jugador.
+ *
+ * El archivo lo genera {@link TablebaseGenerator} y se lee mapeado en memoria.
+ * Formato (enteros big-endian):
+ * - cabecera: MAGIC, VERSION, radio, celdas, cantidad de máscaras canónicas,
+ * - máscaras de muros canónicas, ordenadas (bit i = celda de índice i),
+ * - por máscara, un bit por celda del gato: 1 si el gato gana moviendo desde ahí.
+ *   Las celdas con muro y las del borde valen 1.
+ *
+ * Una posición se lleva a la canónica con la simetría que da la menor máscara;
+ * el gato se transforma con la misma simetría.
+ */
+public final class EndgameTablebase {
+
+    static final int MAGIC = 0x41544742; // "ATGB"
+    static final int VERSION = 1;
+    static final int HEADER_INTS = 5;
+
+    /** Radio máximo resoluble: con 37 celdas (radio 3) ya son 2^37 conjuntos de muros */
+    public static final int MAX_RADIUS = 2;
+
+    private final HexBoardTopology topology;
+    private final int[][] symmetries;
+    private final IntBuffer masks;
+    private final IntBuffer values;
+    private final int canonicalCount;
+
+    private EndgameTablebase(HexBoardTopology topology, IntBuffer masks, IntBuffer values, int canonicalCount) {
+        this.topology = topology;
+        this.symmetries = symmetryPermutations(topology);
+        this.masks = masks;
+        this.values = values;
+        this.canonicalCount = canonicalCount;
+    }
+
+    /** Nombre de archivo convencional para un radio */
+    public static String fileName(int radius) {
+        return "tablebase-r" + radius + ".bin";
+    }
+
+    /** Abre un archivo generado, mapeándolo en memoria de sólo lectura */
+    public static EndgameTablebase open(Path file) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            IntBuffer ints = buffer.asIntBuffer();
+            if (ints.limit() < HEADER_INTS || ints.get(0) != MAGIC || ints.get(1) != VERSION) {
+                throw new IllegalArgumentException("No es un tablebase válido: " + file);
+            }
+            int radius = ints.get(2);
+            HexBoardTopology topology = HexBoardTopology.forSize(radius);
+            int count = ints.get(4);
+            if (ints.get(3) != topology.getCellCount() || ints.limit() != HEADER_INTS + 2 * count) {
+                throw new IllegalArgumentException("Tablebase truncado o de otro tablero: " + file);
+            }
+            IntBuffer masks = slice(ints, HEADER_INTS, count);
+            IntBuffer values = slice(ints, HEADER_INTS + count, count);
+            return new EndgameTablebase(topology, masks, values, count);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo abrir el tablebase " + file, e);
+        }
+    }
+
+    private static IntBuffer slice(IntBuffer ints, int from, int length) {
+        IntBuffer view = ints.duplicate();
+        view.position(from).limit(from + length);
+        return view.slice();
+    }
+
+    public int getBoardSize() {
+        return topology.getSize();
+    }
+
+    public int getCanonicalCount() {
+        return canonicalCount;
+    }
+
+    /** Bytes del archivo mapeado */
+    public long getSizeBytes() {
+        return 4L * (HEADER_INTS + 2L * canonicalCount);
+    }
+
+    /** Si el gato, por mover en la celda cat, escapa juegue lo que juegue el jugador */
+    public boolean catWins(HexGameBoard board, int cat) {
+        return catWins(wallMask(board), cat);
+    }
+
+    boolean catWins(int walls, int cat) {
+        int best = Integer.MAX_VALUE;
+        int bestCat = cat;
+        for (int[] permutation : symmetries) {
+            int transformed = transform(walls, permutation);
+            if (Integer.compareUnsigned(transformed, best) < 0) {
+                best = transformed;
+                bestCat = permutation[cat];
+            }
+        }
+        int slot = find(best);
+        if (slot < 0) {
+            throw new IllegalStateException("Posición fuera del tablebase: " + Integer.toBinaryString(walls));
+        }
+        return (values.get(slot) >>> bestCat & 1) != 0;
+    }
+
+    /**
+     * Movimiento del gato (índice de celda) que conserva la victoria, o -1 si no
+     * hay ninguno: la posición está perdida o el gato no tiene vecinos libres.
+     */
+    public int winningCatMove(HexGameBoard board, int cat) {
+        int walls = wallMask(board);
+        int free = ~walls & fullMask(topology);
+        for (int k = topology.neighborsStart(cat); k < topology.neighborsEnd(cat); k++) {
+            int n = topology.neighbor(k);
+            if ((walls >>> n & 1) == 0 && topology.isBorder(n)) return n;
+        }
+        for (int k = topology.neighborsStart(cat); k < topology.neighborsEnd(cat); k++) {
+            int n = topology.neighbor(k);
+            if ((walls >>> n & 1) != 0) continue;
+            boolean survives = true;
+            for (int w = 0; w < topology.getCellCount() && survives; w++) {
+                if ((free >>> w & 1) != 0 && w != n) {
+                    survives = catWins(walls | 1 << w, n);
+                }
+            }
+            if (survives) return n;
+        }
+        return -1;
+    }
+
+    /** Muro (índice de celda) con el que el jugador se asegura atrapar al gato, o -1 si no existe */
+    public int winningWall(HexGameBoard board, int cat) {
+        int walls = wallMask(board);
+        for (int w = 0; w < topology.getCellCount(); w++) {
+            if ((walls >>> w & 1) == 0 && w != cat && !catWins(walls | 1 << w, cat)) return w;
+        }
+        return -1;
+    }
+
+    private int find(int mask) {
+        int low = 0, high = canonicalCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = Integer.compareUnsigned(masks.get(mid), mask);
+            if (cmp < 0) low = mid + 1;
+            else if (cmp > 0) high = mid - 1;
+            else return mid;
+        }
+        return -1;
+    }
+
+    private int wallMask(HexGameBoard board) {
+        if (board.getBoardSize() != topology.getSize()) {
+            throw new IllegalArgumentException("El tablebase es de radio " + topology.getSize()
+                    + " y el tablero de radio " + board.getBoardSize());
+        }
+        int walls = 0;
+        for (int cell = 0; cell < topology.getCellCount(); cell++) {
+            if (board.isBlockedIndex(cell)) walls |= 1 << cell;
+        }
+        return walls;
+    }
+
+    static int fullMask(HexBoardTopology topology) {
+        return topology.getCellCount() == 32 ? -1 : (1 << topology.getCellCount()) - 1;
+    }
+
+    /** Permutación de celdas de cada una de las 12 simetrías */
+    static int[][] symmetryPermutations(HexBoardTopology topology) {
+        int[][] permutations = new int[HexBoardTopology.SYMMETRY_COUNT][topology.getCellCount()];
+        for (int g = 0; g < permutations.length; g++) {
+            for (int cell = 0; cell < topology.getCellCount(); cell++) {
+                permutations[g][cell] = topology.transform(g, cell);
+            }
+        }
+        return permutations;
+    }
+
+    static int transform(int mask, int[] permutation) {
+        int result = 0;
+        for (int bits = mask; bits != 0; bits &= bits - 1) {
+            result |= 1 << permutation[Integer.numberOfTrailingZeros(bits)];
+        }
+        return result;
+    }
+
+    /** Menor máscara entre las 12 imágenes simétricas */
+    static int canonical(int mask, int[][] permutations) {
+        int best = mask;
+        for (int[] permutation : permutations) {
+            int transformed = transform(mask, permutation);
+            if (Integer.compareUnsigned(transformed, best) < 0) best = transformed;
+        }
+        return best;
+    }
+
+    static ByteBuffer header(int radius, int cellCount, int canonicalCount) {
+        ByteBuffer header = ByteBuffer.allocate(4 * HEADER_INTS);
+        header.putInt(MAGIC).putInt(VERSION).putInt(radius).putInt(cellCount).putInt(canonicalCount);
+        return header.flip();
+    }
+}
@@ -0,0 +1,243 @@
+package com.atraparalagato.impl.solver;
+
+import com.atraparalagato.impl.model.HexBoardTopology;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Resuelve por análisis retrógrado todas las posiciones de un tablero pequeño.
+ *
+ * Los muros sólo se agregan, así que una posición con k muros depende únicamente
+ * de posiciones con k + 1. Se resuelve por niveles, de todas las celdas tapiadas
+ * hasta ninguna; dentro de un nivel cada máscara es independiente y se reparte
+ * entre los hilos del pool.
+ *
+ * table[muros] tiene un bit por celda: 1 si el gato, por mover ahí, escapa contra
+ * cualquier defensa. Con S = AND de table[muros + w] sobre los muros libres w
+ * (las celdas que quedan seguras después de cualquier muro), el gato en c gana
+ * si tiene un vecino libre en el borde o un vecino libre marcado en S.
+ *
+ * Después de cada nivel se guarda un checkpoint, así una generación cortada se
+ * retoma desde el último nivel completo.
+ *
+ * Ejecutar con:
+ *   java -cp target/classes com.atraparalagato.impl.solver.TablebaseGenerator radio [directorio] [hilos]
+ */
+public final class TablebaseGenerator {
+
+    private static final int CHECKPOINT_MAGIC = 0x41544743; // "ATGC"
+    private static final int CHECKPOINT_HEADER_BYTES = 20; // magic, radio, nivel, posiciones resueltas
+
+    private final HexBoardTopology topology;
+    private final int cellCount;
+    private final int fullMask;
+    private final int borderMask;
+    private final int[] neighborMask;
+    private final int parallelism;
+    private final Path checkpoint;
+    private final int[] table;
+
+    /** Próximo nivel (cantidad de muros) a resolver; -1 cuando terminó */
+    private int nextLevel;
+    private long solvedStates;
+    private long elapsedNanos;
+
+    /**
+     * @param checkpoint archivo de checkpoint; si existe se retoma desde él, null para no guardar
+     */
+    public TablebaseGenerator(int radius, int parallelism, Path checkpoint) {
+        if (radius < 1 || radius > EndgameTablebase.MAX_RADIUS) {
+            throw new IllegalArgumentException("Sólo se pueden resolver radios de 1 a " + EndgameTablebase.MAX_RADIUS
+                    + ": con radio " + radius + " hay " + HexBoardTopology.forSize(radius).getCellCount()
+                    + " celdas y 2^celdas conjuntos de muros");
+        }
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("El paralelismo debe ser positivo: " + parallelism);
+        }
+        this.topology = HexBoardTopology.forSize(radius);
+        this.cellCount = topology.getCellCount();
+        this.fullMask = EndgameTablebase.fullMask(topology);
+        this.parallelism = parallelism;
+        this.checkpoint = checkpoint;
+        this.neighborMask = new int[cellCount];
+        int border = 0;
+        for (int cell = 0; cell < cellCount; cell++) {
+            if (topology.isBorder(cell)) border |= 1 << cell;
+            for (int k = topology.neighborsStart(cell); k < topology.neighborsEnd(cell); k++) {
+                neighborMask[cell] |= 1 << topology.neighbor(k);
+            }
+        }
+        this.borderMask = border;
+        this.table = new int[1 << cellCount];
+        this.nextLevel = cellCount;
+        if (checkpoint != null && Files.exists(checkpoint)) {
+            restore();
+        }
+    }
+
+    public static void main(String[] args) {
+        int radius = Integer.parseInt(args[0]);
+        Path directory = Path.of(args.length > 1 ? args[1] : ".");
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        Path checkpoint = directory.resolve(EndgameTablebase.fileName(radius) + ".checkpoint");
+        TablebaseGenerator generator = new TablebaseGenerator(radius, threads, checkpoint);
+        Path output = generator.generate(directory.resolve(EndgameTablebase.fileName(radius)));
+        System.out.println("Tablebase generado en " + output + ": " + generator.getStatistics());
+    }
+
+    public boolean isComplete() {
+        return nextLevel < 0;
+    }
+
+    /**
+     * Resuelve como mucho maxLevels niveles más, guardando checkpoint después de cada uno.
+     * Devuelve true si la tabla quedó completa.
+     */
+    public boolean solveLevels(int maxLevels) {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            for (int done = 0; done < maxLevels && nextLevel >= 0; done++) {
+                long start = System.nanoTime();
+                int level = nextLevel;
+                long states = pool.submit(() -> IntStream.range(0, table.length)
+                        .parallel()
+                        .filter(mask -> Integer.bitCount(mask) == level)
+                        .mapToLong(this::solve)
+                        .sum()).join();
+                solvedStates += states;
+                nextLevel--;
+                elapsedNanos += System.nanoTime() - start;
+                if (checkpoint != null) {
+                    saveCheckpoint();
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+        return isComplete();
+    }
+
+    /** Termina la resolución y escribe el archivo; borra el checkpoint al final */
+    public Path generate(Path output) {
+        solveLevels(Integer.MAX_VALUE);
+        write(output);
+        if (checkpoint != null) {
+            try {
+                Files.deleteIfExists(checkpoint);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return output;
+    }
+
+    /** Resuelve una máscara de muros y devuelve cuántas posiciones del gato evaluó */
+    private long solve(int walls) {
+        int free = ~walls & fullMask;
+        int safe = -1;
+        for (int bits = free; bits != 0; bits &= bits - 1) {
+            safe &= table[walls | Integer.lowestOneBit(bits)];
+        }
+        // Celdas a las que conviene moverse: borde (escape inmediato) o seguras tras cualquier muro
+        int good = free & (borderMask | safe);
+        int value = walls | borderMask;
+        long states = 0;
+        for (int bits = free & ~borderMask; bits != 0; bits &= bits - 1) {
+            int cat = Integer.numberOfTrailingZeros(bits);
+            if ((neighborMask[cat] & good) != 0) value |= 1 << cat;
+            states++;
+        }
+        table[walls] = value;
+        return states;
+    }
+
+    /** Escribe sólo las máscaras canónicas, ordenadas, con sus valores */
+    private void write(Path output) {
+        if (!isComplete()) {
+            throw new IllegalStateException("La tabla todavía no está resuelta");
+        }
+        int[][] permutations = EndgameTablebase.symmetryPermutations(topology);
+        int[] canonical = IntStream.range(0, table.length)
+                .filter(mask -> EndgameTablebase.canonical(mask, permutations) == mask)
+                .toArray(); // ya ordenadas (las máscaras son no negativas)
+        ByteBuffer body = ByteBuffer.allocate(8 * canonical.length);
+        IntBuffer ints = body.asIntBuffer();
+        ints.put(canonical);
+        for (int mask : canonical) {
+            ints.put(table[mask]);
+        }
+        writeAtomically(output, EndgameTablebase.header(topology.getSize(), cellCount, canonical.length), body);
+    }
+
+    private void saveCheckpoint() {
+        ByteBuffer header = ByteBuffer.allocate(CHECKPOINT_HEADER_BYTES);
+        header.putInt(CHECKPOINT_MAGIC).putInt(topology.getSize()).putInt(nextLevel).putLong(solvedStates);
+        ByteBuffer body = ByteBuffer.allocate(4 * table.length);
+        body.asIntBuffer().put(table);
+        writeAtomically(checkpoint, header.flip(), body);
+    }
+
+    private void restore() {
+        try (FileChannel channel = FileChannel.open(checkpoint, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // leer todo el archivo
+            }
+            buffer.flip();
+            if (buffer.remaining() != CHECKPOINT_HEADER_BYTES + 4 * table.length || buffer.getInt() != CHECKPOINT_MAGIC
+                    || buffer.getInt() != topology.getSize()) {
+                throw new IllegalArgumentException("Checkpoint inválido o de otro radio: " + checkpoint);
+            }
+            nextLevel = buffer.getInt();
+            solvedStates = buffer.getLong();
+            buffer.asIntBuffer().get(table);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo leer el checkpoint " + checkpoint, e);
+        }
+    }
+
+    /** Escribe a un temporal y lo renombra, para no dejar archivos a medias */
+    private static void writeAtomically(Path target, ByteBuffer header, ByteBuffer body) {
+        try {
+            Path absolute = target.toAbsolutePath();
+            Files.createDirectories(absolute.getParent());
+            Path temporary = absolute.resolveSibling(absolute.getFileName() + ".tmp");
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (header.hasRemaining()) channel.write(header);
+                while (body.hasRemaining()) channel.write(body);
+            }
+            Files.move(temporary, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo escribir " + target, e);
+        }
+    }
+
+    /** Progreso y memoria de la generación */
+    public Map<String, Object> getStatistics() {
+        Runtime runtime = Runtime.getRuntime();
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("radius", topology.getSize());
+        stats.put("cells", cellCount);
+        stats.put("levelsSolved", cellCount - nextLevel);
+        stats.put("levels", cellCount + 1);
+        stats.put("solvedStates", solvedStates);
+        stats.put("tableBytes", 4L * table.length);
+        stats.put("heapUsedBytes", runtime.totalMemory() - runtime.freeMemory());
+        stats.put("elapsedMillis", elapsedNanos / 1_000_000);
+        stats.put("threads", parallelism);
+        return stats;
+    }
+}
@@ -2,9 +2,13 @@ package com.atraparalagato.impl.strategy;
 
 import com.atraparalagato.base.model.GameBoard;
 import com.atraparalagato.base.strategy.CatMovementStrategy;
+import com.atraparalagato.impl.model.EscapeDistanceField;
+import com.atraparalagato.impl.model.HexBoardTopology;
+import com.atraparalagato.impl.model.HexGameBoard;
 import com.atraparalagato.impl.model.HexPosition;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
@@ -29,6 +33,8 @@ import java.util.function.Predicate;
  */
 public class AStarCatMovement extends CatMovementStrategy<HexPosition> {
 
+    private int expandedNodes;
+
     public AStarCatMovement(GameBoard<HexPosition> board) {
         super(board);
     }
@@ -39,6 +45,9 @@ public class AStarCatMovement extends CatMovementStrategy<HexPosition> {
      */
     @Override
     protected List<HexPosition> getPossibleMoves(HexPosition current) {
+        if (board instanceof HexGameBoard hexBoard) {
+            return hexBoard.getFreeNeighbors(current);
+        }
     return board.getAdjacentPositions(current).stream()
                 .filter(p -> !board.isBlocked(p))
                 .toList();
@@ -51,7 +60,8 @@ public class AStarCatMovement extends CatMovementStrategy<HexPosition> {
     protected Optional<HexPosition> selectBestMove(List<HexPosition> possibleMoves, 
                                                    HexPosition currentPosition, 
                                                    HexPosition targetPosition) {
-        return possibleMoves.isEmpty() ? Optional.empty() : Optional.of(possibleMoves.get(0));
+        List<HexPosition> path = getFullPath(currentPosition, targetPosition);
+        return path.size() >= 2 ? Optional.of(path.get(1)) : Optional.empty();
     }
 
     /**
@@ -61,8 +71,9 @@ public class AStarCatMovement extends CatMovementStrategy<HexPosition> {
      */
     @Override
     protected Function<HexPosition, Double> getHeuristicFunction(HexPosition target) {
-    return pos -> pos.distanceTo(target);
+        return pos -> (double) borderDistance(pos);
     }
+
     /**
      * Predicado para determinar si una posición es un objetivo válido.
      * Ejemplo: posiciones en el borde del tablero para escapar.
@@ -85,21 +96,98 @@ public class AStarCatMovement extends CatMovementStrategy<HexPosition> {
     }
 
     /**
-     * Verifica si existe un camino desde la posición actual hasta el objetivo.
-     * Los estudiantes pueden implementar diferentes algoritmos de pathfinding.
+     * Verifica si existe un camino desde la posición actual hasta el borde.
+     * No hace falta buscar: alcanza con consultar el campo de escape del tablero.
      */
     @Override
     public boolean hasPathToGoal(HexPosition currentPosition) {
-        return false;
+        return board instanceof HexGameBoard hexBoard
+                && hexBoard.getEscapeField().distanceAt(currentPosition) != EscapeDistanceField.UNREACHABLE;
     }
 
     /**
-     * Obtiene el camino completo desde la posición actual hasta el objetivo.
-     * Útil para debugging y visualización.
-     * Retorna una lista vacía si no hay camino.
+     * Obtiene el camino completo desde la posición actual hasta el borde más cercano.
+     * A* multi-objetivo: cualquier celda libre del borde es meta, la heurística es
+     * la distancia al borde (admisible y consistente) y el conjunto abierto es un
+     * montículo binario de prioridades primitivas. Empates: menor f, luego menor h
+     * (más cerca del borde), luego menor índice de celda. Si el hilo se interrumpe
+     * (plazo vencido en {@link DeadlineCatMovement}) se abandona sin camino.
      */
     @Override
     public List<HexPosition> getFullPath(HexPosition currentPosition, HexPosition targetPosition) {
+        expandedNodes = 0;
+        if (!(board instanceof HexGameBoard hexBoard)) {
+            return new ArrayList<>();
+        }
+        HexBoardTopology topology = hexBoard.getTopology();
+        int source = topology.indexOf(currentPosition.getQ(), currentPosition.getR());
+        if (source < 0) {
+            return new ArrayList<>();
+        }
+
+        int cellCount = topology.getCellCount();
+        SearchBuffers buffers = SearchBuffers.forCurrentThread(cellCount);
+        int[] parent = buffers.parent();
+        int[] stamp = buffers.stamp();
+        int[] cost = buffers.cost();
+        long[] closed = buffers.closed();
+        CellHeap open = buffers.heap();
+        int generation = buffers.nextGeneration();
+        buffers.clearClosed(cellCount);
+        open.clear();
+
+        stamp[source] = generation;
+        cost[source] = 0;
+        parent[source] = -1;
+        open.insertOrDecrease(source, priority(0, topology.distanceToBorder(source)));
+
+        while (!open.isEmpty()) {
+            int curr = open.poll();
+            closed[curr >>> 6] |= 1L << curr;
+            expandedNodes++;
+            if ((expandedNodes & 1023) == 0 && Thread.currentThread().isInterrupted()) {
+                return new ArrayList<>();
+            }
+            if (topology.isBorder(curr)) {
+                return materializePath(topology, parent, curr);
+            }
+            int nextCost = cost[curr] + 1;
+            for (int k = topology.neighborsStart(curr); k < topology.neighborsEnd(curr); k++) {
+                int next = topology.neighbor(k);
+                if ((closed[next >>> 6] & (1L << next)) != 0 || hexBoard.isBlockedIndex(next)) {
+                    continue;
+                }
+                if (stamp[next] != generation || nextCost < cost[next]) {
+                    stamp[next] = generation;
+                    cost[next] = nextCost;
+                    parent[next] = curr;
+                    open.insertOrDecrease(next, priority(nextCost, topology.distanceToBorder(next)));
+                }
+            }
+        }
         return new ArrayList<>();
     }
-}
\ No newline at end of file
+
+    /** Número de nodos expandidos por la última llamada a getFullPath */
+    public int getLastExpandedNodes() {
+        return expandedNodes;
+    }
+
+    /** f = g + h en los 32 bits altos y h en los bajos para desempatar hacia el borde */
+    private static long priority(int g, int h) {
+        return ((long) (g + h) << 32) | h;
+    }
+
+    private int borderDistance(HexPosition pos) {
+        int size = board.getSize();
+        return size - Math.max(Math.abs(pos.getQ()), Math.max(Math.abs(pos.getR()), Math.abs(pos.getS())));
+    }
+
+    private List<HexPosition> materializePath(HexBoardTopology topology, int[] parent, int goal) {
+        int length = 0;
+        for (int c = goal; c != -1; c = parent[c]) length++;
+        HexPosition[] path = new HexPosition[length];
+        for (int c = goal; c != -1; c = parent[c]) path[--length] = topology.positionAt(c);
+        return new ArrayList<>(Arrays.asList(path));
+    }
+}
@@ -0,0 +1,500 @@
+package com.atraparalagato.impl.strategy;
+
+import com.atraparalagato.base.model.GameBoard;
+import com.atraparalagato.base.strategy.CatMovementStrategy;
+import com.atraparalagato.impl.model.EscapeDistanceField;
+import com.atraparalagato.impl.model.HexBoardTopology;
+import com.atraparalagato.impl.model.HexGameBoard;
+import com.atraparalagato.impl.model.HexPosition;
+import com.atraparalagato.impl.model.ZobristKeys;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Gato "inteligente": busca con minimax alfa-beta anticipando los muros del jugador.
+ *
+ * - Profundización iterativa: busca a profundidad 1, 2, 3... hasta agotar el
+ *   presupuesto de tiempo, y se queda con el mejor movimiento de la última
+ *   profundidad completa. El presupuesto es un tope duro por movimiento.
+ * - Tabla de transposición indexada con el hash Zobrist de la posición. Cada
+ *   búsqueda toma una tabla libre de un depósito compartido y la devuelve al
+ *   terminar, así se reutiliza entre turnos y partidas. El depósito guarda a lo
+ *   sumo una tabla por núcleo: la memoria no crece con la cantidad de hilos que
+ *   alguna vez buscaron, sólo con las búsquedas simultáneas.
+ * - Orden de movimientos: primero el de la tabla, después los del gato por
+ *   distancia al borde y los muros por cercanía al gato.
+ * - Los muros candidatos son sólo las celdas de algún camino mínimo del gato al
+ *   borde (con un tope): un muro fuera de esos caminos no cambia la evaluación.
+ *
+ * La evaluación, desde el punto de vista del gato, es la distancia al borde
+ * (menos es mejor) y cuántas salidas hay a esa distancia.
+ */
+public class AlphaBetaCatMovement extends CatMovementStrategy<HexPosition> implements AnytimeCatSearch {
+
+    public static final long DEFAULT_BUDGET_MILLIS = 50;
+    /** Entradas por tabla de transposición: 16 bytes cada una, 1 MB en total */
+    public static final int DEFAULT_TABLE_ENTRIES = 1 << 16;
+
+    private static final int MAX_DEPTH = 48;
+    private static final int MAX_WALL_CANDIDATES = 10;
+    private static final int INFINITY = Integer.MAX_VALUE - 1;
+    private static final int WIN = 1_000_000;
+    private static final int ENCLOSED = WIN / 2;
+    private static final long PLAYER_TO_MOVE = 0x5DEECE66DL * 0x9E3779B97F4A7C15L;
+
+    private static volatile long defaultBudgetMillis = DEFAULT_BUDGET_MILLIS;
+
+    private static volatile int tableEntries = DEFAULT_TABLE_ENTRIES;
+    private static final BlockingQueue<TranspositionTable> IDLE_TABLES =
+            new ArrayBlockingQueue<>(Runtime.getRuntime().availableProcessors());
+
+    private final HexGameBoard hexBoard;
+    private final long budgetNanos;
+    private final int maxDepth;
+    private final boolean deterministic;
+
+    // Estado de la búsqueda en curso
+    private HexBoardTopology topology;
+    private ZobristKeys keys;
+    private TranspositionTable table;
+    private ScratchBoard scratch;
+    private int cat;
+    private long hash;
+    private long deadline;
+    private boolean aborted;
+    private long nodes;
+    private long ttProbes;
+    private long ttHits;
+    private int rootBestMove;
+    private volatile boolean stopRequested;
+    private volatile int bestSoFar = -1;
+    private volatile int depthSoFar;
+    private final int[][] plyMoves = new int[MAX_DEPTH + 1][MAX_WALL_CANDIDATES + 1];
+
+    // Estadísticas del último movimiento
+    private int lastDepth;
+    private long lastNodes;
+    private long lastElapsedNanos;
+    private long lastTtProbes;
+    private long lastTtHits;
+
+    public AlphaBetaCatMovement(GameBoard<HexPosition> board) {
+        this(board, defaultBudgetMillis);
+    }
+
+    public AlphaBetaCatMovement(GameBoard<HexPosition> board, long budgetMillis) {
+        this(board, toBudgetNanos(budgetMillis), MAX_DEPTH, false);
+    }
+
+    /**
+     * Búsqueda reproducible: sin tope de tiempo, hasta la profundidad indicada y
+     * con la tabla de transposición vacía en cada movimiento (el mismo tablero da
+     * siempre el mismo movimiento, sin importar qué se buscó antes en el hilo).
+     */
+    public static AlphaBetaCatMovement fixedDepth(GameBoard<HexPosition> board, int depth) {
+        if (depth <= 0 || depth > MAX_DEPTH) {
+            throw new IllegalArgumentException("La profundidad debe estar entre 1 y " + MAX_DEPTH + ": " + depth);
+        }
+        return new AlphaBetaCatMovement(board, Long.MAX_VALUE / 4, depth, true);
+    }
+
+    private AlphaBetaCatMovement(GameBoard<HexPosition> board, long budgetNanos, int maxDepth, boolean deterministic) {
+        super(board);
+        if (!(board instanceof HexGameBoard hex)) {
+            throw new IllegalArgumentException("AlphaBetaCatMovement requiere un HexGameBoard");
+        }
+        this.hexBoard = hex;
+        this.budgetNanos = budgetNanos;
+        this.maxDepth = maxDepth;
+        this.deterministic = deterministic;
+    }
+
+    private static long toBudgetNanos(long budgetMillis) {
+        if (budgetMillis <= 0) {
+            throw new IllegalArgumentException("El presupuesto de búsqueda debe ser positivo: " + budgetMillis);
+        }
+        return budgetMillis * 1_000_000L;
+    }
+
+    @Override
+    public int getBestMoveSoFar() {
+        return bestSoFar;
+    }
+
+    @Override
+    public int getCompletedDepth() {
+        return depthSoFar;
+    }
+
+    @Override
+    public void stop() {
+        stopRequested = true;
+    }
+
+    /** Presupuesto por movimiento que usan las instancias creadas sin indicarlo (propiedad game.cat-search.budget-ms) */
+    public static void setDefaultBudgetMillis(long budgetMillis) {
+        if (budgetMillis <= 0) {
+            throw new IllegalArgumentException("El presupuesto de búsqueda debe ser positivo: " + budgetMillis);
+        }
+        defaultBudgetMillis = budgetMillis;
+    }
+
+    /**
+     * Entradas de cada tabla de transposición (propiedad game.cat-search.tt-entries),
+     * potencia de dos. Las tablas del tamaño anterior se descartan al devolverse.
+     */
+    public static void setTableEntries(int entries) {
+        if (entries < 1024 || Integer.bitCount(entries) != 1) {
+            throw new IllegalArgumentException("Las entradas de la tabla deben ser una potencia de dos de al menos 1024: " + entries);
+        }
+        tableEntries = entries;
+        IDLE_TABLES.clear();
+    }
+
+    @Override
+    protected List<HexPosition> getPossibleMoves(HexPosition currentPosition) {
+        return hexBoard.getFreeNeighbors(currentPosition);
+    }
+
+    @Override
+    protected Optional<HexPosition> selectBestMove(List<HexPosition> possibleMoves,
+                                                   HexPosition currentPosition,
+                                                   HexPosition targetPosition) {
+        int start = hexBoard.indexOf(currentPosition.getQ(), currentPosition.getR());
+        if (start < 0) {
+            return Optional.empty();
+        }
+        long begin = System.nanoTime();
+        prepare(start, begin);
+        try {
+            return Optional.of(hexBoard.positionAt(iterativeDeepening(start, possibleMoves, begin)));
+        } finally {
+            releaseTable();
+        }
+    }
+
+    private int iterativeDeepening(int start, List<HexPosition> possibleMoves, long begin) {
+        // Respaldo si no se completa ni la profundidad 1: el movimiento codicioso
+        int best = hexBoard.getEscapeField().bestNeighbor(start);
+        if (best < 0) {
+            best = hexBoard.indexOf(possibleMoves.get(0).getQ(), possibleMoves.get(0).getR());
+        }
+        rootBestMove = best;
+        for (int depth = 1; depth <= maxDepth; depth++) {
+            int score = searchRoot(depth);
+            if (aborted) break;
+            best = rootBestMove;
+            lastDepth = depth;
+            bestSoFar = best;
+            depthSoFar = depth;
+            if (Math.abs(score) >= ENCLOSED - MAX_DEPTH) break; // resultado forzado
+        }
+
+        lastElapsedNanos = System.nanoTime() - begin;
+        lastNodes = nodes;
+        lastTtProbes = ttProbes;
+        lastTtHits = ttHits;
+        return best;
+    }
+
+    private void prepare(int start, long now) {
+        topology = hexBoard.getTopology();
+        keys = hexBoard.getZobristKeys();
+        table = IDLE_TABLES.poll();
+        if (table == null || table.capacity() != tableEntries) {
+            table = new TranspositionTable(tableEntries);
+        } else if (deterministic) {
+            table.clear();
+        }
+        scratch = ScratchBoard.copyOf(hexBoard);
+        cat = start;
+        hash = hexBoard.getStateHash() ^ keys.catKey(start) ^ (topology.getSize() * 0xC2B2AE3D27D4EB4FL);
+        deadline = now + budgetNanos;
+        aborted = stopRequested;
+        bestSoFar = -1;
+        depthSoFar = 0;
+        nodes = 0;
+        ttProbes = 0;
+        ttHits = 0;
+        lastDepth = 0;
+    }
+
+    /** Devuelve la tabla al depósito; si ya está lleno, se descarta */
+    private void releaseTable() {
+        if (table.capacity() == tableEntries) {
+            IDLE_TABLES.offer(table);
+        }
+        table = null;
+    }
+
+    /** Raíz: juega el gato; el mejor movimiento de la iteración anterior se prueba primero */
+    private int searchRoot(int depth) {
+        int[] moves = plyMoves[0];
+        int count = generateCatMoves(moves, rootBestMove);
+        int alpha = -INFINITY;
+        int bestScore = -INFINITY;
+        int bestMove = moves[0];
+        for (int i = 0; i < count; i++) {
+            int from = cat;
+            moveCat(moves[i]);
+            int score = -search(depth - 1, 1, -INFINITY, -alpha, false);
+            moveCat(from);
+            if (aborted) return 0;
+            if (score > bestScore) {
+                bestScore = score;
+                bestMove = moves[i];
+            }
+            alpha = Math.max(alpha, bestScore);
+        }
+        rootBestMove = bestMove;
+        table.store(hash, depth, TranspositionTable.EXACT, bestScore, bestMove);
+        return bestScore;
+    }
+
+    /** Negamax con poda alfa-beta; el puntaje es desde el punto de vista de quien mueve */
+    private int search(int depth, int ply, int alpha, int beta, boolean catToMove) {
+        // Cada nodo hace una BFS, así que consultar el reloj en todos es barato y el tope es duro
+        nodes++;
+        if (System.nanoTime() - deadline > 0 || stopRequested) {
+            aborted = true;
+        }
+        if (aborted) return 0;
+        if (!catToMove && topology.isBorder(cat)) {
+            return -(WIN - ply); // el gato escapó
+        }
+
+        long key = catToMove ? hash : hash ^ PLAYER_TO_MOVE;
+        int ttMove = -1;
+        ttProbes++;
+        long entry = table.probe(key);
+        if (entry != TranspositionTable.EMPTY) {
+            ttHits++;
+            ttMove = TranspositionTable.move(entry);
+            if (TranspositionTable.depth(entry) >= depth) {
+                int score = TranspositionTable.score(entry);
+                int flag = TranspositionTable.flag(entry);
+                if (flag == TranspositionTable.EXACT) return score;
+                if (flag == TranspositionTable.LOWER) alpha = Math.max(alpha, score);
+                else beta = Math.min(beta, score);
+                if (alpha >= beta) return score;
+            }
+        }
+        if (depth == 0) {
+            int eval = evaluate(ply);
+            return catToMove ? eval : -eval;
+        }
+
+        int[] moves = plyMoves[ply];
+        int count = catToMove ? generateCatMoves(moves, ttMove) : generateWalls(moves, ttMove);
+        if (count == 0) {
+            // El gato no puede moverse, o ya está encerrado y el muro no importa
+            return catToMove ? -(WIN - ply) : ENCLOSED - ply;
+        }
+
+        int alphaOrig = alpha;
+        int bestScore = -INFINITY;
+        int bestMove = moves[0];
+        for (int i = 0; i < count; i++) {
+            int move = moves[i];
+            int score;
+            if (catToMove) {
+                int from = cat;
+                moveCat(move);
+                score = -search(depth - 1, ply + 1, -beta, -alpha, false);
+                moveCat(from);
+            } else {
+                toggleWall(move);
+                score = -search(depth - 1, ply + 1, -beta, -alpha, true);
+                toggleWall(move);
+            }
+            if (aborted) return 0;
+            if (score > bestScore) {
+                bestScore = score;
+                bestMove = move;
+            }
+            alpha = Math.max(alpha, bestScore);
+            if (alpha >= beta) break;
+        }
+        int flag = bestScore <= alphaOrig ? TranspositionTable.UPPER
+                : bestScore >= beta ? TranspositionTable.LOWER
+                : TranspositionTable.EXACT;
+        table.store(key, depth, flag, bestScore, bestMove);
+        return bestScore;
+    }
+
+    private void moveCat(int to) {
+        hash ^= keys.catKey(cat) ^ keys.catKey(to);
+        cat = to;
+    }
+
+    private void toggleWall(int cell) {
+        scratch.toggleWall(cell);
+        hash ^= keys.wallKey(cell);
+    }
+
+    /** Vecinos libres del gato: el de la tabla primero, el resto por distancia al borde */
+    private int generateCatMoves(int[] moves, int first) {
+        int count = 0;
+        for (int k = topology.neighborsStart(cat); k < topology.neighborsEnd(cat); k++) {
+            int n = topology.neighbor(k);
+            if (scratch.isWall(n)) continue;
+            int i = count++;
+            int key = n == first ? -1 : topology.distanceToBorder(n);
+            while (i > 0 && sortKey(moves[i - 1], first) > key) {
+                moves[i] = moves[i - 1];
+                i--;
+            }
+            moves[i] = n;
+        }
+        return count;
+    }
+
+    private int sortKey(int cell, int first) {
+        return cell == first ? -1 : topology.distanceToBorder(cell);
+    }
+
+    /**
+     * Evaluación desde el gato: -100 por paso hasta el borde, +10 por cada salida
+     * a esa distancia. Un gato encerrado vale casi lo mismo que uno atrapado.
+     */
+    private int evaluate(int ply) {
+        SearchBuffers buffers = SearchBuffers.forCurrentThread(topology.getCellCount());
+        int distance = scratch.shortestEscape(cat, buffers);
+        if (distance < 0) {
+            return -(ENCLOSED - ply);
+        }
+        return -100 * distance + 10 * Math.min(scratch.exitCount(), 6);
+    }
+
+    /** Muros candidatos: celdas de caminos mínimos, con el de la tabla adelante */
+    private int generateWalls(int[] moves, int first) {
+        SearchBuffers buffers = SearchBuffers.forCurrentThread(topology.getCellCount());
+        return scratch.shortestPathCells(cat, first, moves, MAX_WALL_CANDIDATES, buffers);
+    }
+
+    @Override
+    protected Function<HexPosition, Double> getHeuristicFunction(HexPosition targetPosition) {
+        return pos -> (double) hexBoard.getEscapeField().distanceAt(pos);
+    }
+
+    @Override
+    protected Predicate<HexPosition> getGoalPredicate() {
+        HexBoardTopology topo = hexBoard.getTopology();
+        return pos -> {
+            int cell = topo.indexOf(pos.getQ(), pos.getR());
+            return cell >= 0 && topo.isBorder(cell);
+        };
+    }
+
+    @Override
+    protected double getMoveCost(HexPosition from, HexPosition to) {
+        return 1.0;
+    }
+
+    @Override
+    public boolean hasPathToGoal(HexPosition currentPosition) {
+        return hexBoard.getEscapeField().distanceAt(currentPosition) != EscapeDistanceField.UNREACHABLE;
+    }
+
+    /** Camino mínimo actual según el campo de escape (la búsqueda sólo decide el próximo paso) */
+    @Override
+    public List<HexPosition> getFullPath(HexPosition currentPosition, HexPosition targetPosition) {
+        return new DistanceFieldCatMovement(hexBoard).getFullPath(currentPosition, targetPosition);
+    }
+
+    /** Profundidad completa alcanzada en el último movimiento */
+    public int getLastDepth() {
+        return lastDepth;
+    }
+
+    public long getLastNodes() {
+        return lastNodes;
+    }
+
+    public double getLastNodesPerSecond() {
+        return lastElapsedNanos == 0 ? 0.0 : lastNodes * 1e9 / lastElapsedNanos;
+    }
+
+    public double getLastTtHitRate() {
+        return lastTtProbes == 0 ? 0.0 : (double) lastTtHits / lastTtProbes;
+    }
+
+    public Map<String, Object> getSearchStatistics() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("depth", lastDepth);
+        stats.put("nodes", lastNodes);
+        stats.put("elapsedMillis", lastElapsedNanos / 1_000_000.0);
+        stats.put("nodesPerSecond", Math.round(getLastNodesPerSecond()));
+        stats.put("ttHitRate", getLastTtHitRate());
+        return stats;
+    }
+
+    /**
+     * Tabla de transposición de tamaño fijo con reemplazo por profundidad.
+     * Cada entrada empaqueta puntaje (32 bits), profundidad (8), tipo (2) y
+     * movimiento + 1 (22) en un long.
+     */
+    private static final class TranspositionTable {
+        static final long EMPTY = 0L;
+        static final int EXACT = 0;
+        static final int LOWER = 1;
+        static final int UPPER = 2;
+
+        private final long[] keys;
+        private final long[] data;
+        private final int mask;
+
+        TranspositionTable(int capacity) {
+            keys = new long[capacity];
+            data = new long[capacity];
+            mask = capacity - 1;
+        }
+
+        int capacity() {
+            return keys.length;
+        }
+
+        void clear() {
+            Arrays.fill(keys, 0L);
+            Arrays.fill(data, 0L);
+        }
+
+        long probe(long key) {
+            int slot = (int) (key ^ (key >>> 32)) & mask;
+            return keys[slot] == key ? data[slot] : EMPTY;
+        }
+
+        void store(long key, int depth, int flag, int score, int move) {
+            int slot = (int) (key ^ (key >>> 32)) & mask;
+            if (keys[slot] != key && depth(data[slot]) > depth) {
+                return; // se conserva la entrada más profunda
+            }
+            keys[slot] = key;
+            data[slot] = ((long) score << 32) | ((long) depth << 24) | ((long) flag << 22) | (move + 1L);
+        }
+
+        static int score(long entry) {
+            return (int) (entry >> 32);
+        }
+
+        static int depth(long entry) {
+            return (int) (entry >>> 24) & 0xFF;
+        }
+
+        static int flag(long entry) {
+            return (int) (entry >>> 22) & 0x3;
+        }
+
+        static int move(long entry) {
+            return (int) (entry & 0x3FFFFF) - 1;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.atraparalagato.impl.strategy;
+
+/**
+ * Búsqueda que se puede cortar en cualquier momento y entregar lo mejor que
+ * encontró hasta ahí (por ejemplo, la última iteración completa de una
+ * profundización iterativa). La usa {@link DeadlineCatMovement}.
+ *
+ * Los métodos se llaman desde otro hilo mientras la búsqueda corre.
+ */
+public interface AnytimeCatSearch {
+
+    /** Celda del mejor movimiento de la última iteración completa, o -1 si todavía no hay */
+    int getBestMoveSoFar();
+
+    /** Profundidad de esa iteración (0 si no hay ninguna completa; 1 en búsquedas que no van por profundidades) */
+    int getCompletedDepth();
+
+    /** Pide que la búsqueda termine cuanto antes */
+    void stop();
+}
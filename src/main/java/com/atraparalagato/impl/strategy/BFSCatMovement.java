@@ -2,14 +2,17 @@ package com.atraparalagato.impl.strategy;
 
 import com.atraparalagato.base.model.GameBoard;
 import com.atraparalagato.base.strategy.CatMovementStrategy;
+import com.atraparalagato.impl.model.EscapeDistanceField;
+import com.atraparalagato.impl.model.HexBoardTopology;
+import com.atraparalagato.impl.model.HexGameBoard;
 import com.atraparalagato.impl.model.HexPosition;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Predicate;
-import java.util.Comparator;
 import java.util.Queue;          
 import java.util.LinkedList;     
 import java.util.Map;             
@@ -34,6 +37,8 @@ import java.util.Collections;
  */
 public class BFSCatMovement extends CatMovementStrategy<HexPosition> {
 
+    private int expandedNodes;
+
     public BFSCatMovement(GameBoard<HexPosition> board) {
         super(board);
     }
@@ -44,6 +49,9 @@ public class BFSCatMovement extends CatMovementStrategy<HexPosition> {
      */
     @Override
     protected List<HexPosition> getPossibleMoves(HexPosition currentPosition) {
+        if (board instanceof HexGameBoard hexBoard) {
+            return hexBoard.getFreeNeighbors(currentPosition);
+        }
         // Movimiento simple: cualquier adyacente no bloqueado
         return board.getAdjacentPositions(currentPosition).stream()
             .filter(pos -> !board.isBlocked(pos))
@@ -94,43 +102,113 @@ public class BFSCatMovement extends CatMovementStrategy<HexPosition> {
     }
 
     /**
-     * Verifica si existe un camino desde la posición actual hasta el objetivo.
-     * (Este método debe ser implementado completamente por los estudiantes).
+     * Verifica si existe un camino desde la posición actual hasta el borde.
+     * Sobre un HexGameBoard es una consulta al campo de escape, que el tablero
+     * mantiene al día muro a muro; en otros tableros se hace la BFS completa.
      */
     @Override
     public boolean hasPathToGoal(HexPosition currentPosition) {
-        // TODO: Implementar la lógica para verificar el camino al objetivo usando BFS
-        return false;
+        if (board instanceof HexGameBoard hexBoard) {
+            return hexBoard.getEscapeField().distanceAt(currentPosition) != EscapeDistanceField.UNREACHABLE;
+        }
+        List<HexPosition> path = getFullPath(currentPosition, null);
+        return getGoalPredicate().test(path.get(path.size() - 1));
     }
 
     /**
-     * Obtiene el camino completo desde la posición actual hasta el objetivo.
-     * (Este método debe ser implementado completamente por los estudiantes).
+     * Obtiene el camino completo desde la posición actual hasta el borde más cercano.
+     * Sobre un HexGameBoard la búsqueda trabaja con índices y buffers primitivos del
+     * hilo; sólo se crean objetos al materializar el camino final.
      */
     @Override
-public List<HexPosition> getFullPath(HexPosition start, HexPosition ignore) {
-    Queue<HexPosition> queue = new LinkedList<>();
-    Map<HexPosition, HexPosition> parent = new HashMap<>();
-    queue.add(start);
-    parent.put(start, null);
-
-    while (!queue.isEmpty()) {
-        HexPosition curr = queue.poll();
-        if (getGoalPredicate().test(curr)) {
-            List<HexPosition> path = new ArrayList<>();
-            for (HexPosition p = curr; p != null; p = parent.get(p))
-                path.add(p);
-            Collections.reverse(path);
-            return path;
+    public List<HexPosition> getFullPath(HexPosition start, HexPosition ignore) {
+        expandedNodes = 0;
+        if (board instanceof HexGameBoard hexBoard) {
+            int source = hexBoard.indexOf(start.getQ(), start.getR());
+            if (source >= 0) {
+                return indexedPath(hexBoard, source, start);
+            }
         }
-        for (HexPosition next : getPossibleMoves(curr)) {
-            if (!parent.containsKey(next)) {
-                parent.put(next, curr);
-                queue.add(next);
+        return genericPath(start);
+    }
+
+    /** Número de nodos expandidos por la última llamada a getFullPath */
+    public int getLastExpandedNodes() {
+        return expandedNodes;
+    }
+
+    /**
+     * BFS sobre índices densos: cola y padres en arreglos int, visitados por generación.
+     * Si el hilo se interrumpe (plazo vencido en {@link DeadlineCatMovement}) se abandona
+     * sin camino.
+     */
+    private List<HexPosition> indexedPath(HexGameBoard hexBoard, int source, HexPosition start) {
+        HexBoardTopology topology = hexBoard.getTopology();
+        SearchBuffers buffers = SearchBuffers.forCurrentThread(topology.getCellCount());
+        int[] queue = buffers.queue();
+        int[] parent = buffers.parent();
+        int[] stamp = buffers.stamp();
+        int generation = buffers.nextGeneration();
+
+        int head = 0, tail = 0;
+        queue[tail++] = source;
+        parent[source] = -1;
+        stamp[source] = generation;
+
+        while (head < tail) {
+            int curr = queue[head++];
+            expandedNodes++;
+            if ((expandedNodes & 1023) == 0 && Thread.currentThread().isInterrupted()) {
+                return List.of(start);
+            }
+            if (topology.isBorder(curr)) {
+                return materializePath(topology, parent, curr);
+            }
+            for (int k = topology.neighborsStart(curr); k < topology.neighborsEnd(curr); k++) {
+                int next = topology.neighbor(k);
+                if (stamp[next] != generation && !hexBoard.isBlockedIndex(next)) {
+                    stamp[next] = generation;
+                    parent[next] = curr;
+                    queue[tail++] = next;
+                }
             }
         }
+        return List.of(start);
+    }
+
+    private List<HexPosition> materializePath(HexBoardTopology topology, int[] parent, int goal) {
+        int length = 0;
+        for (int c = goal; c != -1; c = parent[c]) length++;
+        HexPosition[] path = new HexPosition[length];
+        for (int c = goal; c != -1; c = parent[c]) path[--length] = topology.positionAt(c);
+        return new ArrayList<>(Arrays.asList(path));
     }
-    return List.of(start);
-}
 
-}
\ No newline at end of file
+    /** BFS genérico para tableros que no exponen índices densos */
+    private List<HexPosition> genericPath(HexPosition start) {
+        Predicate<HexPosition> goal = getGoalPredicate();
+        Queue<HexPosition> queue = new LinkedList<>();
+        Map<HexPosition, HexPosition> parent = new HashMap<>();
+        queue.add(start);
+        parent.put(start, null);
+
+        while (!queue.isEmpty()) {
+            HexPosition curr = queue.poll();
+            expandedNodes++;
+            if (goal.test(curr)) {
+                List<HexPosition> path = new ArrayList<>();
+                for (HexPosition p = curr; p != null; p = parent.get(p))
+                    path.add(p);
+                Collections.reverse(path);
+                return path;
+            }
+            for (HexPosition next : getPossibleMoves(curr)) {
+                if (!parent.containsKey(next)) {
+                    parent.put(next, curr);
+                    queue.add(next);
+                }
+            }
+        }
+        return List.of(start);
+    }
+}
@@ -0,0 +1,47 @@
+package com.atraparalagato.impl.strategy;
+
+import com.atraparalagato.base.model.GameBoard;
+import com.atraparalagato.base.strategy.CatMovementStrategy;
+import com.atraparalagato.impl.model.HexPosition;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * Estrategias de movimiento del gato seleccionables por configuración.
+ *
+ * Cada valor es una fábrica: el servicio crea una estrategia nueva sobre el
+ * tablero de la partida en cada turno del gato.
+ */
+public enum CatStrategyType {
+    BFS("bfs", BFSCatMovement::new),
+    ASTAR("astar", AStarCatMovement::new),
+    DISTANCE_FIELD("distance-field", DistanceFieldCatMovement::new),
+    ALPHA_BETA("alphabeta", AlphaBetaCatMovement::new),
+    MONTE_CARLO("mcts", MonteCarloCatMovement::new);
+
+    private final String configName;
+    private final Function<GameBoard<HexPosition>, CatMovementStrategy<HexPosition>> factory;
+
+    CatStrategyType(String configName,
+                    Function<GameBoard<HexPosition>, CatMovementStrategy<HexPosition>> factory) {
+        this.configName = configName;
+        this.factory = factory;
+    }
+
+    public CatMovementStrategy<HexPosition> create(GameBoard<HexPosition> board) {
+        return factory.apply(board);
+    }
+
+    public String getConfigName() {
+        return configName;
+    }
+
+    /** Busca la estrategia por su nombre de configuración (bfs, astar, ...) */
+    public static CatStrategyType fromConfigName(String name) {
+        return Arrays.stream(values())
+                .filter(type -> type.configName.equalsIgnoreCase(name.trim()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Estrategia de gato desconocida: " + name));
+    }
+}
@@ -0,0 +1,104 @@
+package com.atraparalagato.impl.strategy;
+
+/**
+ * Montículo binario mínimo de celdas con prioridades primitivas indexadas por celda.
+ *
+ * Cada celda aparece a lo sumo una vez; insertar una celda que ya está en el
+ * montículo con una prioridad menor equivale a decrease-key. Los empates de
+ * prioridad se rompen por índice de celda, así el orden de extracción es
+ * determinista.
+ */
+public final class CellHeap {
+
+    private int[] heap = new int[0];
+    private int[] slot = new int[0];
+    private long[] priority = new long[0];
+    private int size;
+
+    void ensureCapacity(int cellCount) {
+        if (slot.length < cellCount) {
+            heap = new int[cellCount];
+            slot = new int[cellCount];
+            priority = new long[cellCount];
+            size = 0;
+        }
+    }
+
+    /** Vacía el montículo en O(1); las posiciones viejas se invalidan solas */
+    public void clear() {
+        size = 0;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean contains(int cell) {
+        int s = slot[cell];
+        return s < size && heap[s] == cell;
+    }
+
+    /** Inserta la celda o mejora su prioridad si ya estaba con una peor */
+    public void insertOrDecrease(int cell, long newPriority) {
+        if (contains(cell)) {
+            if (newPriority >= priority[cell]) return;
+            priority[cell] = newPriority;
+            siftUp(slot[cell]);
+        } else {
+            priority[cell] = newPriority;
+            heap[size] = cell;
+            slot[cell] = size;
+            siftUp(size++);
+        }
+    }
+
+    /** Extrae la celda de menor prioridad */
+    public int poll() {
+        int top = heap[0];
+        int last = heap[--size];
+        if (size > 0) {
+            heap[0] = last;
+            slot[last] = 0;
+            siftDown(0);
+        }
+        return top;
+    }
+
+    private boolean less(int a, int b) {
+        return priority[a] < priority[b] || (priority[a] == priority[b] && a < b);
+    }
+
+    private void siftUp(int i) {
+        int cell = heap[i];
+        while (i > 0) {
+            int p = (i - 1) >>> 1;
+            int parent = heap[p];
+            if (!less(cell, parent)) break;
+            heap[i] = parent;
+            slot[parent] = i;
+            i = p;
+        }
+        heap[i] = cell;
+        slot[cell] = i;
+    }
+
+    private void siftDown(int i) {
+        int cell = heap[i];
+        int half = size >>> 1;
+        while (i < half) {
+            int c = 2 * i + 1;
+            int child = heap[c];
+            int right = c + 1;
+            if (right < size && less(heap[right], child)) {
+                c = right;
+                child = heap[c];
+            }
+            if (!less(child, cell)) break;
+            heap[i] = child;
+            slot[child] = i;
+            i = c;
+        }
+        heap[i] = cell;
+        slot[cell] = i;
+    }
+}
@@ -0,0 +1,244 @@
+package com.atraparalagato.impl.strategy;
+
+import com.atraparalagato.base.model.GameBoard;
+import com.atraparalagato.base.strategy.CatMovementStrategy;
+import com.atraparalagato.impl.model.HexGameBoard;
+import com.atraparalagato.impl.model.HexPosition;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Decorador que acota con un plazo duro el tiempo de cualquier estrategia.
+ *
+ * La estrategia envuelta corre en otro hilo sobre una copia del tablero (así una
+ * búsqueda abandonada nunca toca la partida). Si no termina a tiempo:
+ * - si es una {@link AnytimeCatSearch}, se la detiene y se usa su mejor movimiento hasta ahí,
+ * - si no, se interrumpe su hilo y se juega el movimiento codicioso del campo de
+ *   escape, calculado antes de lanzarla.
+ * En los dos casos la búsqueda deja el hilo enseguida. Hay un permiso por hilo
+ * de búsqueda: si no queda ninguno (todos buscando), se juega directamente el de respaldo.
+ *
+ * Las métricas (plazos vencidos, respaldos, profundidad alcanzada) son del proceso.
+ */
+public class DeadlineCatMovement extends CatMovementStrategy<HexPosition> {
+
+    private static final int SEARCH_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors());
+    /** Se toma antes de encolar y se devuelve cuando la búsqueda termina: la cola nunca pasa de SEARCH_THREADS */
+    private static final Semaphore PERMITS = new Semaphore(SEARCH_THREADS);
+    private static final ThreadPoolExecutor SEARCHES = createExecutor();
+
+    private static final LongAdder MOVES = new LongAdder();
+    private static final LongAdder COMPLETED = new LongAdder();
+    private static final LongAdder DEADLINE_HITS = new LongAdder();
+    private static final LongAdder ANYTIME_MOVES = new LongAdder();
+    private static final LongAdder ANYTIME_DEPTH = new LongAdder();
+    private static final LongAdder FALLBACKS = new LongAdder();
+    private static final LongAdder SATURATED = new LongAdder();
+    private static final LongAdder ERRORS = new LongAdder();
+
+    private final HexGameBoard hexBoard;
+    private final Function<GameBoard<HexPosition>, CatMovementStrategy<HexPosition>> inner;
+    private final long deadlineNanos;
+
+    private CatMovementStrategy<HexPosition> lastSearch;
+    private String lastOutcome = "none";
+
+    public DeadlineCatMovement(GameBoard<HexPosition> board, CatStrategyType inner, long deadlineMillis) {
+        this(board, inner::create, deadlineMillis);
+    }
+
+    /** Con una fábrica cualquiera de estrategias en vez de una de las configurables */
+    public DeadlineCatMovement(GameBoard<HexPosition> board,
+                               Function<GameBoard<HexPosition>, CatMovementStrategy<HexPosition>> inner,
+                               long deadlineMillis) {
+        super(board);
+        if (!(board instanceof HexGameBoard hex)) {
+            throw new IllegalArgumentException("DeadlineCatMovement requiere un HexGameBoard");
+        }
+        if (deadlineMillis <= 0) {
+            throw new IllegalArgumentException("El plazo debe ser positivo: " + deadlineMillis);
+        }
+        this.hexBoard = hex;
+        this.inner = inner;
+        this.deadlineNanos = deadlineMillis * 1_000_000L;
+    }
+
+    private static ThreadPoolExecutor createExecutor() {
+        AtomicInteger counter = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(SEARCH_THREADS, SEARCH_THREADS, 30, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "cat-deadline-search-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    @Override
+    protected List<HexPosition> getPossibleMoves(HexPosition currentPosition) {
+        return hexBoard.getFreeNeighbors(currentPosition);
+    }
+
+    @Override
+    protected Optional<HexPosition> selectBestMove(List<HexPosition> possibleMoves,
+                                                   HexPosition currentPosition,
+                                                   HexPosition targetPosition) {
+        MOVES.increment();
+        long begin = System.nanoTime();
+        int cat = hexBoard.indexOf(currentPosition.getQ(), currentPosition.getR());
+        int greedy = cat < 0 ? -1 : hexBoard.getEscapeField().bestNeighbor(cat);
+        HexPosition fallback = greedy >= 0 ? hexBoard.positionAt(greedy) : possibleMoves.get(0);
+
+        if (!PERMITS.tryAcquire()) {
+            SATURATED.increment();
+            return fallback("saturated", fallback);
+        }
+        Permit permit = new Permit();
+        CatMovementStrategy<HexPosition> search;
+        Future<Optional<HexPosition>> future;
+        try {
+            search = inner.apply(hexBoard.copy());
+            future = SEARCHES.submit(() -> {
+                permit.started = true;
+                try {
+                    return search.findBestMove(currentPosition, targetPosition);
+                } finally {
+                    permit.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            permit.release();
+            throw e;
+        }
+        lastSearch = search;
+
+        try {
+            long remaining = deadlineNanos - (System.nanoTime() - begin);
+            Optional<HexPosition> move = future.get(Math.max(0, remaining), TimeUnit.NANOSECONDS);
+            COMPLETED.increment();
+            lastOutcome = "completed";
+            return move.isPresent() ? move : Optional.of(fallback);
+        } catch (TimeoutException e) {
+            DEADLINE_HITS.increment();
+            if (search instanceof AnytimeCatSearch anytime) {
+                anytime.stop();
+                int best = anytime.getBestMoveSoFar();
+                if (best >= 0) {
+                    ANYTIME_MOVES.increment();
+                    ANYTIME_DEPTH.add(anytime.getCompletedDepth());
+                    lastOutcome = "anytime";
+                    return Optional.of(hexBoard.positionAt(best));
+                }
+            }
+            permit.cancel(future);
+            return fallback("deadline", fallback);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            permit.cancel(future);
+            return fallback("interrupted", fallback);
+        } catch (ExecutionException e) {
+            ERRORS.increment();
+            return fallback("error", fallback);
+        }
+    }
+
+    /** Permiso de una búsqueda encolada: se devuelve una sola vez, llegue a correr o no */
+    private static final class Permit {
+        private final AtomicBoolean held = new AtomicBoolean(true);
+        volatile boolean started;
+
+        void release() {
+            if (held.getAndSet(false)) {
+                PERMITS.release();
+            }
+        }
+
+        /** Interrumpe la búsqueda; si nunca arrancó, su finally no va a correr y el permiso se devuelve acá */
+        void cancel(Future<?> future) {
+            future.cancel(true);
+            if (!started) {
+                release();
+            }
+        }
+    }
+
+    private Optional<HexPosition> fallback(String outcome, HexPosition move) {
+        FALLBACKS.increment();
+        lastOutcome = outcome;
+        return Optional.of(move);
+    }
+
+    @Override
+    protected Function<HexPosition, Double> getHeuristicFunction(HexPosition targetPosition) {
+        return pos -> (double) hexBoard.getEscapeField().distanceAt(pos);
+    }
+
+    @Override
+    protected Predicate<HexPosition> getGoalPredicate() {
+        return pos -> {
+            int cell = hexBoard.indexOf(pos.getQ(), pos.getR());
+            return cell >= 0 && hexBoard.getTopology().isBorder(cell);
+        };
+    }
+
+    @Override
+    protected double getMoveCost(HexPosition from, HexPosition to) {
+        return 1.0;
+    }
+
+    @Override
+    public boolean hasPathToGoal(HexPosition currentPosition) {
+        return hexBoard.getEscapeField().canEscapeFrom(hexBoard.indexOf(currentPosition.getQ(), currentPosition.getR()));
+    }
+
+    @Override
+    public List<HexPosition> getFullPath(HexPosition currentPosition, HexPosition targetPosition) {
+        return new DistanceFieldCatMovement(hexBoard).getFullPath(currentPosition, targetPosition);
+    }
+
+    /** Estrategia envuelta del último movimiento (corre sobre una copia del tablero) */
+    public Optional<CatMovementStrategy<HexPosition>> getLastSearch() {
+        return Optional.ofNullable(lastSearch);
+    }
+
+    /** Cómo terminó el último movimiento: completed, anytime, deadline, saturated, interrupted o error */
+    public String getLastOutcome() {
+        return lastOutcome;
+    }
+
+    /** Métricas acumuladas del proceso */
+    public static Map<String, Object> getMetrics() {
+        long moves = MOVES.sum();
+        long anytime = ANYTIME_MOVES.sum();
+        Map<String, Object> metrics = new HashMap<>();
+        metrics.put("moves", moves);
+        metrics.put("completed", COMPLETED.sum());
+        metrics.put("deadlineHits", DEADLINE_HITS.sum());
+        metrics.put("deadlineHitRate", moves == 0 ? 0.0 : (double) DEADLINE_HITS.sum() / moves);
+        metrics.put("anytimeMoves", anytime);
+        metrics.put("anytimeAverageDepth", anytime == 0 ? 0.0 : (double) ANYTIME_DEPTH.sum() / anytime);
+        metrics.put("fallbacks", FALLBACKS.sum());
+        metrics.put("fallbackRate", moves == 0 ? 0.0 : (double) FALLBACKS.sum() / moves);
+        metrics.put("saturated", SATURATED.sum());
+        metrics.put("errors", ERRORS.sum());
+        metrics.put("busySearchThreads", SEARCH_THREADS - PERMITS.availablePermits());
+        return metrics;
+    }
+}
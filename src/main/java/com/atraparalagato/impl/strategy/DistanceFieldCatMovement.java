@@ -0,0 +1,96 @@
+package com.atraparalagato.impl.strategy;
+
+import com.atraparalagato.base.model.GameBoard;
+import com.atraparalagato.base.strategy.CatMovementStrategy;
+import com.atraparalagato.impl.model.EscapeDistanceField;
+import com.atraparalagato.impl.model.HexBoardTopology;
+import com.atraparalagato.impl.model.HexGameBoard;
+import com.atraparalagato.impl.model.HexPosition;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Estrategia del gato basada en el campo de distancias de escape del tablero.
+ *
+ * En lugar de buscar un camino hacia adelante desde el gato en cada turno,
+ * consulta el {@link EscapeDistanceField} (una BFS inversa desde todo el borde):
+ * - el movimiento es el vecino con menor distancia al borde,
+ * - hasPathToGoal es una consulta O(1),
+ * - el camino completo se obtiene descendiendo por el campo.
+ */
+public class DistanceFieldCatMovement extends CatMovementStrategy<HexPosition> {
+
+    private final HexGameBoard hexBoard;
+
+    public DistanceFieldCatMovement(GameBoard<HexPosition> board) {
+        super(board);
+        if (!(board instanceof HexGameBoard hex)) {
+            throw new IllegalArgumentException("DistanceFieldCatMovement requiere un HexGameBoard");
+        }
+        this.hexBoard = hex;
+    }
+
+    @Override
+    protected List<HexPosition> getPossibleMoves(HexPosition currentPosition) {
+        return hexBoard.getFreeNeighbors(currentPosition);
+    }
+
+    /** Vecino con menor distancia de escape; ninguno si el gato está encerrado */
+    @Override
+    protected Optional<HexPosition> selectBestMove(List<HexPosition> possibleMoves,
+                                                   HexPosition currentPosition,
+                                                   HexPosition targetPosition) {
+        int cat = hexBoard.indexOf(currentPosition.getQ(), currentPosition.getR());
+        EscapeDistanceField field = hexBoard.getEscapeField();
+        if (cat < 0 || !field.canEscapeFrom(cat)) {
+            return Optional.empty();
+        }
+        int next = field.bestNeighbor(cat);
+        return next < 0 ? Optional.empty() : Optional.of(hexBoard.positionAt(next));
+    }
+
+    @Override
+    protected Function<HexPosition, Double> getHeuristicFunction(HexPosition targetPosition) {
+        return pos -> (double) hexBoard.getEscapeField().distanceAt(pos);
+    }
+
+    @Override
+    protected Predicate<HexPosition> getGoalPredicate() {
+        HexBoardTopology topology = hexBoard.getTopology();
+        return pos -> {
+            int cell = topology.indexOf(pos.getQ(), pos.getR());
+            return cell >= 0 && topology.isBorder(cell);
+        };
+    }
+
+    @Override
+    protected double getMoveCost(HexPosition from, HexPosition to) {
+        return 1.0;
+    }
+
+    @Override
+    public boolean hasPathToGoal(HexPosition currentPosition) {
+        return hexBoard.getEscapeField().distanceAt(currentPosition) != EscapeDistanceField.UNREACHABLE;
+    }
+
+    /** Desciende por el campo desde el gato hasta el borde; lista vacía si no hay camino */
+    @Override
+    public List<HexPosition> getFullPath(HexPosition currentPosition, HexPosition targetPosition) {
+        EscapeDistanceField field = hexBoard.getEscapeField();
+        int cell = hexBoard.indexOf(currentPosition.getQ(), currentPosition.getR());
+        List<HexPosition> path = new ArrayList<>();
+        if (cell < 0 || !field.canEscapeFrom(cell)) {
+            return path;
+        }
+        path.add(currentPosition);
+        while (field.distanceAt(cell) > 0) {
+            cell = field.bestNeighbor(cell);
+            path.add(hexBoard.positionAt(cell));
+        }
+        return path;
+    }
+}
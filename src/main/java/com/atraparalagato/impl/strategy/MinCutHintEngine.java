@@ -0,0 +1,227 @@
+package com.atraparalagato.impl.strategy;
+
+import com.atraparalagato.impl.model.EscapeDistanceField;
+import com.atraparalagato.impl.model.HexBoardTopology;
+import com.atraparalagato.impl.model.HexGameBoard;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sugerencias para el jugador basadas en el corte mínimo de vértices entre el
+ * gato y el borde.
+ *
+ * Cada celda libre es un nodo partido (entrada -> salida, capacidad 1) y las
+ * celdas del borde desembocan en un sumidero virtual. El flujo máximo es la
+ * cantidad mínima de muros que encierran al gato, y las celdas del corte son
+ * dónde ponerlos. Como el gato tiene a lo sumo 6 vecinos, el flujo es a lo sumo 6:
+ * alcanzan 7 BFS sobre el grafo residual, todo en arreglos primitivos.
+ *
+ * De las celdas del corte se sugiere la primera que cruza el camino mínimo actual
+ * del gato (todo camino de escape pasa por el corte).
+ */
+public final class MinCutHintEngine {
+
+    private static final Map<Integer, int[]> REVERSE_ARCS = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Workspace> WORKSPACES = ThreadLocal.withInitial(Workspace::new);
+
+    private final HexGameBoard board;
+    private final HexBoardTopology topology;
+    private int cutSize;
+    private int[] cut = new int[0];
+
+    public MinCutHintEngine(HexGameBoard board) {
+        this.board = board;
+        this.topology = board.getTopology();
+    }
+
+    /** Muro sugerido (índice de celda), o -1 si el gato ya no puede escapar */
+    public int suggestWall(int cat) {
+        if (!computeCut(cat)) {
+            return -1;
+        }
+        EscapeDistanceField field = board.getEscapeField();
+        Workspace ws = WORKSPACES.get();
+        for (int cell = field.bestNeighbor(cat); cell >= 0; cell = field.bestNeighbor(cell)) {
+            if (ws.isCut(cell)) return cell;
+            if (topology.isBorder(cell)) break;
+        }
+        // No debería pasar: el camino mínimo cruza el corte. Por las dudas, la celda del corte más cercana al borde
+        int best = cut[0];
+        for (int i = 1; i < cutSize; i++) {
+            if (field.distanceAt(cut[i]) < field.distanceAt(best)) best = cut[i];
+        }
+        return best;
+    }
+
+    /** Cantidad mínima de muros que encierran al gato (válido tras suggestWall) */
+    public int getCutSize() {
+        return cutSize;
+    }
+
+    /** Celdas del corte mínimo más cercano al gato (válido tras suggestWall) */
+    public int[] getCut() {
+        return Arrays.copyOf(cut, cutSize);
+    }
+
+    /** Flujo máximo de Edmonds-Karp; deja en la marca de la última BFS el lado del gato. false si no hay escape */
+    private boolean computeCut(int cat) {
+        int cellCount = topology.getCellCount();
+        int[] reverse = REVERSE_ARCS.computeIfAbsent(topology.getSize(), size -> reverseArcs(topology));
+        Workspace ws = WORKSPACES.get();
+        ws.reset(cellCount, reverse.length);
+
+        cutSize = 0;
+        if (topology.isBorder(cat)) {
+            cut = new int[0];
+            return false;
+        }
+        while (augment(cat, reverse, ws)) {
+            cutSize++;
+        }
+        // La última BFS no llegó al sumidero: lo alcanzado es el lado del gato
+        cut = new int[cutSize];
+        int found = 0;
+        for (int v = 0; v < cellCount && found < cutSize; v++) {
+            if (ws.reached(2 * v) && !ws.reached(2 * v + 1)) cut[found++] = v;
+        }
+        ws.markCut(cut, found);
+        cutSize = found;
+        return cutSize > 0;
+    }
+
+    /** BFS de un camino aumentante desde la salida del gato; si llega al sumidero, empuja una unidad */
+    private boolean augment(int cat, int[] reverse, Workspace ws) {
+        int generation = ws.nextGeneration();
+        int[] queue = ws.queue;
+        int head = 0, tail = 0;
+        int source = 2 * cat + 1;
+        ws.stamp[source] = generation;
+        ws.parentNode[source] = -1;
+        queue[tail++] = source;
+
+        while (head < tail) {
+            int node = queue[head++];
+            int v = node >>> 1;
+            boolean out = (node & 1) == 1;
+            if (out) {
+                if (topology.isBorder(v)) {
+                    push(node, source, reverse, ws);
+                    return true;
+                }
+                if (v != cat && ws.vertexFlow[v] == 1) {
+                    tail = visit(node, 2 * v, -1, generation, ws, tail);
+                }
+                for (int k = topology.neighborsStart(v); k < topology.neighborsEnd(v); k++) {
+                    int u = topology.neighbor(k);
+                    if (u != cat && !board.isBlockedIndex(u)) {
+                        tail = visit(node, 2 * u, k, generation, ws, tail);
+                    }
+                }
+            } else {
+                if (ws.vertexFlow[v] == 0) {
+                    tail = visit(node, 2 * v + 1, -1, generation, ws, tail);
+                }
+                for (int k = topology.neighborsStart(v); k < topology.neighborsEnd(v); k++) {
+                    // Residual hacia atrás: cancelar flujo que entró a v desde u
+                    if (ws.arcFlow[k] < 0) {
+                        tail = visit(node, 2 * topology.neighbor(k) + 1, k, generation, ws, tail);
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private static int visit(int from, int to, int arc, int generation, Workspace ws, int tail) {
+        if (ws.stamp[to] != generation) {
+            ws.stamp[to] = generation;
+            ws.parentNode[to] = from;
+            ws.parentArc[to] = arc;
+            ws.queue[tail++] = to;
+        }
+        return tail;
+    }
+
+    /** Recorre el camino desde la última celda (la del borde) hasta la fuente actualizando flujos */
+    private static void push(int last, int source, int[] reverse, Workspace ws) {
+        for (int node = last; node != source; node = ws.parentNode[node]) {
+            int arc = ws.parentArc[node];
+            if (arc >= 0) {
+                // El flujo en arcos es antisimétrico: empujar por u -> v cancela el de v -> u
+                ws.arcFlow[arc]++;
+                ws.arcFlow[reverse[arc]]--;
+            } else {
+                ws.vertexFlow[node >>> 1] = (node & 1) == 1 ? 1 : 0;
+            }
+        }
+    }
+
+    /** Para cada arco v -> u, el índice del arco u -> v */
+    private static int[] reverseArcs(HexBoardTopology topology) {
+        int[] reverse = new int[topology.neighborsEnd(topology.getCellCount() - 1)];
+        for (int v = 0; v < topology.getCellCount(); v++) {
+            for (int k = topology.neighborsStart(v); k < topology.neighborsEnd(v); k++) {
+                int u = topology.neighbor(k);
+                for (int j = topology.neighborsStart(u); j < topology.neighborsEnd(u); j++) {
+                    if (topology.neighbor(j) == v) reverse[k] = j;
+                }
+            }
+        }
+        return reverse;
+    }
+
+    /** Arreglos por hilo: nodos partidos (2 por celda) y flujo por arco; el sumidero es implícito */
+    private static final class Workspace {
+        int[] queue = new int[0];
+        int[] stamp = new int[0];
+        int[] parentNode = new int[0];
+        int[] parentArc = new int[0];
+        int[] vertexFlow = new int[0];
+        int[] arcFlow = new int[0];
+        long[] cutCells = new long[0];
+        int generation;
+
+        void reset(int cellCount, int arcCount) {
+            int nodes = 2 * cellCount;
+            if (stamp.length < nodes) {
+                queue = new int[nodes];
+                stamp = new int[nodes];
+                parentNode = new int[nodes];
+                parentArc = new int[nodes];
+                vertexFlow = new int[cellCount];
+                cutCells = new long[(cellCount + 63) >>> 6];
+                generation = 0;
+            }
+            if (arcFlow.length < arcCount) {
+                arcFlow = new int[arcCount];
+            }
+            Arrays.fill(vertexFlow, 0, cellCount, 0);
+            Arrays.fill(arcFlow, 0, arcCount, 0);
+            Arrays.fill(cutCells, 0, (cellCount + 63) >>> 6, 0L);
+        }
+
+        int nextGeneration() {
+            if (++generation == Integer.MAX_VALUE) {
+                Arrays.fill(stamp, 0);
+                generation = 1;
+            }
+            return generation;
+        }
+
+        boolean reached(int node) {
+            return stamp[node] == generation;
+        }
+
+        void markCut(int[] cells, int count) {
+            for (int i = 0; i < count; i++) {
+                cutCells[cells[i] >>> 6] |= 1L << cells[i];
+            }
+        }
+
+        boolean isCut(int cell) {
+            return (cutCells[cell >>> 6] & (1L << cell)) != 0;
+        }
+    }
+}
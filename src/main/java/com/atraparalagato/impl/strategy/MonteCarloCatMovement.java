@@ -0,0 +1,508 @@
+package com.atraparalagato.impl.strategy;
+
+import com.atraparalagato.base.model.GameBoard;
+import com.atraparalagato.base.strategy.CatMovementStrategy;
+import com.atraparalagato.impl.model.EscapeDistanceField;
+import com.atraparalagato.impl.model.HexBoardTopology;
+import com.atraparalagato.impl.model.HexGameBoard;
+import com.atraparalagato.impl.model.HexPosition;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Gato por Monte Carlo Tree Search (UCT) con paralelismo de raíz.
+ *
+ * Cada hilo del ForkJoinPool construye su propio árbol desde la posición actual
+ * y al final se suman las visitas de los hijos de la raíz; gana el movimiento
+ * más visitado. Sin estado compartido entre hilos no hacen falta locks ni
+ * pérdida virtual. Con paralelismo 1 el único árbol se construye en el hilo que
+ * llama, sin pasar por el pool compartido (ni esperar detrás de otras búsquedas).
+ *
+ * - Presupuesto por movimiento: tiempo de reloj y/o número de simulaciones.
+ * - Se puede cortar en cualquier momento con stop(): cada hilo publica cada 16
+ *   simulaciones las visitas de los hijos de la raíz, y el más visitado hasta
+ *   ahí es el mejor movimiento parcial.
+ * - En el árbol, el jugador sólo considera muros sobre caminos mínimos del gato.
+ * - Las simulaciones no crean objetos: restauran un bitset de trabajo por hilo
+ *   y usan SplittableRandom. Gato: casi siempre el vecino más cercano al borde.
+ *   Jugador: casi siempre un muro junto al gato.
+ */
+public class MonteCarloCatMovement extends CatMovementStrategy<HexPosition> implements AnytimeCatSearch {
+
+    public static final long DEFAULT_BUDGET_MILLIS = 50;
+
+    private static final double EXPLORATION = 1.0;
+    private static final int MAX_WALL_CANDIDATES = 10;
+    private static final int MAX_TREE_DEPTH = 128;
+    private static final int GREEDY_CAT_PERCENT = 80;
+    private static final int ADJACENT_WALL_PERCENT = 75;
+
+    private static final Map<Integer, ForkJoinPool> POOLS = new ConcurrentHashMap<>();
+
+    private static volatile long defaultBudgetMillis = DEFAULT_BUDGET_MILLIS;
+    private static volatile int defaultParallelism = Runtime.getRuntime().availableProcessors();
+
+    private final HexGameBoard hexBoard;
+    private final long budgetNanos;
+    private final long maxSimulations;
+    private final int parallelism;
+    private final long seed;
+
+    private volatile boolean stopRequested;
+    private volatile Progress progress;
+
+    private long lastSimulations;
+    private long lastElapsedNanos;
+    private double lastWinRate;
+
+    public MonteCarloCatMovement(GameBoard<HexPosition> board) {
+        this(board, defaultBudgetMillis, Long.MAX_VALUE, defaultParallelism, System.nanoTime());
+    }
+
+    /**
+     * @param budgetMillis   tope de tiempo por movimiento
+     * @param maxSimulations tope de simulaciones por movimiento (entre todos los hilos)
+     * @param parallelism    hilos que construyen árboles en paralelo
+     * @param seed           semilla de las simulaciones
+     */
+    public MonteCarloCatMovement(GameBoard<HexPosition> board, long budgetMillis, long maxSimulations,
+                                 int parallelism, long seed) {
+        super(board);
+        if (!(board instanceof HexGameBoard hex)) {
+            throw new IllegalArgumentException("MonteCarloCatMovement requiere un HexGameBoard");
+        }
+        if (budgetMillis <= 0 || maxSimulations <= 0 || parallelism <= 0) {
+            throw new IllegalArgumentException("Presupuesto, simulaciones y paralelismo deben ser positivos");
+        }
+        this.hexBoard = hex;
+        this.budgetNanos = budgetMillis * 1_000_000L;
+        this.maxSimulations = maxSimulations;
+        this.parallelism = parallelism;
+        this.seed = seed;
+    }
+
+    /**
+     * Con el presupuesto por defecto pero en un solo hilo, el que llama: para
+     * búsquedas de fondo que no deben competir con las de las partidas por el pool.
+     */
+    public static MonteCarloCatMovement singleThreaded(GameBoard<HexPosition> board) {
+        return new MonteCarloCatMovement(board, defaultBudgetMillis, Long.MAX_VALUE, 1, System.nanoTime());
+    }
+
+    /** Presupuesto por movimiento de las instancias creadas sin indicarlo (propiedad game.cat-search.budget-ms) */
+    public static void setDefaultBudgetMillis(long budgetMillis) {
+        if (budgetMillis <= 0) {
+            throw new IllegalArgumentException("El presupuesto de búsqueda debe ser positivo: " + budgetMillis);
+        }
+        defaultBudgetMillis = budgetMillis;
+    }
+
+    /** Hilos por movimiento de las instancias creadas sin indicarlo (propiedad game.cat-search.threads) */
+    public static void setDefaultParallelism(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("El paralelismo debe ser positivo: " + parallelism);
+        }
+        defaultParallelism = parallelism;
+    }
+
+    /** Hijo de la raíz más visitado hasta ahora entre todos los hilos */
+    @Override
+    public int getBestMoveSoFar() {
+        Progress current = progress;
+        return current == null ? -1 : current.mostVisited();
+    }
+
+    /** El árbol no avanza por profundidades: 1 si ya hay un movimiento, 0 si no */
+    @Override
+    public int getCompletedDepth() {
+        return getBestMoveSoFar() >= 0 ? 1 : 0;
+    }
+
+    @Override
+    public void stop() {
+        stopRequested = true;
+    }
+
+    @Override
+    protected List<HexPosition> getPossibleMoves(HexPosition currentPosition) {
+        return hexBoard.getFreeNeighbors(currentPosition);
+    }
+
+    @Override
+    protected Optional<HexPosition> selectBestMove(List<HexPosition> possibleMoves,
+                                                   HexPosition currentPosition,
+                                                   HexPosition targetPosition) {
+        int cat = hexBoard.indexOf(currentPosition.getQ(), currentPosition.getR());
+        if (cat < 0) {
+            return Optional.empty();
+        }
+        int[] rootMoves = possibleMoves.stream().mapToInt(p -> hexBoard.indexOf(p.getQ(), p.getR())).toArray();
+        for (int move : rootMoves) {
+            if (hexBoard.getTopology().isBorder(move)) {
+                return Optional.of(hexBoard.positionAt(move)); // escape inmediato
+            }
+        }
+
+        long begin = System.nanoTime();
+        long deadline = begin + budgetNanos;
+        ScratchBoard root = ScratchBoard.copyOf(hexBoard);
+        SplittableRandom seeds = new SplittableRandom(seed);
+        Progress shared = new Progress(this, rootMoves);
+        progress = shared;
+        List<Worker> workers = new ArrayList<>(parallelism);
+        for (int w = 0; w < parallelism; w++) {
+            long quota = maxSimulations / parallelism + (w < maxSimulations % parallelism ? 1 : 0);
+            workers.add(new Worker(root, cat, rootMoves, seeds.split(), deadline, quota, shared));
+        }
+
+        List<long[]> results = new ArrayList<>(parallelism);
+        if (parallelism == 1) {
+            results.add(workers.get(0).call());
+        } else {
+            for (Future<long[]> result : poolFor(parallelism).invokeAll(workers)) {
+                results.add(join(result));
+            }
+        }
+
+        long[] visits = new long[rootMoves.length];
+        long[] wins = new long[rootMoves.length];
+        long simulations = 0;
+        for (long[] worker : results) {
+            for (int i = 0; i < rootMoves.length; i++) {
+                visits[i] += worker[i];
+                wins[i] += worker[rootMoves.length + i];
+            }
+            simulations += worker[2 * rootMoves.length];
+        }
+
+        int best = 0;
+        for (int i = 1; i < rootMoves.length; i++) {
+            if (visits[i] > visits[best]) best = i;
+        }
+        lastSimulations = simulations;
+        lastElapsedNanos = System.nanoTime() - begin;
+        lastWinRate = visits[best] == 0 ? 0.0 : (double) wins[best] / visits[best];
+        return Optional.of(hexBoard.positionAt(rootMoves[best]));
+    }
+
+    private static long[] join(Future<long[]> result) {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Búsqueda interrumpida", e);
+        } catch (java.util.concurrent.ExecutionException e) {
+            throw new IllegalStateException("Falló una simulación", e.getCause());
+        }
+    }
+
+    /** Un pool por nivel de paralelismo, compartido entre movimientos y partidas */
+    private static ForkJoinPool poolFor(int parallelism) {
+        return POOLS.computeIfAbsent(parallelism, ForkJoinPool::new);
+    }
+
+    /** Visitas de los hijos de la raíz que publican los hilos, para stop() y getBestMoveSoFar() */
+    private static final class Progress {
+        final MonteCarloCatMovement search;
+        final int[] rootMoves;
+        final AtomicLongArray visits;
+
+        Progress(MonteCarloCatMovement search, int[] rootMoves) {
+            this.search = search;
+            this.rootMoves = rootMoves;
+            this.visits = new AtomicLongArray(rootMoves.length);
+        }
+
+        boolean stopped() {
+            return search.stopRequested;
+        }
+
+        int mostVisited() {
+            int best = -1;
+            long bestVisits = 0;
+            for (int i = 0; i < rootMoves.length; i++) {
+                long v = visits.get(i);
+                if (v > bestVisits) {
+                    bestVisits = v;
+                    best = rootMoves[i];
+                }
+            }
+            return best;
+        }
+    }
+
+    /** Nodo del árbol de un hilo; wins cuenta las victorias de quien hizo el movimiento */
+    private static final class Node {
+        final int move;
+        Node[] children;
+        long visits;
+        long wins;
+
+        Node(int move) {
+            this.move = move;
+        }
+    }
+
+    /** Árbol UCT de un hilo; devuelve visitas y victorias de cada hijo de la raíz y el total de simulaciones */
+    private static final class Worker implements Callable<long[]> {
+        private final ScratchBoard root;
+        private final ScratchBoard board;
+        private final HexBoardTopology topology;
+        private final int rootCat;
+        private final int[] rootMoves;
+        private final SplittableRandom random;
+        private final long deadline;
+        private final long quota;
+        private final Progress progress;
+        private final long[] published;
+        private final Node[] path = new Node[MAX_TREE_DEPTH + 1];
+        private final int[] candidates = new int[MAX_WALL_CANDIDATES + 6];
+        private final int playoutLimit;
+        private int cat;
+
+        Worker(ScratchBoard root, int cat, int[] rootMoves, SplittableRandom random, long deadline, long quota,
+               Progress progress) {
+            this.root = root;
+            this.topology = root.topology();
+            this.board = new ScratchBoard(topology);
+            this.rootCat = cat;
+            this.rootMoves = rootMoves;
+            this.random = random;
+            this.deadline = deadline;
+            this.quota = quota;
+            this.progress = progress;
+            this.published = new long[rootMoves.length];
+            this.playoutLimit = 4 * topology.getSize() + 8;
+        }
+
+        @Override
+        public long[] call() {
+            Node tree = new Node(-1);
+            tree.children = new Node[rootMoves.length];
+            for (int i = 0; i < rootMoves.length; i++) {
+                tree.children[i] = new Node(rootMoves[i]);
+            }
+            long simulations = 0;
+            while (simulations < quota && !progress.stopped()
+                    && ((simulations & 15) != 0 || System.nanoTime() - deadline < 0)) {
+                simulate(tree);
+                simulations++;
+                if ((simulations & 15) == 0) {
+                    publish(tree);
+                }
+            }
+            long[] result = new long[2 * rootMoves.length + 1];
+            for (int i = 0; i < rootMoves.length; i++) {
+                result[i] = tree.children[i].visits;
+                result[rootMoves.length + i] = tree.children[i].wins;
+            }
+            result[2 * rootMoves.length] = simulations;
+            return result;
+        }
+
+        /** Suma a las visitas compartidas lo que este árbol agregó desde la última vez */
+        private void publish(Node tree) {
+            for (int i = 0; i < rootMoves.length; i++) {
+                long visits = tree.children[i].visits;
+                progress.visits.addAndGet(i, visits - published[i]);
+                published[i] = visits;
+            }
+        }
+
+        /** Selección, expansión, simulación y retropropagación de una iteración */
+        private void simulate(Node tree) {
+            board.copyFrom(root);
+            cat = rootCat;
+            boolean catToMove = true;
+            Node node = tree;
+            int length = 0;
+            path[length++] = tree;
+
+            while (node.children != null && node.children.length > 0 && length <= MAX_TREE_DEPTH
+                    && !topology.isBorder(cat)) {
+                node = select(node);
+                apply(node.move, catToMove);
+                catToMove = !catToMove;
+                path[length++] = node;
+            }
+            if (node.children == null && length <= MAX_TREE_DEPTH && !topology.isBorder(cat)) {
+                expand(node, catToMove);
+                if (node.children.length > 0) {
+                    node = node.children[random.nextInt(node.children.length)];
+                    apply(node.move, catToMove);
+                    catToMove = !catToMove;
+                    path[length++] = node;
+                }
+            }
+
+            boolean catWins = playout(catToMove);
+            // path[i] con i impar es un movimiento del gato, con i par (> 0) un muro
+            for (int i = 0; i < length; i++) {
+                Node n = path[i];
+                n.visits++;
+                boolean byCat = (i & 1) == 1;
+                if (i > 0 && byCat == catWins) n.wins++;
+            }
+        }
+
+        private Node select(Node node) {
+            Node best = null;
+            double bestValue = Double.NEGATIVE_INFINITY;
+            double logParent = Math.log(Math.max(1, node.visits));
+            for (Node child : node.children) {
+                if (child.visits == 0) return child;
+                double value = (double) child.wins / child.visits
+                        + EXPLORATION * Math.sqrt(logParent / child.visits);
+                if (value > bestValue) {
+                    bestValue = value;
+                    best = child;
+                }
+            }
+            return best;
+        }
+
+        private void expand(Node node, boolean catToMove) {
+            int count = 0;
+            if (catToMove) {
+                for (int k = topology.neighborsStart(cat); k < topology.neighborsEnd(cat); k++) {
+                    int n = topology.neighbor(k);
+                    if (!board.isWall(n)) candidates[count++] = n;
+                }
+            } else {
+                SearchBuffers buffers = SearchBuffers.forCurrentThread(topology.getCellCount());
+                count = board.shortestPathCells(cat, -1, candidates, MAX_WALL_CANDIDATES, buffers);
+            }
+            node.children = new Node[count];
+            for (int i = 0; i < count; i++) {
+                node.children[i] = new Node(candidates[i]);
+            }
+        }
+
+        private void apply(int move, boolean byCat) {
+            if (byCat) {
+                cat = move;
+            } else {
+                board.toggleWall(move);
+            }
+        }
+
+        /** Partida al azar hasta que el gato escapa, queda sin movimientos o se agota el límite */
+        private boolean playout(boolean catToMove) {
+            for (int ply = 0; ply < playoutLimit; ply++) {
+                if (topology.isBorder(cat)) return true;
+                if (catToMove) {
+                    int next = catMove();
+                    if (next < 0) return false;
+                    cat = next;
+                } else {
+                    wallMove();
+                }
+                catToMove = !catToMove;
+            }
+            return topology.isBorder(cat);
+        }
+
+        private int catMove() {
+            boolean greedy = random.nextInt(100) < GREEDY_CAT_PERCENT;
+            int chosen = -1;
+            int bestDistance = Integer.MAX_VALUE;
+            int seen = 0;
+            for (int k = topology.neighborsStart(cat); k < topology.neighborsEnd(cat); k++) {
+                int n = topology.neighbor(k);
+                if (board.isWall(n)) continue;
+                int distance = greedy ? topology.distanceToBorder(n) : 0;
+                if (distance < bestDistance) {
+                    bestDistance = distance;
+                    chosen = n;
+                    seen = 1;
+                } else if (distance == bestDistance && random.nextInt(++seen) == 0) {
+                    chosen = n; // muestreo de reservorio entre empatados
+                }
+            }
+            return chosen;
+        }
+
+        private void wallMove() {
+            if (random.nextInt(100) < ADJACENT_WALL_PERCENT) {
+                int chosen = -1;
+                int seen = 0;
+                for (int k = topology.neighborsStart(cat); k < topology.neighborsEnd(cat); k++) {
+                    int n = topology.neighbor(k);
+                    if (!board.isWall(n) && random.nextInt(++seen) == 0) chosen = n;
+                }
+                if (chosen >= 0) {
+                    board.toggleWall(chosen);
+                    return;
+                }
+            }
+            for (int attempt = 0; attempt < 4; attempt++) {
+                int cell = random.nextInt(topology.getCellCount());
+                if (cell != cat && !board.isWall(cell)) {
+                    board.toggleWall(cell);
+                    return;
+                }
+            }
+        }
+    }
+
+    @Override
+    protected Function<HexPosition, Double> getHeuristicFunction(HexPosition targetPosition) {
+        return pos -> (double) hexBoard.getEscapeField().distanceAt(pos);
+    }
+
+    @Override
+    protected Predicate<HexPosition> getGoalPredicate() {
+        HexBoardTopology topology = hexBoard.getTopology();
+        return pos -> {
+            int cell = topology.indexOf(pos.getQ(), pos.getR());
+            return cell >= 0 && topology.isBorder(cell);
+        };
+    }
+
+    @Override
+    protected double getMoveCost(HexPosition from, HexPosition to) {
+        return 1.0;
+    }
+
+    @Override
+    public boolean hasPathToGoal(HexPosition currentPosition) {
+        return hexBoard.getEscapeField().distanceAt(currentPosition) != EscapeDistanceField.UNREACHABLE;
+    }
+
+    /** Camino mínimo actual según el campo de escape (la búsqueda sólo decide el próximo paso) */
+    @Override
+    public List<HexPosition> getFullPath(HexPosition currentPosition, HexPosition targetPosition) {
+        return new DistanceFieldCatMovement(hexBoard).getFullPath(currentPosition, targetPosition);
+    }
+
+    /** Simulaciones hechas en el último movimiento, entre todos los hilos */
+    public long getLastSimulations() {
+        return lastSimulations;
+    }
+
+    public double getLastPlayoutsPerSecond() {
+        return lastElapsedNanos == 0 ? 0.0 : lastSimulations * 1e9 / lastElapsedNanos;
+    }
+
+    public Map<String, Object> getSearchStatistics() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("simulations", lastSimulations);
+        stats.put("playoutsPerSecond", Math.round(getLastPlayoutsPerSecond()));
+        stats.put("threads", parallelism);
+        stats.put("winRate", lastWinRate);
+        stats.put("elapsedMillis", lastElapsedNanos / 1_000_000.0);
+        return stats;
+    }
+}
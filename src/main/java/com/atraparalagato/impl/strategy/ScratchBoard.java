@@ -0,0 +1,136 @@
+package com.atraparalagato.impl.strategy;
+
+import com.atraparalagato.impl.model.HexBoardTopology;
+import com.atraparalagato.impl.model.HexGameBoard;
+
+/**
+ * Copia primitiva de los muros de un tablero para simular jugadas sin tocar la
+ * partida: un bitset que se puede modificar y restaurar sin crear objetos.
+ *
+ * Además ofrece las consultas que comparten las estrategias con búsqueda:
+ * la distancia mínima del gato al borde y las celdas de sus caminos mínimos
+ * (los muros que vale la pena considerar).
+ */
+final class ScratchBoard {
+
+    private final HexBoardTopology topology;
+    private final long[] walls;
+    private int exitCount;
+
+    ScratchBoard(HexBoardTopology topology) {
+        this.topology = topology;
+        this.walls = new long[(topology.getCellCount() + 63) >>> 6];
+    }
+
+    /** Nueva copia con los muros actuales del tablero */
+    static ScratchBoard copyOf(HexGameBoard board) {
+        ScratchBoard scratch = new ScratchBoard(board.getTopology());
+        for (int cell = 0; cell < scratch.topology.getCellCount(); cell++) {
+            if (board.isBlockedIndex(cell)) scratch.walls[cell >>> 6] |= 1L << cell;
+        }
+        return scratch;
+    }
+
+    /** Restaura los muros desde otra copia del mismo tamaño, sin crear objetos */
+    void copyFrom(ScratchBoard other) {
+        System.arraycopy(other.walls, 0, walls, 0, walls.length);
+    }
+
+    HexBoardTopology topology() {
+        return topology;
+    }
+
+    boolean isWall(int cell) {
+        return (walls[cell >>> 6] & (1L << cell)) != 0;
+    }
+
+    void toggleWall(int cell) {
+        walls[cell >>> 6] ^= 1L << cell;
+    }
+
+    /** Celdas de borde a distancia mínima encontradas por el último shortestEscape */
+    int exitCount() {
+        return exitCount;
+    }
+
+    /**
+     * BFS desde el gato hasta el primer nivel que toca el borde. Deja las celdas
+     * de borde de ese nivel en buffers.parent() y devuelve la distancia, o -1.
+     */
+    int shortestEscape(int cat, SearchBuffers buffers) {
+        int generation = buffers.nextGeneration();
+        int[] stamp = buffers.stamp();
+        int[] queue = buffers.queue();
+        int[] depth = buffers.cost();
+        int[] exits = buffers.parent();
+        int head = 0, tail = 0;
+        int found = -1;
+        exitCount = 0;
+        stamp[cat] = generation;
+        depth[cat] = 0;
+        queue[tail++] = cat;
+        while (head < tail) {
+            int v = queue[head++];
+            if (found >= 0 && depth[v] > found) break;
+            if (topology.isBorder(v)) {
+                found = depth[v];
+                exits[exitCount++] = v;
+                continue;
+            }
+            for (int k = topology.neighborsStart(v); k < topology.neighborsEnd(v); k++) {
+                int n = topology.neighbor(k);
+                if (stamp[n] != generation && !isWall(n)) {
+                    stamp[n] = generation;
+                    depth[n] = depth[v] + 1;
+                    queue[tail++] = n;
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Muros candidatos: celdas de algún camino mínimo del gato al borde, las más
+     * cercanas al gato primero, con first adelante si es válido. Devuelve cuántas
+     * dejó en moves (como mucho max); 0 si el gato ya no puede escapar.
+     */
+    int shortestPathCells(int cat, int first, int[] moves, int max, SearchBuffers buffers) {
+        if (shortestEscape(cat, buffers) < 0) {
+            return 0;
+        }
+        int generation = buffers.generation();
+        int[] stamp = buffers.stamp();
+        int[] queue = buffers.queue();
+        int[] depth = buffers.cost();
+        int[] exits = buffers.parent();
+
+        // Recorrido hacia atrás por el DAG de caminos mínimos; se marca negando la profundidad
+        int tail = 0;
+        for (int i = 0; i < exitCount; i++) {
+            int v = exits[i];
+            depth[v] = -1 - depth[v];
+            queue[tail++] = v;
+        }
+        for (int head = 0; head < tail; head++) {
+            int v = queue[head];
+            int previous = -1 - depth[v] - 1;
+            if (previous <= 0) continue;
+            for (int k = topology.neighborsStart(v); k < topology.neighborsEnd(v); k++) {
+                int n = topology.neighbor(k);
+                if (stamp[n] == generation && depth[n] == previous) {
+                    depth[n] = -1 - previous;
+                    queue[tail++] = n;
+                }
+            }
+        }
+
+        int count = 0;
+        if (first >= 0 && first < topology.getCellCount() && first != cat && !isWall(first)) {
+            moves[count++] = first;
+        }
+        for (int i = tail - 1; i >= 0 && count < max; i--) {
+            if (queue[i] != first) moves[count++] = queue[i];
+        }
+        return count;
+    }
+}
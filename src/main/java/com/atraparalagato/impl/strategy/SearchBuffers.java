@@ -0,0 +1,92 @@
+package com.atraparalagato.impl.strategy;
+
+import java.util.Arrays;
+
+/**
+ * Buffers primitivos reutilizables para las búsquedas sobre el tablero.
+ *
+ * Hay una instancia por hilo. En lugar de limpiar los arreglos entre búsquedas
+ * se usa un sello de generación: una celda está "visitada" si stamp[celda]
+ * coincide con la generación actual. Así cada búsqueda arranca en O(1).
+ *
+ * No es reentrante: una búsqueda no debe lanzar otra búsqueda en el mismo hilo
+ * mientras usa estos buffers.
+ */
+public final class SearchBuffers {
+
+    private static final ThreadLocal<SearchBuffers> LOCAL = ThreadLocal.withInitial(SearchBuffers::new);
+
+    private int[] queue = new int[0];
+    private int[] parent = new int[0];
+    private int[] stamp = new int[0];
+    private int[] cost = new int[0];
+    private long[] closed = new long[0];
+    private final CellHeap heap = new CellHeap();
+    private int generation;
+
+    private SearchBuffers() {
+    }
+
+    /** Buffers del hilo actual, con capacidad para al menos cellCount celdas */
+    public static SearchBuffers forCurrentThread(int cellCount) {
+        SearchBuffers buffers = LOCAL.get();
+        buffers.ensureCapacity(cellCount);
+        return buffers;
+    }
+
+    private void ensureCapacity(int cellCount) {
+        if (stamp.length < cellCount) {
+            queue = new int[cellCount];
+            parent = new int[cellCount];
+            stamp = new int[cellCount];
+            cost = new int[cellCount];
+            closed = new long[(cellCount + 63) >>> 6];
+            generation = 0;
+        }
+        heap.ensureCapacity(cellCount);
+    }
+
+    /** Inicia una búsqueda nueva invalidando todas las marcas anteriores */
+    public int nextGeneration() {
+        if (++generation == Integer.MAX_VALUE) {
+            Arrays.fill(stamp, 0);
+            generation = 1;
+        }
+        return generation;
+    }
+
+    /** Generación de la búsqueda en curso */
+    public int generation() {
+        return generation;
+    }
+
+    public int[] queue() {
+        return queue;
+    }
+
+    public int[] parent() {
+        return parent;
+    }
+
+    public int[] stamp() {
+        return stamp;
+    }
+
+    /** Costo acumulado por celda; sólo es válido donde stamp coincide con la generación */
+    public int[] cost() {
+        return cost;
+    }
+
+    /** Bitset de celdas cerradas; quien lo usa debe limpiarlo con clearClosed */
+    public long[] closed() {
+        return closed;
+    }
+
+    public void clearClosed(int cellCount) {
+        Arrays.fill(closed, 0, (cellCount + 63) >>> 6, 0L);
+    }
+
+    public CellHeap heap() {
+        return heap;
+    }
+}
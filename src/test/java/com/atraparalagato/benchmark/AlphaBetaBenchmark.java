@@ -0,0 +1,109 @@
+package com.atraparalagato.benchmark;
+
+import com.atraparalagato.base.strategy.CatMovementStrategy;
+import com.atraparalagato.impl.model.EscapeDistanceField;
+import com.atraparalagato.impl.model.HexGameBoard;
+import com.atraparalagato.impl.model.HexGameState;
+import com.atraparalagato.impl.model.HexPosition;
+import com.atraparalagato.impl.strategy.AlphaBetaCatMovement;
+import com.atraparalagato.impl.strategy.BFSCatMovement;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Random;
+
+/**
+ * Gato BFS contra gato alfa-beta frente al mismo jugador simulado.
+ *
+ * El jugador mira un muro hacia adelante: prueba cada celda libre y pone el muro
+ * que más aleja al gato del borde (o lo encierra). Las partidas arrancan con
+ * algunos muros al azar, con la misma semilla para los dos gatos.
+ *
+ * Para el gato alfa-beta se informa profundidad media, nodos por segundo,
+ * tasa de aciertos de la tabla de transposición y el p99 del tiempo por movimiento.
+ *
+ * Ejecutar con:
+ *   java -cp target/classes:target/test-classes com.atraparalagato.benchmark.AlphaBetaBenchmark
+ */
+public class AlphaBetaBenchmark {
+
+    private static final int[] SIZES = {5, 7};
+    private static final int GAMES = 100;
+    private static final long BUDGET_MILLIS = 20;
+    private static final int OPENING_WALLS_PER_RADIUS = 4;
+
+    public static void main(String[] args) {
+        System.out.printf("%6s %-10s %10s %10s %12s %10s %10s%n",
+                "radio", "gato", "escapes", "prof.", "nodos/s", "TT", "p99 ms");
+        for (int size : SIZES) {
+            report(size, false);
+            report(size, true);
+        }
+    }
+
+    private static void report(int size, boolean alphaBeta) {
+        Random random = new Random(size);
+        int escapes = 0;
+        long depthSum = 0, npsSum = 0;
+        double ttSum = 0;
+        long[] thinkNanos = new long[GAMES * size * size * 4];
+        int moves = 0;
+        for (int game = 0; game < GAMES; game++) {
+            HexGameState state = new HexGameState("bench", size);
+            HexGameBoard board = state.getGameBoard();
+            for (int i = 0; i < size * OPENING_WALLS_PER_RADIUS; i++) {
+                HexPosition p = board.positionAt(random.nextInt(board.getCellCount()));
+                if (!p.equals(state.getCatPosition())) state.executeMove(p);
+            }
+            while (!state.isGameFinished()) {
+                state.executeMove(bestWall(board, state.getCatPosition()));
+                if (state.isGameFinished()) break;
+
+                CatMovementStrategy<HexPosition> cat = alphaBeta
+                        ? new AlphaBetaCatMovement(board, BUDGET_MILLIS)
+                        : new BFSCatMovement(board);
+                long start = System.nanoTime();
+                Optional<HexPosition> next = cat.findBestMove(state.getCatPosition(), null);
+                if (moves < thinkNanos.length) thinkNanos[moves] = System.nanoTime() - start;
+                moves++;
+                if (cat instanceof AlphaBetaCatMovement search) {
+                    depthSum += search.getLastDepth();
+                    npsSum += (long) search.getLastNodesPerSecond();
+                    ttSum += search.getLastTtHitRate();
+                }
+                if (next.isEmpty()) break;
+                state.setCatPosition(next.get());
+            }
+            if (!state.hasPlayerWon()) escapes++;
+        }
+        long[] sorted = Arrays.copyOf(thinkNanos, Math.min(moves, thinkNanos.length));
+        Arrays.sort(sorted);
+        double p99 = sorted.length == 0 ? 0 : sorted[(int) (sorted.length * 0.99)] / 1e6;
+        System.out.printf("%6d %-10s %9d%% %10s %12s %10s %10.2f%n", size, alphaBeta ? "alfa-beta" : "bfs",
+                100 * escapes / GAMES,
+                alphaBeta ? String.format("%.1f", (double) depthSum / moves) : "-",
+                alphaBeta ? String.valueOf(npsSum / moves) : "-",
+                alphaBeta ? String.format("%.0f%%", 100 * ttSum / moves) : "-",
+                p99);
+    }
+
+    /** Muro que maximiza la distancia de escape del gato (encerrarlo vale más que todo) */
+    private static HexPosition bestWall(HexGameBoard board, HexPosition cat) {
+        int catCell = board.indexOf(cat.getQ(), cat.getR());
+        int best = -1;
+        long bestValue = -1;
+        for (int wall = 0; wall < board.getCellCount(); wall++) {
+            if (wall == catCell || board.isBlockedIndex(wall)) continue;
+            HexGameBoard copy = new HexGameBoard(board.getBoardSize());
+            for (HexPosition p : board.getBlockedPositions()) copy.blockTile(p);
+            copy.blockTile(copy.positionAt(wall));
+            int distance = copy.getEscapeField().distanceAt(catCell);
+            long value = distance == EscapeDistanceField.UNREACHABLE ? Long.MAX_VALUE : distance;
+            if (value > bestValue) {
+                bestValue = value;
+                best = wall;
+            }
+        }
+        return board.positionAt(best);
+    }
+}
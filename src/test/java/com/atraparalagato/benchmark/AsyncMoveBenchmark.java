@@ -0,0 +1,85 @@
+package com.atraparalagato.benchmark;
+
+import com.atraparalagato.impl.arena.ArenaPlayer;
+import com.atraparalagato.loadtest.LoadTest;
+import com.atraparalagato.loadtest.LoadTestRunner;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * /block contra /block-async con muchos clientes simultáneos (5.000 por defecto)
+ * y distintos topes de hilos de Tomcat: pedidos por segundo, latencia de los
+ * muros y el pico de hilos del servlet que llegaron a existir.
+ *
+ * Con /block cada cálculo del gato retiene un hilo del servlet, así que con
+ * pocos hilos la cola de Tomcat crece; con /block-async el hilo vuelve al pool
+ * apenas encola el movimiento y el cálculo queda acotado al pool de cálculo.
+ *
+ * Ejecutar con:
+ *   mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.atraparalagato.benchmark.AsyncMoveBenchmark -Dexec.args="5000"
+ */
+public class AsyncMoveBenchmark {
+
+    private static final int BOARD_SIZE = 15;
+    private static final int[] SERVLET_THREADS = {200, 16};
+
+    public static void main(String[] args) throws Exception {
+        int clients = args.length > 0 ? Integer.parseInt(args[0]) : 5_000;
+        System.out.printf("%d clientes, radio %d, %d núcleos%n", clients, BOARD_SIZE,
+                Runtime.getRuntime().availableProcessors());
+        System.out.printf("%-12s %8s %12s %10s %12s %12s %14s%n",
+                "ruta", "tope", "pedidos/s", "errores", "block p50", "block p99", "hilos servlet");
+        for (int threads : SERVLET_THREADS) {
+            run("/api/game/block", threads, clients);
+            run("/api/game/block-async", threads, clients);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void run(String blockPath, int servletThreads, int clients) throws Exception {
+        List<String> properties = List.of(
+                "game.cat-strategy=astar",
+                "server.tomcat.threads.max=" + servletThreads,
+                "server.tomcat.max-connections=20000",
+                "server.tomcat.accept-count=20000",
+                "game.async.timeout-ms=60000");
+        try (ConfigurableApplicationContext context = LoadTest.startServer(properties)) {
+            ArenaPlayer policy = ArenaPlayer.greedyAdjacent();
+            LoadTestRunner warmup = new LoadTestRunner(LoadTest.baseUri(context), Math.min(clients, 200), 1, BOARD_SIZE, policy, 7);
+            warmup.setBlockPath(blockPath);
+            warmup.run();
+
+            LoadTestRunner runner = new LoadTestRunner(LoadTest.baseUri(context), clients, 1, BOARD_SIZE, policy, 1);
+            runner.setBlockPath(blockPath);
+            AtomicInteger peakServletThreads = new AtomicInteger();
+            ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+            sampler.scheduleAtFixedRate(() -> peakServletThreads.accumulateAndGet(servletThreads(), Math::max),
+                    0, 20, TimeUnit.MILLISECONDS);
+            Map<String, Object> report;
+            try {
+                report = runner.run();
+            } finally {
+                sampler.shutdownNow();
+            }
+
+            Map<String, Object> block = (Map<String, Object>) ((Map<String, Object>) report.get("endpoints")).get("block");
+            System.out.printf("%-12s %8d %12.0f %9.2f%% %12.2f %12.2f %14d%n",
+                    blockPath.endsWith("async") ? "block-async" : "block", servletThreads,
+                    (Double) report.get("requestsPerSecond"), 100 * (Double) report.get("errorRate"),
+                    (Double) block.get("p50Millis"), (Double) block.get("p99Millis"), peakServletThreads.get());
+        }
+    }
+
+    /** Hilos de trabajo de Tomcat vivos (http-nio-<puerto>-exec-N) */
+    private static int servletThreads() {
+        return (int) Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getName().contains("-exec-"))
+                .count();
+    }
+}
@@ -0,0 +1,122 @@
+package com.atraparalagato.benchmark;
+
+import com.atraparalagato.base.model.GameBoard;
+import com.atraparalagato.impl.model.HexGameBoard;
+import com.atraparalagato.impl.model.HexPosition;
+import com.atraparalagato.impl.strategy.BFSCatMovement;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Latencia (p50/p99) y bytes asignados por movimiento del gato con BFSCatMovement,
+ * comparando el modo indexado (HexGameBoard) con el modo genérico de colecciones.
+ *
+ * Ejecutar con:
+ *   java -cp target/classes:target/test-classes com.atraparalagato.benchmark.BFSCatMovementBenchmark
+ */
+public class BFSCatMovementBenchmark {
+
+    private static final int[] SIZES = {9, 50, 100};
+    private static final int SAMPLES = 500;
+
+    public static void main(String[] args) {
+        System.out.printf("%6s %-9s %12s %12s %14s%n", "radio", "modo", "p50 µs", "p99 µs", "bytes/mov");
+        for (int size : SIZES) {
+            HexGameBoard board = midGameBoard(size);
+            HexPosition cat = new HexPosition(0, 0);
+            BFSCatMovement indexed = new BFSCatMovement(board);
+            BFSCatMovement generic = new BFSCatMovement(new GenericBoard(board));
+
+            run(indexed, cat, SAMPLES);
+            run(generic, cat, SAMPLES);
+            report(size, "indexado", run(indexed, cat, SAMPLES));
+            report(size, "genérico", run(generic, cat, SAMPLES));
+        }
+    }
+
+    /** Tablero de media partida: 25% de muros aleatorios, con el centro libre */
+    static HexGameBoard midGameBoard(int size) {
+        HexGameBoard board = new HexGameBoard(size);
+        Random random = new Random(size);
+        for (HexPosition p : board.getPositionsWhere(p -> p.getQ() != 0 || p.getR() != 0)) {
+            if (random.nextDouble() < 0.25) board.blockTile(p);
+        }
+        return board;
+    }
+
+    private static long[] run(BFSCatMovement strategy, HexPosition cat, int samples) {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+        long[] times = new long[samples + 1];
+        long allocatedBefore = threads.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < samples; i++) {
+            long start = System.nanoTime();
+            strategy.findBestMove(cat, null);
+            times[i] = System.nanoTime() - start;
+        }
+        times[samples] = (threads.getThreadAllocatedBytes(thread) - allocatedBefore) / samples;
+        return times;
+    }
+
+    private static void report(int size, String mode, long[] result) {
+        long bytes = result[result.length - 1];
+        long[] times = Arrays.copyOf(result, result.length - 1);
+        Arrays.sort(times);
+        System.out.printf("%6d %-9s %12.1f %12.1f %14d%n", size, mode,
+                times[times.length / 2] / 1000.0,
+                times[(int) (times.length * 0.99)] / 1000.0,
+                bytes);
+    }
+
+    /** Envoltorio que oculta HexGameBoard para forzar el camino genérico */
+    private static final class GenericBoard extends GameBoard<HexPosition> {
+        private final HexGameBoard delegate;
+
+        GenericBoard(HexGameBoard delegate) {
+            super(delegate.getSize());
+            this.delegate = delegate;
+        }
+
+        @Override
+        protected Set<HexPosition> initializeBlockedPositions() {
+            return new HashSet<>();
+        }
+
+        @Override
+        protected boolean isPositionInBounds(HexPosition position) {
+            return delegate.isPositionInBounds(position);
+        }
+
+        @Override
+        protected boolean isValidMove(HexPosition position) {
+            return false;
+        }
+
+        @Override
+        protected void executeMove(HexPosition position) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<HexPosition> getPositionsWhere(Predicate<HexPosition> condition) {
+            return delegate.getPositionsWhere(condition);
+        }
+
+        @Override
+        public List<HexPosition> getAdjacentPositions(HexPosition position) {
+            return delegate.getAdjacentPositions(position);
+        }
+
+        @Override
+        public boolean isBlocked(HexPosition position) {
+            return delegate.isBlocked(position);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.atraparalagato.benchmark;
+
+import com.atraparalagato.impl.model.HexGameBoard;
+import com.atraparalagato.impl.model.HexGameState;
+import com.atraparalagato.impl.model.HexPosition;
+import com.atraparalagato.impl.service.BatchMove;
+import com.atraparalagato.impl.service.CatMoveCache;
+import com.atraparalagato.impl.service.HexGameService;
+import com.atraparalagato.impl.strategy.CatStrategyType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Movimientos por segundo de muchas partidas a la vez: uno por uno con
+ * executePlayerMove contra lotes de executePlayerMoves con 1, 2, 4... hilos.
+ *
+ * Cada ronda manda un muro por partida (el paso codicioso del gato, así las
+ * partidas duran). Las partidas mezclan tamaños de tablero y la caché de
+ * movimientos está apagada para medir sólo el cálculo del gato.
+ *
+ * Ejecutar con:
+ *   java -cp target/classes:target/test-classes com.atraparalagato.benchmark.BatchMoveBenchmark [partidas]
+ */
+public class BatchMoveBenchmark {
+
+    private static final int[] SIZES = {9, 15, 25};
+    private static final int ROUNDS = 6;
+
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 600;
+        int cores = Runtime.getRuntime().availableProcessors();
+        System.out.printf("%d partidas, %d rondas, %d núcleos%n", games, ROUNDS, cores);
+        System.out.printf("%-12s %8s %14s %10s%n", "modo", "hilos", "movidas/s", "speedup");
+
+        run(games, 0); // calentamiento
+        run(games, 1);
+        double sequential = run(games, 0);
+        System.out.printf("%-12s %8d %14.0f %10.2f%n", "uno por uno", 1, sequential, 1.0);
+        for (int threads = 1; threads <= Math.max(4, cores); threads *= 2) {
+            double batched = run(games, threads);
+            System.out.printf("%-12s %8d %14.0f %10.2f%n", "lote", threads, batched, batched / sequential);
+        }
+    }
+
+    /** Movimientos por segundo; threads = 0 usa executePlayerMove uno por uno */
+    private static double run(int games, int threads) {
+        HexGameService service = new HexGameService();
+        service.setCatStrategy(CatStrategyType.ASTAR);
+        CatMoveCache cache = new CatMoveCache(1, 1024);
+        cache.setEnabled(false);
+        service.setMoveCache(cache);
+        if (threads > 0) {
+            service.setBatchParallelism(threads);
+        }
+        List<HexGameState> states = new ArrayList<>(games);
+        for (int i = 0; i < games; i++) {
+            int size = SIZES[i % SIZES.length];
+            states.add((HexGameState) service.startNewGame(size));
+        }
+
+        long moves = 0;
+        long elapsed = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            List<BatchMove> batch = new ArrayList<>(games);
+            for (HexGameState state : states) {
+                if (state.isGameFinished()) continue;
+                HexGameBoard board = state.getGameBoard();
+                HexPosition cat = state.getCatPosition();
+                int wall = board.getEscapeField().bestNeighbor(board.indexOf(cat.getQ(), cat.getR()));
+                if (wall >= 0) batch.add(new BatchMove(state.getGameId(), board.positionAt(wall)));
+            }
+            long start = System.nanoTime();
+            if (threads == 0) {
+                for (BatchMove move : batch) {
+                    service.executePlayerMove(move.getGameId(), move.getPosition());
+                }
+            } else {
+                service.executePlayerMoves(batch);
+            }
+            elapsed += System.nanoTime() - start;
+            moves += batch.size();
+        }
+        return moves / (elapsed / 1e9);
+    }
+}
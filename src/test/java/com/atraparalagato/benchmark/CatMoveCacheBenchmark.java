@@ -0,0 +1,87 @@
+package com.atraparalagato.benchmark;
+
+import com.atraparalagato.impl.model.HexGameBoard;
+import com.atraparalagato.impl.model.HexGameState;
+import com.atraparalagato.impl.model.HexPosition;
+import com.atraparalagato.impl.service.CatMoveCache;
+import com.atraparalagato.impl.strategy.CatStrategyType;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+/**
+ * Comparación A/B de la caché de movimientos del gato sobre muchas partidas:
+ * - sin caché,
+ * - con caché pero sin canonicalizar (sólo posiciones idénticas),
+ * - con caché y las 12 simetrías.
+ *
+ * Los jugadores simulados abren con un muro cerca del centro y después casi
+ * siempre bloquean la celda a la que iría el gato, con algo de ruido: así se
+ * repiten las aperturas (y sus versiones rotadas), como pasa con jugadores reales.
+ *
+ * Ejecutar con:
+ *   java -cp target/classes:target/test-classes com.atraparalagato.benchmark.CatMoveCacheBenchmark
+ */
+public class CatMoveCacheBenchmark {
+
+    private static final int[] SIZES = {5, 9};
+    private static final int GAMES = 20_000;
+
+    public static void main(String[] args) {
+        System.out.printf("%6s %-16s %12s %10s %10s%n", "radio", "modo", "µs/movida", "aciertos", "entradas");
+        for (int size : SIZES) {
+            for (String mode : new String[] {"sin caché", "exacta", "simetrías"}) {
+                run(size, mode); // calentamiento
+                CatMoveCache cache = cacheFor(mode);
+                double micros = run(size, cache) / 1000.0;
+                long lookups = cache.getHits() + cache.getMisses();
+                System.out.printf("%6d %-16s %12.2f %9.1f%% %10d%n", size, mode, micros,
+                        lookups == 0 ? 0.0 : 100.0 * cache.getHits() / lookups, cache.size());
+            }
+        }
+    }
+
+    private static CatMoveCache cacheFor(String mode) {
+        CatMoveCache cache = new CatMoveCache(1_000_000, 256L * 1024 * 1024);
+        cache.setEnabled(!mode.equals("sin caché"));
+        cache.setUseSymmetries(mode.equals("simetrías"));
+        return cache;
+    }
+
+    private static void run(int size, String mode) {
+        run(size, cacheFor(mode));
+    }
+
+    /** Tiempo medio por movimiento del gato, en nanosegundos */
+    private static long run(int size, CatMoveCache cache) {
+        Random random = new Random(size);
+        long total = 0;
+        long moves = 0;
+        for (int game = 0; game < GAMES; game++) {
+            HexGameState state = new HexGameState("bench-" + game, size);
+            HexGameBoard board = state.getGameBoard();
+            List<HexPosition> opening = board.getPositionsWhere(p -> {
+                double d = p.distanceTo(new HexPosition(0, 0));
+                return d >= 1 && d <= 2;
+            });
+            state.executeMove(opening.get(random.nextInt(opening.size())));
+            while (!state.isGameFinished()) {
+                long start = System.nanoTime();
+                Optional<HexPosition> next = cache.findBestMove(board, state.getCatPosition(), CatStrategyType.BFS);
+                total += System.nanoTime() - start;
+                moves++;
+                if (next.isEmpty()) break;
+                state.setCatPosition(next.get());
+                if (state.isGameFinished()) break;
+
+                HexPosition cat = state.getCatPosition();
+                int wall = random.nextInt(5) == 0
+                        ? random.nextInt(board.getCellCount())
+                        : board.getEscapeField().bestNeighbor(board.indexOf(cat.getQ(), cat.getR()));
+                if (wall >= 0) state.executeMove(board.positionAt(wall));
+            }
+        }
+        return total / Math.max(1, moves);
+    }
+}
@@ -0,0 +1,61 @@
+package com.atraparalagato.benchmark;
+
+import com.atraparalagato.impl.model.HexGameBoard;
+import com.atraparalagato.impl.model.HexPosition;
+import com.atraparalagato.impl.strategy.BFSCatMovement;
+import com.atraparalagato.impl.strategy.DistanceFieldCatMovement;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Costo por turno de decidir el movimiento del gato, verificar si puede escapar
+ * y calcular la sugerencia para el jugador:
+ * - BFS: tres búsquedas hacia adelante con getFullPath,
+ * - campo de escape: la reparación incremental del muro y tres consultas.
+ *
+ * Cada turno agrega un muro aleatorio, como en una partida real.
+ *
+ * Ejecutar con:
+ *   java -cp target/classes:target/test-classes com.atraparalagato.benchmark.DistanceFieldBenchmark
+ */
+public class DistanceFieldBenchmark {
+
+    private static final int[] SIZES = {50, 100, 200, 500};
+    private static final int TURNS = 40;
+
+    public static void main(String[] args) {
+        System.out.printf("%6s %16s %16s%n", "radio", "BFS µs/turno", "campo µs/turno");
+        for (int size : SIZES) {
+            replay(size, false);
+            replay(size, true);
+            System.out.printf("%6d %16.1f %16.1f%n", size, replay(size, false) / 1000.0, replay(size, true) / 1000.0);
+        }
+    }
+
+    /** Tiempo medio por turno en nanosegundos */
+    private static long replay(int size, boolean useField) {
+        HexGameBoard board = new HexGameBoard(size);
+        List<HexPosition> cells = board.getPositionsWhere(p -> p.getQ() != 0 || p.getR() != 0);
+        Random random = new Random(size);
+        HexPosition cat = new HexPosition(0, 0);
+        long total = 0;
+        for (int turn = 0; turn < TURNS; turn++) {
+            long start = System.nanoTime();
+            board.blockTile(cells.get(random.nextInt(cells.size())));
+            if (useField) {
+                DistanceFieldCatMovement strategy = new DistanceFieldCatMovement(board);
+                strategy.findBestMove(cat, null);
+                strategy.hasPathToGoal(cat);
+                board.getEscapeField().bestNeighbor(board.indexOf(cat.getQ(), cat.getR()));
+            } else {
+                BFSCatMovement strategy = new BFSCatMovement(board);
+                strategy.findBestMove(cat, null);
+                strategy.getFullPath(cat, null);
+                strategy.getFullPath(cat, null);
+            }
+            total += System.nanoTime() - start;
+        }
+        return total / TURNS;
+    }
+}
@@ -0,0 +1,113 @@
+package com.atraparalagato.benchmark;
+
+import com.atraparalagato.impl.model.HexGameBoard;
+import com.atraparalagato.impl.model.HexPosition;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Compara el tablero con bitset contra el tablero anterior basado en HashSet.
+ *
+ * Ejecutar con:
+ *   java -cp target/classes:target/test-classes com.atraparalagato.benchmark.HexGameBoardBenchmark
+ *
+ * Para cada radio se bloquea el 30% de las celdas y luego se consultan todas
+ * las celdas repetidamente con isBlocked.
+ */
+public class HexGameBoardBenchmark {
+
+    private static final int[] SIZES = {5, 9, 50, 500};
+    private static final double WALL_DENSITY = 0.3;
+
+    public static void main(String[] args) {
+        System.out.printf("%6s %10s %16s %16s %16s %16s%n",
+                "radio", "celdas", "hash block ns", "bits block ns", "hash query ns", "bits query ns");
+        for (int size : SIZES) {
+            List<HexPosition> cells = new HexGameBoard(size).getPositionsWhere(p -> true);
+            List<HexPosition> walls = pickWalls(cells, size);
+            int rounds = Math.max(1, 2_000_000 / cells.size());
+
+            // Calentamiento para que el JIT compile ambas variantes
+            for (int i = 0; i < 3; i++) {
+                runHashSet(size, cells, walls, rounds);
+                runBitset(size, cells, walls, rounds);
+            }
+            long[] hash = runHashSet(size, cells, walls, rounds);
+            long[] bits = runBitset(size, cells, walls, rounds);
+
+            System.out.printf("%6d %10d %16.1f %16.1f %16.2f %16.2f%n",
+                    size, cells.size(),
+                    (double) hash[0] / walls.size(), (double) bits[0] / walls.size(),
+                    (double) hash[1] / ((long) rounds * cells.size()),
+                    (double) bits[1] / ((long) rounds * cells.size()));
+        }
+    }
+
+    private static List<HexPosition> pickWalls(List<HexPosition> cells, int size) {
+        Random random = new Random(size);
+        List<HexPosition> walls = new ArrayList<>();
+        for (HexPosition p : cells) {
+            if (random.nextDouble() < WALL_DENSITY) walls.add(p);
+        }
+        return walls;
+    }
+
+    private static long[] runBitset(int size, List<HexPosition> cells, List<HexPosition> walls, int rounds) {
+        long start = System.nanoTime();
+        HexGameBoard board = new HexGameBoard(size);
+        for (HexPosition w : walls) board.blockTile(w);
+        long blockTime = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        int hits = 0;
+        for (int i = 0; i < rounds; i++) {
+            for (HexPosition p : cells) {
+                if (board.isBlocked(p)) hits++;
+            }
+        }
+        long queryTime = System.nanoTime() - start;
+        consume(hits);
+        return new long[]{blockTime, queryTime};
+    }
+
+    private static long[] runHashSet(int size, List<HexPosition> cells, List<HexPosition> walls, int rounds) {
+        long start = System.nanoTime();
+        HashSetBoard board = new HashSetBoard();
+        for (HexPosition w : walls) board.blockTile(w);
+        long blockTime = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        int hits = 0;
+        for (int i = 0; i < rounds; i++) {
+            for (HexPosition p : cells) {
+                if (board.isBlocked(p)) hits++;
+            }
+        }
+        long queryTime = System.nanoTime() - start;
+        consume(hits);
+        return new long[]{blockTime, queryTime};
+    }
+
+    private static volatile int sink;
+
+    private static void consume(int value) {
+        sink += value;
+    }
+
+    /** Réplica del tablero original: muros en un HashSet de posiciones */
+    private static final class HashSetBoard {
+        private final Set<HexPosition> blocked = new HashSet<>();
+
+        void blockTile(HexPosition pos) {
+            blocked.add(pos);
+        }
+
+        boolean isBlocked(HexPosition pos) {
+            return blocked.contains(pos);
+        }
+    }
+}
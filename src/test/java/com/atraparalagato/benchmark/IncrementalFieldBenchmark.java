@@ -0,0 +1,130 @@
+package com.atraparalagato.benchmark;
+
+import com.atraparalagato.impl.model.EscapeDistanceField;
+import com.atraparalagato.impl.model.HexGameBoard;
+import com.atraparalagato.impl.model.HexPosition;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Reproduce partidas largas en tableros grandes y mide el costo por turno de
+ * mantener el campo de escape:
+ * - incremental: cada muro repara sólo las celdas afectadas,
+ * - completo: cada turno recalcula el campo entero (lo que hacía el servicio antes).
+ *
+ * El jugador pone cada muro en el camino del gato (o al azar con cierta
+ * probabilidad) y el gato avanza por el campo, como en una partida real;
+ * cuando una partida termina empieza otra hasta completar los turnos.
+ * Al final se agrupan los turnos por celdas reparadas para mostrar que el
+ * costo sigue al tamaño del cambio y no al del tablero.
+ *
+ * Ejecutar con:
+ *   java -cp target/classes:target/test-classes com.atraparalagato.benchmark.IncrementalFieldBenchmark
+ */
+public class IncrementalFieldBenchmark {
+
+    private static final int[] SIZES = {100, 300, 500};
+    private static final int TURNS = 2000;
+    private static final int[] BUCKETS = {0, 1, 10, 100, 1000, 10000, Integer.MAX_VALUE};
+
+    public static void main(String[] args) {
+        System.out.printf("%6s %8s %20s %20s%n", "radio", "turnos", "incremental µs/turno", "completo µs/turno");
+        for (int size : SIZES) {
+            replay(size, true, false);
+            replay(size, false, false);
+            long incremental = replay(size, true, true);
+            long full = replay(size, false, false);
+            System.out.printf("%6d %8d %20.1f %20.1f%n", size, TURNS, incremental / 1000.0, full / 1000.0);
+        }
+    }
+
+    /** Tiempo medio por turno en nanosegundos; si report, imprime el detalle por tamaño de reparación */
+    private static long replay(int size, boolean incremental, boolean report) {
+        Random random = new Random(size);
+        long[] bucketTime = new long[BUCKETS.length - 1];
+        int[] bucketTurns = new int[BUCKETS.length - 1];
+        long total = 0;
+        int turns = 0;
+        int cells = 0;
+        while (turns < TURNS) {
+            // Partida nueva: gato al centro, tablero vacío
+            HexGameBoard board = new HexGameBoard(size);
+            cells = board.getCellCount();
+            EscapeDistanceField field = board.getEscapeField();
+            int cat = board.indexOf(0, 0);
+            while (turns < TURNS && field.distanceAt(cat) > 0 && field.canEscapeFrom(cat)) {
+                int wall = pickWall(board, field, cat, random);
+                if (wall < 0) continue;
+
+                long elapsed;
+                if (incremental) {
+                    long start = System.nanoTime();
+                    board.blockTile(board.positionAt(wall));
+                    field.bestNeighbor(cat);
+                    elapsed = System.nanoTime() - start;
+                } else {
+                    // Se copia fuera de la medición: sólo cuenta el recálculo
+                    board.blockTile(board.positionAt(wall));
+                    HexGameBoard copy = copyWalls(board);
+                    long start = System.nanoTime();
+                    field = copy.getEscapeField();
+                    field.bestNeighbor(cat);
+                    elapsed = System.nanoTime() - start;
+                }
+                total += elapsed;
+                turns++;
+                if (report) {
+                    int bucket = bucketOf(field.getLastRepairSize());
+                    bucketTime[bucket] += elapsed;
+                    bucketTurns[bucket]++;
+                }
+                int next = field.bestNeighbor(cat);
+                if (next >= 0) cat = next;
+            }
+        }
+        if (report) {
+            System.out.printf("  radio %d, %d celdas:%n", size, cells);
+            for (int b = 0; b < bucketTime.length; b++) {
+                if (bucketTurns[b] == 0) continue;
+                String range = BUCKETS[b + 1] == Integer.MAX_VALUE ? BUCKETS[b] + "+" : BUCKETS[b] + "-" + (BUCKETS[b + 1] - 1);
+                System.out.printf("    reparadas %-12s %6d turnos %12.2f µs/turno%n",
+                        range, bucketTurns[b], bucketTime[b] / 1000.0 / bucketTurns[b]);
+            }
+        }
+        return total / turns;
+    }
+
+    /**
+     * Muro del jugador: casi siempre unos pasos adelante en el camino del gato,
+     * a veces en una celda al azar. -1 si la celda elegida no sirve.
+     */
+    private static int pickWall(HexGameBoard board, EscapeDistanceField field, int cat, Random random) {
+        int wall;
+        if (random.nextInt(4) == 0) {
+            wall = random.nextInt(board.getCellCount());
+        } else {
+            wall = cat;
+            int ahead = 1 + random.nextInt(12);
+            for (int i = 0; i < ahead && field.distanceAt(wall) > 0; i++) {
+                wall = field.bestNeighbor(wall);
+            }
+        }
+        return wall == cat || board.isBlockedIndex(wall) ? -1 : wall;
+    }
+
+    private static int bucketOf(int repaired) {
+        int b = 0;
+        while (repaired >= BUCKETS[b + 1]) b++;
+        return b;
+    }
+
+    /** Tablero nuevo con los mismos muros y sin campo: su primer getEscapeField es un recálculo completo */
+    private static HexGameBoard copyWalls(HexGameBoard board) {
+        HexGameBoard copy = new HexGameBoard(board.getBoardSize());
+        for (HexPosition p : board.getBlockedPositions()) {
+            copy.blockTile(p);
+        }
+        return copy;
+    }
+}
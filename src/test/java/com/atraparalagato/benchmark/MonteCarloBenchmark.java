@@ -0,0 +1,62 @@
+package com.atraparalagato.benchmark;
+
+import com.atraparalagato.impl.model.HexGameBoard;
+import com.atraparalagato.impl.model.HexPosition;
+import com.atraparalagato.impl.strategy.MonteCarloCatMovement;
+
+import java.util.Random;
+
+/**
+ * Simulaciones por segundo del gato Monte Carlo según la cantidad de hilos.
+ *
+ * Cada medición decide varios movimientos con un presupuesto fijo de tiempo
+ * sobre tableros con muros al azar (misma semilla para todos los niveles de
+ * paralelismo). La aceleración se calcula contra un solo hilo; más allá de los
+ * núcleos disponibles no debería crecer.
+ *
+ * Ejecutar con:
+ *   java -cp target/classes:target/test-classes com.atraparalagato.benchmark.MonteCarloBenchmark
+ */
+public class MonteCarloBenchmark {
+
+    private static final int[] SIZES = {5, 9};
+    private static final int[] THREADS = {1, 2, 4, 8, 16, 32};
+    private static final long BUDGET_MILLIS = 100;
+    private static final int MOVES = 10;
+    private static final int WARMUP_MOVES = 10;
+
+    public static void main(String[] args) {
+        System.out.println("núcleos disponibles: " + Runtime.getRuntime().availableProcessors());
+        System.out.printf("%6s %6s %14s %12s%n", "radio", "hilos", "simul./s", "aceleración");
+        for (int size : SIZES) {
+            measure(size, 1, WARMUP_MOVES);
+            double base = 0;
+            for (int threads : THREADS) {
+                double rate = measure(size, threads, MOVES);
+                if (threads == 1) base = rate;
+                System.out.printf("%6d %6d %14.0f %11.2fx%n", size, threads, rate, rate / base);
+            }
+        }
+    }
+
+    private static double measure(int size, int threads, int moves) {
+        Random random = new Random(size);
+        long simulations = 0;
+        long nanos = 0;
+        for (int move = 0; move < moves; move++) {
+            HexGameBoard board = new HexGameBoard(size);
+            for (int i = 0; i < size * 3; i++) {
+                int cell = random.nextInt(board.getCellCount());
+                HexPosition p = board.positionAt(cell);
+                if (p.getQ() != 0 || p.getR() != 0) board.blockTile(p);
+            }
+            MonteCarloCatMovement cat =
+                    new MonteCarloCatMovement(board, BUDGET_MILLIS, Long.MAX_VALUE, threads, move);
+            long start = System.nanoTime();
+            cat.findBestMove(new HexPosition(0, 0), null);
+            nanos += System.nanoTime() - start;
+            simulations += cat.getLastSimulations();
+        }
+        return simulations * 1e9 / nanos;
+    }
+}
@@ -0,0 +1,64 @@
+package com.atraparalagato.benchmark;
+
+import com.atraparalagato.impl.model.HexGameBoard;
+import com.atraparalagato.impl.model.HexPosition;
+import com.atraparalagato.impl.strategy.AStarCatMovement;
+import com.atraparalagato.impl.strategy.BFSCatMovement;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Nodos expandidos y tiempo por búsqueda de BFS frente a A* en tableros grandes.
+ *
+ * Ejecutar con:
+ *   java -cp target/classes:target/test-classes com.atraparalagato.benchmark.PathfindingExpansionBenchmark
+ */
+public class PathfindingExpansionBenchmark {
+
+    private static final int[] SIZES = {50, 100, 200, 500};
+    private static final double[] DENSITIES = {0.0, 0.2, 0.35};
+    private static final int REPETITIONS = 20;
+
+    public static void main(String[] args) {
+        System.out.printf("%6s %8s %12s %12s %12s %12s%n",
+                "radio", "muros", "BFS nodos", "A* nodos", "BFS µs", "A* µs");
+        for (int size : SIZES) {
+            for (double density : DENSITIES) {
+                HexGameBoard board = randomBoard(size, density);
+                HexPosition cat = new HexPosition(0, 0);
+                BFSCatMovement bfs = new BFSCatMovement(board);
+                AStarCatMovement aStar = new AStarCatMovement(board);
+
+                long bfsTime = time(() -> bfs.getFullPath(cat, null));
+                long aStarTime = time(() -> aStar.getFullPath(cat, null));
+                System.out.printf("%6d %7.0f%% %12d %12d %12.1f %12.1f%n",
+                        size, density * 100,
+                        bfs.getLastExpandedNodes(), aStar.getLastExpandedNodes(),
+                        bfsTime / 1000.0, aStarTime / 1000.0);
+            }
+        }
+    }
+
+    private static HexGameBoard randomBoard(int size, double density) {
+        HexGameBoard board = new HexGameBoard(size);
+        Random random = new Random(size * 31L + (long) (density * 100));
+        for (HexPosition p : board.getPositionsWhere(p -> p.getQ() != 0 || p.getR() != 0)) {
+            if (random.nextDouble() < density) board.blockTile(p);
+        }
+        return board;
+    }
+
+    /** Mediana de varias repeticiones, tras una ronda de calentamiento */
+    private static long time(Runnable search) {
+        long[] samples = new long[REPETITIONS];
+        for (int i = 0; i < REPETITIONS; i++) search.run();
+        for (int i = 0; i < REPETITIONS; i++) {
+            long start = System.nanoTime();
+            search.run();
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples[REPETITIONS / 2];
+    }
+}
@@ -0,0 +1,72 @@
+package com.atraparalagato.benchmark;
+
+import com.atraparalagato.impl.model.HexGameBoard;
+import com.atraparalagato.impl.model.HexGameState;
+import com.atraparalagato.impl.model.HexPosition;
+import com.atraparalagato.impl.simulation.SimulatedGames;
+import com.atraparalagato.impl.simulation.SimulationEngine;
+import com.atraparalagato.impl.simulation.SimulationPolicies;
+import com.atraparalagato.impl.strategy.DistanceFieldCatMovement;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Turnos por segundo de la autosimulación: partidas con HexGameState (posiciones
+ * como objetos, estrategia del gato por partida) contra el motor por ticks sobre
+ * arreglos primitivos, con 1..N hilos. El jugador bloquea el paso del gato con
+ * 20% de ruido en los dos casos.
+ *
+ * Ejecutar con:
+ *   java -cp target/classes:target/test-classes com.atraparalagato.benchmark.SimulationBenchmark
+ */
+public class SimulationBenchmark {
+
+    private static final int[] SIZES = {5, 9, 15};
+    private static final int OBJECT_GAMES = 20_000;
+    private static final int ENGINE_GAMES = 200_000;
+
+    public static void main(String[] args) {
+        int cores = Runtime.getRuntime().availableProcessors();
+        System.out.printf("%6s %-22s %14s%n", "radio", "modo", "turnos/s");
+        for (int size : SIZES) {
+            runObjects(size); // calentamiento
+            System.out.printf("%6d %-22s %14.0f%n", size, "HexGameState", runObjects(size));
+            for (int threads = 1; threads <= cores; threads *= 2) {
+                runEngine(size, threads);
+                System.out.printf("%6d %-22s %14.0f%n", size, "motor, " + threads + " hilos", runEngine(size, threads));
+            }
+        }
+    }
+
+    private static double runObjects(int size) {
+        Random random = new Random(size);
+        long turns = 0;
+        long start = System.nanoTime();
+        for (int game = 0; game < OBJECT_GAMES; game++) {
+            HexGameState state = new HexGameState("sim-" + game, size);
+            HexGameBoard board = state.getGameBoard();
+            while (!state.isGameFinished()) {
+                HexPosition cat = state.getCatPosition();
+                List<HexPosition> free = board.getFreeNeighbors(cat);
+                int step = board.getEscapeField().bestNeighbor(board.indexOf(cat.getQ(), cat.getR()));
+                HexPosition wall = random.nextDouble() < 0.2 || step < 0
+                        ? free.get(random.nextInt(free.size()))
+                        : board.positionAt(step);
+                state.executeMove(wall);
+                turns++;
+                if (state.isGameFinished()) break;
+                new DistanceFieldCatMovement(board).findBestMove(cat, null).ifPresent(state::setCatPosition);
+            }
+        }
+        return turns / ((System.nanoTime() - start) / 1e9);
+    }
+
+    private static double runEngine(int size, int threads) {
+        try (SimulationEngine engine = new SimulationEngine(SimulationPolicies.blockingPlayer(0.2),
+                SimulationPolicies.shortestPathCat(), threads)) {
+            engine.play(new SimulatedGames(size, ENGINE_GAMES, size));
+            return (double) engine.getStatistics().get("turnsPerSecond");
+        }
+    }
+}
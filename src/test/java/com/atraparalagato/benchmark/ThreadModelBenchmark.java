@@ -0,0 +1,66 @@
+package com.atraparalagato.benchmark;
+
+import com.atraparalagato.controller.GameController;
+import com.atraparalagato.impl.arena.ArenaPlayer;
+import com.atraparalagato.loadtest.LoadTest;
+import com.atraparalagato.loadtest.LoadTestRunner;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pedidos por segundo y latencias con muchos clientes simultáneos (10.000 por
+ * defecto), con el servidor en dos modelos de hilos:
+ * - plataforma: el pool por defecto de Tomcat (200 hilos), el gato se calcula en el hilo de la petición,
+ * - virtual: un hilo virtual por petición y el gato en el pool acotado (un hilo por núcleo).
+ *
+ * Cada modelo arranca su propia instancia de la aplicación y juega las mismas
+ * partidas (misma semilla). Tableros de radio 15 con A*, para que el cálculo
+ * del gato pese. Hace falta Java 21: con 17 el modo virtual no arranca (ver
+ * GameController) y se mide solo el de plataforma.
+ *
+ * Ejecutar con:
+ *   mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.atraparalagato.benchmark.ThreadModelBenchmark -Dexec.args="10000"
+ */
+public class ThreadModelBenchmark {
+
+    private static final int BOARD_SIZE = 15;
+    private static final List<String> COMMON = List.of(
+            "game.cat-strategy=astar",
+            "server.tomcat.max-connections=20000",
+            "server.tomcat.accept-count=20000");
+
+    public static void main(String[] args) throws Exception {
+        int clients = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        System.out.printf("%d clientes, radio %d, %d núcleos, Java %s%n", clients, BOARD_SIZE,
+                Runtime.getRuntime().availableProcessors(), Runtime.version().feature());
+        System.out.printf("%-10s %12s %10s %12s %12s %10s%n",
+                "modelo", "pedidos/s", "errores", "block p50", "block p99", "heap MB");
+        run("plataforma", List.of(), clients);
+        if (Runtime.version().feature() >= GameController.VIRTUAL_THREADS_MIN_JAVA) {
+            run("virtual", List.of("spring.threads.virtual.enabled=true", "game.cat-compute.enabled=true"), clients);
+        } else {
+            System.out.printf("%-10s sin medir: hace falta Java %d%n", "virtual", GameController.VIRTUAL_THREADS_MIN_JAVA);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void run(String name, List<String> properties, int clients) throws Exception {
+        List<String> all = new ArrayList<>(COMMON);
+        all.addAll(properties);
+        try (ConfigurableApplicationContext context = LoadTest.startServer(all)) {
+            ArenaPlayer policy = ArenaPlayer.greedyAdjacent();
+            // Calentamiento: JIT del servidor y del cliente
+            new LoadTestRunner(LoadTest.baseUri(context), Math.min(clients, 200), 1, BOARD_SIZE, policy, 7).run();
+            Map<String, Object> report = new LoadTestRunner(LoadTest.baseUri(context), clients, 1, BOARD_SIZE, policy, 1).run();
+
+            Map<String, Object> block = (Map<String, Object>) ((Map<String, Object>) report.get("endpoints")).get("block");
+            Map<String, Object> heap = (Map<String, Object>) report.get("heap");
+            System.out.printf("%-10s %12.0f %9.2f%% %12.2f %12.2f %+10.1f%n", name,
+                    (Double) report.get("requestsPerSecond"), 100 * (Double) report.get("errorRate"),
+                    (Double) block.get("p50Millis"), (Double) block.get("p99Millis"), (Double) heap.get("growthMb"));
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.atraparalagato.impl.model;
+
+import com.atraparalagato.impl.strategy.AStarCatMovement;
+import com.atraparalagato.impl.strategy.BFSCatMovement;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AStarCatMovementTest {
+
+    @Test
+    public void testPathIsShortestAndValid() {
+        Random random = new Random(3);
+        for (int round = 0; round < 1_000; round++) {
+            int size = 2 + random.nextInt(12);
+            HexGameBoard board = new HexGameBoard(size);
+            double density = random.nextDouble() * 0.5;
+            for (HexPosition p : board.getPositionsWhere(p -> p.getQ() != 0 || p.getR() != 0)) {
+                if (random.nextDouble() < density) board.blockTile(p);
+            }
+            HexPosition cat = new HexPosition(0, 0);
+
+            List<HexPosition> bfsPath = new BFSCatMovement(board).getFullPath(cat, null);
+            List<HexPosition> aStarPath = new AStarCatMovement(board).getFullPath(cat, null);
+
+            boolean escapes = !aStarPath.isEmpty();
+            assertEquals(escapes, new AStarCatMovement(board).hasPathToGoal(cat));
+            assertEquals(escapes, new BFSCatMovement(board).hasPathToGoal(cat));
+            if (bfsPath.size() == 1) {
+                assertTrue(aStarPath.isEmpty(), "A* no debe encontrar camino si BFS no lo encuentra");
+                continue;
+            }
+            assertEquals(bfsPath.size(), aStarPath.size());
+            assertEquals(cat, aStarPath.get(0));
+            for (int i = 1; i < aStarPath.size(); i++) {
+                assertTrue(aStarPath.get(i).isAdjacentTo(aStarPath.get(i - 1)));
+                assertFalse(board.isBlocked(aStarPath.get(i)));
+            }
+            HexPosition goal = aStarPath.get(aStarPath.size() - 1);
+            assertEquals(0, board.getTopology().distanceToBorder(board.indexOf(goal.getQ(), goal.getR())));
+        }
+    }
+
+    @Test
+    public void testExpandsFewerNodesThanBfsOnLargeBoard() {
+        HexGameBoard board = new HexGameBoard(100);
+        HexPosition cat = new HexPosition(0, 0);
+
+        BFSCatMovement bfs = new BFSCatMovement(board);
+        AStarCatMovement aStar = new AStarCatMovement(board);
+        bfs.getFullPath(cat, null);
+        aStar.getFullPath(cat, null);
+
+        assertTrue(aStar.getLastExpandedNodes() * 10 < bfs.getLastExpandedNodes(),
+                "A*: " + aStar.getLastExpandedNodes() + " BFS: " + bfs.getLastExpandedNodes());
+    }
+
+    @Test
+    public void testFindBestMoveMovesTowardsBorder() {
+        HexGameBoard board = new HexGameBoard(5);
+        AStarCatMovement aStar = new AStarCatMovement(board);
+
+        HexPosition next = aStar.findBestMove(new HexPosition(0, 0), null).orElseThrow();
+        assertEquals(4, board.getTopology().distanceToBorder(board.indexOf(next.getQ(), next.getR())));
+    }
+}
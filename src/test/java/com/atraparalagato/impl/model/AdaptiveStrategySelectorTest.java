@@ -0,0 +1,123 @@
+package com.atraparalagato.impl.model;
+
+import com.atraparalagato.impl.service.AdaptiveStrategySelector;
+import com.atraparalagato.impl.strategy.CatStrategyType;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AdaptiveStrategySelectorTest {
+
+    private static final List<CatStrategyType> LADDER =
+            List.of(CatStrategyType.ALPHA_BETA, CatStrategyType.ASTAR, CatStrategyType.DISTANCE_FIELD);
+    private static final int WINDOW = 32;
+
+    @Test
+    public void testStepsDownOneTierPerWindowWhileSloIsBreached() {
+        AdaptiveStrategySelector selector = new AdaptiveStrategySelector(LADDER, 100, 16);
+        play(selector, WINDOW - 1, 150);
+        assertEquals(CatStrategyType.ALPHA_BETA, selector.getCurrentStrategy());
+        play(selector, 1, 150);
+        assertEquals(CatStrategyType.ASTAR, selector.getCurrentStrategy());
+        play(selector, WINDOW, 150);
+        assertEquals(CatStrategyType.DISTANCE_FIELD, selector.getCurrentStrategy());
+        play(selector, WINDOW, 150);
+        assertEquals(CatStrategyType.DISTANCE_FIELD, selector.getCurrentStrategy(), "no hay escalón más bajo");
+    }
+
+    @Test
+    public void testRecoversOnlyAfterSustainedHeadroom() {
+        AdaptiveStrategySelector selector = new AdaptiveStrategySelector(LADDER, 100, 16);
+        play(selector, WINDOW, 150);
+        assertEquals(CatStrategyType.ASTAR, selector.getCurrentStrategy());
+
+        // Entre la mitad del SLO y el SLO: ni baja ni sube
+        play(selector, 10 * WINDOW, 80);
+        assertEquals(CatStrategyType.ASTAR, selector.getCurrentStrategy());
+
+        // Hace falta que el p99 de la ventana (256 movimientos) quede holgado varias veces seguidas
+        play(selector, 3 * WINDOW, 10);
+        assertEquals(CatStrategyType.ASTAR, selector.getCurrentStrategy());
+        int fastMoves = 3 * WINDOW;
+        while (selector.getCurrentStrategy() != CatStrategyType.ALPHA_BETA && fastMoves < 20 * WINDOW) {
+            play(selector, 1, 10);
+            fastMoves++;
+        }
+        assertEquals(CatStrategyType.ALPHA_BETA, selector.getCurrentStrategy());
+
+        Map<String, Object> stats = selector.getStatistics();
+        assertEquals(1L, stats.get("stepsDown"));
+        assertEquals(1L, stats.get("stepsUp"));
+        @SuppressWarnings("unchecked")
+        Map<String, Object> served = (Map<String, Object>) stats.get("servedByTier");
+        assertEquals((long) WINDOW, served.get("alphabeta"));
+        assertEquals(10L * WINDOW + fastMoves, served.get("astar"));
+    }
+
+    @Test
+    public void testConcurrencyAboveLimitStepsDownEvenWithFastMoves() {
+        AdaptiveStrategySelector selector = new AdaptiveStrategySelector(LADDER, 100, 2);
+        int[] tiers = new int[4];
+        for (int i = 0; i < tiers.length; i++) {
+            tiers[i] = selector.beginMove();
+        }
+        for (int tier : tiers) {
+            selector.endMove(tier, 1_000_000);
+        }
+        play(selector, WINDOW - tiers.length, 1);
+        assertEquals(CatStrategyType.ASTAR, selector.getCurrentStrategy());
+    }
+
+    @Test
+    public void testFailedRecoveriesBackOffUnderSustainedOverload() {
+        AdaptiveStrategySelector selector = new AdaptiveStrategySelector(LADDER, 100, 16);
+        // alphabeta siempre supera el SLO; astar siempre sobra
+        int stepsUp = 0;
+        List<Integer> stepUpMoves = new ArrayList<>();
+        CatStrategyType previous = selector.getCurrentStrategy();
+        for (int move = 0; move < 100 * WINDOW; move++) {
+            int tier = selector.beginMove();
+            selector.endMove(tier, (selector.strategyAt(tier) == CatStrategyType.ALPHA_BETA ? 150 : 10) * 1_000_000L);
+            CatStrategyType current = selector.getCurrentStrategy();
+            if (previous == CatStrategyType.ASTAR && current == CatStrategyType.ALPHA_BETA) {
+                stepsUp++;
+                stepUpMoves.add(move);
+            }
+            previous = current;
+        }
+
+        // Sin retroceso subiría cada 4 ventanas (unas 25 veces); con retroceso, 3, 6, 12, 24 y 48 ventanas
+        assertTrue(stepsUp >= 2 && stepsUp <= 5, "subidas: " + stepsUp);
+        for (int i = 2; i < stepUpMoves.size(); i++) {
+            assertTrue(stepUpMoves.get(i) - stepUpMoves.get(i - 1) > stepUpMoves.get(i - 1) - stepUpMoves.get(i - 2));
+        }
+        Map<String, Object> stats = selector.getStatistics();
+        assertEquals((long) stepsUp, stats.get("failedStepsUp"));
+        assertTrue((int) stats.get("windowsToRecover") > 3);
+    }
+
+    @Test
+    public void testUncomputedMovesDoNotCountTowardsTheP99() {
+        AdaptiveStrategySelector selector = new AdaptiveStrategySelector(LADDER, 100, 16);
+        play(selector, WINDOW - 1, 150);
+        for (int i = 0; i < 10 * WINDOW; i++) {
+            selector.endUncomputedMove(selector.beginMove()); // aciertos de caché
+        }
+        assertEquals(CatStrategyType.ALPHA_BETA, selector.getCurrentStrategy());
+        play(selector, 1, 150);
+        assertEquals(CatStrategyType.ASTAR, selector.getCurrentStrategy());
+        assertEquals(0, selector.getStatistics().get("inFlight"));
+    }
+
+    private static void play(AdaptiveStrategySelector selector, int moves, long millis) {
+        for (int i = 0; i < moves; i++) {
+            int tier = selector.beginMove();
+            selector.endMove(tier, millis * 1_000_000);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.atraparalagato.impl.model;
+
+import com.atraparalagato.impl.strategy.AlphaBetaCatMovement;
+import com.atraparalagato.impl.strategy.DistanceFieldCatMovement;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AlphaBetaCatMovementTest {
+
+    @Test
+    public void testMovesAreLegal() {
+        Random random = new Random(5);
+        for (int round = 0; round < 40; round++) {
+            HexGameBoard board = new HexGameBoard(4 + random.nextInt(4));
+            for (HexPosition p : board.getPositionsWhere(p -> p.getQ() != 0 || p.getR() != 0)) {
+                if (random.nextInt(4) == 0) board.blockTile(p);
+            }
+            HexPosition cat = new HexPosition(0, 0);
+            AlphaBetaCatMovement strategy = new AlphaBetaCatMovement(board, 5);
+            strategy.findBestMove(cat, null).ifPresent(move -> {
+                assertTrue(move.isAdjacentTo(cat));
+                assertFalse(board.isBlocked(move));
+            });
+        }
+    }
+
+    @Test
+    public void testTakesImmediateEscape() {
+        HexGameBoard board = new HexGameBoard(5);
+        HexPosition cat = new HexPosition(4, 0);
+        AlphaBetaCatMovement strategy = new AlphaBetaCatMovement(board, 20);
+        HexPosition move = strategy.findBestMove(cat, null).orElseThrow();
+        assertTrue(board.getTopology().isBorder(board.indexOf(move.getQ(), move.getR())));
+    }
+
+    @Test
+    public void testPrefersDoubleExitOverGreedyMove() {
+        // El gato en (1,0) tiene dos vecinos a un paso del borde:
+        // - (2,-1), primero en orden de dirección, con una sola salida libre (3,-1),
+        // - (1,1), con dos salidas (2,1) y (1,2): el jugador sólo puede tapar una.
+        HexGameBoard board = new HexGameBoard(3);
+        board.blockTile(new HexPosition(2, 0));
+        board.blockTile(new HexPosition(3, -2));
+        HexPosition cat = new HexPosition(1, 0);
+
+        HexPosition greedy = new DistanceFieldCatMovement(board).findBestMove(cat, null).orElseThrow();
+        assertEquals(new HexPosition(2, -1), greedy);
+
+        AlphaBetaCatMovement strategy = new AlphaBetaCatMovement(board, 200);
+        assertEquals(new HexPosition(1, 1), strategy.findBestMove(cat, null).orElseThrow());
+        assertTrue(strategy.getLastDepth() >= 3);
+    }
+
+    @Test
+    public void testRespectsBudgetAndReportsStatistics() {
+        HexGameBoard board = new HexGameBoard(40);
+        AlphaBetaCatMovement strategy = new AlphaBetaCatMovement(board, 30);
+        long start = System.nanoTime();
+        assertTrue(strategy.findBestMove(new HexPosition(0, 0), null).isPresent());
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertTrue(elapsedMillis < 30 + 40, "la búsqueda debe cortar cerca del presupuesto: " + elapsedMillis + " ms");
+        assertTrue(strategy.getLastDepth() >= 1);
+        assertTrue(strategy.getLastNodes() > 0);
+        assertTrue(strategy.getLastNodesPerSecond() > 0);
+        assertTrue(strategy.getSearchStatistics().containsKey("ttHitRate"));
+    }
+}
@@ -0,0 +1,94 @@
+package com.atraparalagato.impl.model;
+
+import com.atraparalagato.impl.strategy.BFSCatMovement;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compara la BFS con buffers primitivos contra la BFS original basada en
+ * LinkedList + HashMap sobre tableros y posiciones del gato aleatorios.
+ */
+public class BFSCatMovementDifferentialTest {
+
+    @Test
+    public void testSamePathsAsReferenceBfs() {
+        Random random = new Random(42);
+        for (int round = 0; round < 2_000; round++) {
+            int size = 2 + random.nextInt(10);
+            HexGameBoard board = randomBoard(size, random.nextDouble() * 0.6, random);
+            HexPosition cat = randomFreeCell(board, random);
+            if (cat == null) continue;
+
+            List<HexPosition> expected = referencePath(board, cat);
+            List<HexPosition> actual = new BFSCatMovement(board).getFullPath(cat, null);
+            assertEquals(expected, actual, "radio " + size + ", gato en " + cat);
+        }
+    }
+
+    @Test
+    public void testSameMovesAsReferenceBfs() {
+        Random random = new Random(7);
+        for (int round = 0; round < 2_000; round++) {
+            int size = 2 + random.nextInt(10);
+            HexGameBoard board = randomBoard(size, random.nextDouble() * 0.6, random);
+            HexPosition cat = randomFreeCell(board, random);
+            if (cat == null) continue;
+
+            List<HexPosition> path = referencePath(board, cat);
+            Optional<HexPosition> expected = path.size() >= 2 ? Optional.of(path.get(1)) : Optional.empty();
+            assertEquals(expected, new BFSCatMovement(board).findBestMove(cat, null));
+        }
+    }
+
+    private static HexGameBoard randomBoard(int size, double density, Random random) {
+        HexGameBoard board = new HexGameBoard(size);
+        for (HexPosition p : board.getPositionsWhere(p -> true)) {
+            if (random.nextDouble() < density) board.blockTile(p);
+        }
+        return board;
+    }
+
+    private static HexPosition randomFreeCell(HexGameBoard board, Random random) {
+        List<HexPosition> free = board.getPositionsWhere(p -> !board.isBlocked(p));
+        return free.isEmpty() ? null : free.get(random.nextInt(free.size()));
+    }
+
+    /** Implementación original de BFSCatMovement.getFullPath */
+    private static List<HexPosition> referencePath(HexGameBoard board, HexPosition start) {
+        int size = board.getSize();
+        Queue<HexPosition> queue = new LinkedList<>();
+        Map<HexPosition, HexPosition> parent = new HashMap<>();
+        queue.add(start);
+        parent.put(start, null);
+
+        while (!queue.isEmpty()) {
+            HexPosition curr = queue.poll();
+            if (Math.abs(curr.getQ()) == size || Math.abs(curr.getR()) == size || Math.abs(curr.getS()) == size) {
+                List<HexPosition> path = new ArrayList<>();
+                for (HexPosition p = curr; p != null; p = parent.get(p))
+                    path.add(p);
+                Collections.reverse(path);
+                return path;
+            }
+            for (HexPosition next : board.getAdjacentPositions(curr)) {
+                if (!board.isBlocked(next) && !parent.containsKey(next)) {
+                    parent.put(next, curr);
+                    queue.add(next);
+                }
+            }
+        }
+        return List.of(start);
+    }
+}
@@ -0,0 +1,111 @@
+package com.atraparalagato.impl.model;
+
+import com.atraparalagato.impl.service.CatMoveCache;
+import com.atraparalagato.impl.strategy.CatStrategyType;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CatMoveCacheTest {
+
+    @Test
+    public void testSymmetriesAreAutomorphisms() {
+        HexBoardTopology topology = HexBoardTopology.forSize(4);
+        for (int g = 0; g < HexBoardTopology.SYMMETRY_COUNT; g++) {
+            Set<Integer> image = new HashSet<>();
+            int inverse = HexBoardTopology.inverseSymmetry(g);
+            for (int cell = 0; cell < topology.getCellCount(); cell++) {
+                int t = topology.transform(g, cell);
+                assertTrue(t >= 0);
+                image.add(t);
+                assertEquals(cell, topology.transform(inverse, t));
+                assertEquals(topology.isBorder(cell), topology.isBorder(t));
+                for (int k = topology.neighborsStart(cell); k < topology.neighborsEnd(cell); k++) {
+                    HexPosition a = topology.positionAt(t);
+                    HexPosition b = topology.positionAt(topology.transform(g, topology.neighbor(k)));
+                    assertTrue(a.isAdjacentTo(b));
+                }
+            }
+            assertEquals(topology.getCellCount(), image.size());
+        }
+        // Las 12 simetrías son distintas
+        Set<Integer> images = new HashSet<>();
+        int probe = topology.indexOf(3, -1);
+        for (int g = 0; g < HexBoardTopology.SYMMETRY_COUNT; g++) images.add(topology.transform(g, probe));
+        assertEquals(HexBoardTopology.SYMMETRY_COUNT, images.size());
+    }
+
+    @Test
+    public void testSymmetricHashMatchesTransformedBoard() {
+        Random random = new Random(4);
+        HexGameBoard board = new HexGameBoard(5);
+        HexBoardTopology topology = board.getTopology();
+        List<HexPosition> walls = board.getPositionsWhere(p -> random.nextInt(3) == 0);
+        walls.forEach(board::blockTile);
+
+        for (int g = 0; g < HexBoardTopology.SYMMETRY_COUNT; g++) {
+            HexGameBoard image = new HexGameBoard(5);
+            for (HexPosition p : walls) {
+                image.blockTile(topology.positionAt(topology.transform(g, board.indexOf(p.getQ(), p.getR()))));
+            }
+            assertEquals(image.getStateHash(), board.getSymmetricHash(g));
+        }
+    }
+
+    @Test
+    public void testRotatedPositionHitsAndYieldsShortestMove() {
+        CatMoveCache cache = new CatMoveCache(1_000, 1 << 20);
+        HexGameBoard board = new HexGameBoard(5);
+        board.blockTile(new HexPosition(1, 0));
+        board.blockTile(new HexPosition(2, -2));
+        HexPosition cat = new HexPosition(1, -1);
+        assertTrue(cache.findBestMove(board, cat, CatStrategyType.BFS).isPresent());
+        assertEquals(1, cache.getMisses());
+
+        HexBoardTopology topology = board.getTopology();
+        for (int g = 1; g < HexBoardTopology.SYMMETRY_COUNT; g++) {
+            HexGameBoard rotated = new HexGameBoard(5);
+            for (HexPosition p : board.getBlockedPositions()) {
+                rotated.blockTile(topology.positionAt(topology.transform(g, rotated.indexOf(p.getQ(), p.getR()))));
+            }
+            int rotatedCat = topology.transform(g, board.indexOf(cat.getQ(), cat.getR()));
+            HexPosition move = cache.findBestMove(rotated, topology.positionAt(rotatedCat), CatStrategyType.BFS).orElseThrow();
+
+            int moveCell = rotated.indexOf(move.getQ(), move.getR());
+            EscapeDistanceField field = rotated.getEscapeField();
+            assertTrue(move.isAdjacentTo(topology.positionAt(rotatedCat)));
+            assertFalse(rotated.isBlocked(move));
+            assertEquals(field.distanceAt(rotatedCat) - 1, field.distanceAt(moveCell));
+        }
+        assertEquals(1, cache.getMisses());
+        assertEquals(HexBoardTopology.SYMMETRY_COUNT - 1, cache.getHits());
+    }
+
+    @Test
+    public void testEvictionRespectsBoundsAndSwitch() {
+        CatMoveCache cache = new CatMoveCache(32, 1 << 20);
+        Random random = new Random(9);
+        for (int i = 0; i < 500; i++) {
+            HexGameBoard board = new HexGameBoard(6);
+            for (int w = 0; w < 8; w++) board.blockTile(board.positionAt(random.nextInt(board.getCellCount())));
+            HexPosition cat = new HexPosition(0, 0);
+            if (!board.isBlocked(cat)) cache.findBestMove(board, cat, CatStrategyType.ASTAR);
+        }
+        assertTrue(cache.size() <= 32);
+        assertTrue(cache.getEvictions() > 0);
+
+        cache.resize(1_000, 8 * 96);
+        assertTrue(cache.size() <= 16, "el límite de memoria también acota las entradas");
+
+        long lookups = cache.getHits() + cache.getMisses();
+        cache.setEnabled(false);
+        assertTrue(cache.findBestMove(new HexGameBoard(6), new HexPosition(0, 0), CatStrategyType.BFS).isPresent());
+        assertEquals(lookups, cache.getHits() + cache.getMisses());
+    }
+}
@@ -0,0 +1,108 @@
+package com.atraparalagato.impl.model;
+
+import com.atraparalagato.base.model.GameBoard;
+import com.atraparalagato.impl.strategy.AlphaBetaCatMovement;
+import com.atraparalagato.impl.strategy.BFSCatMovement;
+import com.atraparalagato.impl.strategy.CatStrategyType;
+import com.atraparalagato.impl.strategy.DeadlineCatMovement;
+import com.atraparalagato.impl.strategy.DistanceFieldCatMovement;
+import com.atraparalagato.impl.strategy.MonteCarloCatMovement;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DeadlineCatMovementTest {
+
+    /** Búsqueda que no termina sola ni se puede detener con stop(): sólo la corta la interrupción */
+    static class StuckSearch extends BFSCatMovement {
+        final CountDownLatch interrupted;
+
+        StuckSearch(GameBoard<HexPosition> board, CountDownLatch interrupted) {
+            super(board);
+            this.interrupted = interrupted;
+        }
+
+        @Override
+        protected Optional<HexPosition> selectBestMove(List<HexPosition> possibleMoves,
+                                                       HexPosition currentPosition,
+                                                       HexPosition targetPosition) {
+            try {
+                Thread.sleep(60_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return Optional.empty();
+        }
+    }
+
+    @Test
+    public void testFastStrategyCompletes() {
+        HexGameBoard board = new HexGameBoard(6);
+        board.blockTile(new HexPosition(1, 0));
+        HexPosition cat = new HexPosition(0, 0);
+        DeadlineCatMovement strategy = new DeadlineCatMovement(board, CatStrategyType.DISTANCE_FIELD, 1_000);
+
+        assertEquals(new DistanceFieldCatMovement(board).findBestMove(cat, null), strategy.findBestMove(cat, null));
+        assertEquals("completed", strategy.getLastOutcome());
+    }
+
+    @Test
+    public void testAnytimeSearchIsCutAtTheDeadline() {
+        AlphaBetaCatMovement.setDefaultBudgetMillis(5_000);
+        try {
+            HexGameBoard board = new HexGameBoard(40);
+            HexPosition cat = new HexPosition(0, 0);
+            DeadlineCatMovement strategy = new DeadlineCatMovement(board, CatStrategyType.ALPHA_BETA, 40);
+            long deadlineHits = (long) DeadlineCatMovement.getMetrics().get("deadlineHits");
+
+            // "anytime" sólo sale del plazo vencido, nunca del presupuesto de 5 s de la búsqueda
+            HexPosition move = strategy.findBestMove(cat, null).orElseThrow();
+            assertTrue(move.isAdjacentTo(cat));
+            assertEquals("anytime", strategy.getLastOutcome());
+            assertEquals(deadlineHits + 1, DeadlineCatMovement.getMetrics().get("deadlineHits"));
+        } finally {
+            AlphaBetaCatMovement.setDefaultBudgetMillis(AlphaBetaCatMovement.DEFAULT_BUDGET_MILLIS);
+        }
+    }
+
+    @Test
+    public void testMonteCarloIsStoppedAtTheDeadline() {
+        MonteCarloCatMovement.setDefaultBudgetMillis(5_000);
+        try {
+            HexGameBoard board = new HexGameBoard(9);
+            board.blockTile(new HexPosition(0, -1));
+            HexPosition cat = new HexPosition(0, 0);
+            DeadlineCatMovement strategy = new DeadlineCatMovement(board, CatStrategyType.MONTE_CARLO, 100);
+
+            HexPosition move = strategy.findBestMove(cat, null).orElseThrow();
+            assertEquals("anytime", strategy.getLastOutcome());
+            assertTrue(move.isAdjacentTo(cat));
+            assertFalse(board.isBlocked(move));
+        } finally {
+            MonteCarloCatMovement.setDefaultBudgetMillis(MonteCarloCatMovement.DEFAULT_BUDGET_MILLIS);
+        }
+    }
+
+    @Test
+    public void testStuckSearchIsInterruptedAndFallsBackToGreedyMove() throws InterruptedException {
+        HexGameBoard board = new HexGameBoard(9);
+        board.blockTile(new HexPosition(0, -1));
+        HexPosition cat = new HexPosition(0, 0);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        DeadlineCatMovement strategy = new DeadlineCatMovement(board, b -> new StuckSearch(b, interrupted), 10);
+        long fallbacks = (long) DeadlineCatMovement.getMetrics().get("fallbacks");
+
+        HexPosition move = strategy.findBestMove(cat, null).orElseThrow();
+        assertEquals("deadline", strategy.getLastOutcome());
+        assertEquals(board.positionAt(board.getEscapeField().bestNeighbor(board.indexOf(0, 0))), move);
+        assertEquals(fallbacks + 1, DeadlineCatMovement.getMetrics().get("fallbacks"));
+        // El hilo de búsqueda queda libre en vez de seguir ocupado con la búsqueda abandonada
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+}
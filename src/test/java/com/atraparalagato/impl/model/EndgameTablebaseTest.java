@@ -0,0 +1,101 @@
+package com.atraparalagato.impl.model;
+
+import com.atraparalagato.impl.solver.EndgameTablebase;
+import com.atraparalagato.impl.solver.TablebaseGenerator;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EndgameTablebaseTest {
+
+    @Test
+    public void testMatchesBruteForceMinimax() throws IOException {
+        Path directory = Files.createTempDirectory("tablebase");
+        Path file = new TablebaseGenerator(2, 2, null).generate(directory.resolve(EndgameTablebase.fileName(2)));
+        EndgameTablebase tablebase = EndgameTablebase.open(file);
+        HexBoardTopology topology = HexBoardTopology.forSize(2);
+        Map<Long, Boolean> memo = new HashMap<>();
+
+        Random random = new Random(3);
+        for (int round = 0; round < 200; round++) {
+            HexGameBoard board = new HexGameBoard(2);
+            int walls = 0;
+            for (int i = 0; i < 5 + random.nextInt(6); i++) {
+                int cell = random.nextInt(topology.getCellCount());
+                board.blockTile(board.positionAt(cell));
+                walls |= 1 << cell;
+            }
+            int cat = random.nextInt(topology.getCellCount());
+            if (board.isBlockedIndex(cat) || topology.isBorder(cat)) continue;
+
+            boolean expected = catWins(topology, walls, cat, memo);
+            assertEquals(expected, tablebase.catWins(board, cat), "muros " + Integer.toBinaryString(walls) + " gato " + cat);
+            int move = tablebase.winningCatMove(board, cat);
+            assertEquals(expected, move >= 0);
+            if (move >= 0) {
+                assertTrue(board.positionAt(move).isAdjacentTo(board.positionAt(cat)));
+            }
+            int wall = tablebase.winningWall(board, cat);
+            if (wall >= 0) {
+                assertFalse(catWins(topology, walls | 1 << wall, cat, memo));
+            }
+        }
+        assertTrue(tablebase.getCanonicalCount() < (1 << topology.getCellCount()) / 10,
+                "sólo se guardan las máscaras canónicas");
+    }
+
+    @Test
+    public void testResumedGenerationIsIdentical() throws IOException {
+        Path directory = Files.createTempDirectory("tablebase");
+        Path checkpoint = directory.resolve("r2.checkpoint");
+        TablebaseGenerator interrupted = new TablebaseGenerator(2, 1, checkpoint);
+        assertFalse(interrupted.solveLevels(7));
+        assertTrue(Files.exists(checkpoint));
+
+        TablebaseGenerator resumed = new TablebaseGenerator(2, 2, checkpoint);
+        assertEquals(7, resumed.getStatistics().get("levelsSolved"));
+        Path first = resumed.generate(directory.resolve("resumed.bin"));
+        assertFalse(Files.exists(checkpoint));
+        Path second = new TablebaseGenerator(2, 1, null).generate(directory.resolve("fresh.bin"));
+
+        assertArrayEquals(Files.readAllBytes(second), Files.readAllBytes(first));
+    }
+
+    @Test
+    public void testRejectsBoardsTooLargeToEnumerate() {
+        assertThrows(IllegalArgumentException.class, () -> new TablebaseGenerator(3, 1, null));
+    }
+
+    /** Minimax directo: el gato mueve, después el jugador pone un muro en cualquier celda libre */
+    private static boolean catWins(HexBoardTopology topology, int walls, int cat, Map<Long, Boolean> memo) {
+        long key = (long) walls << 5 | cat;
+        Boolean known = memo.get(key);
+        if (known != null) return known;
+        boolean result = false;
+        for (int k = topology.neighborsStart(cat); k < topology.neighborsEnd(cat) && !result; k++) {
+            int next = topology.neighbor(k);
+            if ((walls >>> next & 1) != 0) continue;
+            if (topology.isBorder(next)) {
+                result = true;
+                break;
+            }
+            boolean survives = true;
+            for (int wall = 0; wall < topology.getCellCount() && survives; wall++) {
+                if ((walls >>> wall & 1) == 0 && wall != next) {
+                    survives = catWins(topology, walls | 1 << wall, next, memo);
+                }
+            }
+            result = survives;
+        }
+        memo.put(key, result);
+        return result;
+    }
+}
@@ -0,0 +1,95 @@
+package com.atraparalagato.impl.model;
+
+import com.atraparalagato.impl.strategy.BFSCatMovement;
+import com.atraparalagato.impl.strategy.DistanceFieldCatMovement;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EscapeDistanceFieldTest {
+
+    @Test
+    public void testDistancesMatchForwardBfs() {
+        Random random = new Random(11);
+        for (int round = 0; round < 300; round++) {
+            int size = 2 + random.nextInt(10);
+            HexGameBoard board = new HexGameBoard(size);
+            double density = random.nextDouble() * 0.6;
+            for (HexPosition p : board.getPositionsWhere(p -> true)) {
+                if (random.nextDouble() < density) board.blockTile(p);
+            }
+            EscapeDistanceField field = board.getEscapeField();
+
+            for (HexPosition cat : board.getPositionsWhere(p -> !board.isBlocked(p))) {
+                List<HexPosition> path = new BFSCatMovement(board).getFullPath(cat, null);
+                HexPosition last = path.get(path.size() - 1);
+                boolean escapes = board.getTopology().isBorder(board.indexOf(last.getQ(), last.getR()));
+                int expected = escapes ? path.size() - 1 : EscapeDistanceField.UNREACHABLE;
+                assertEquals(expected, field.distanceAt(cat), "radio " + size + ", gato en " + cat);
+            }
+        }
+    }
+
+    @Test
+    public void testFieldFollowsNewWalls() {
+        HexGameBoard board = new HexGameBoard(2);
+        HexPosition cat = new HexPosition(0, 0);
+        assertEquals(2, board.getEscapeField().distanceAt(cat));
+
+        for (HexPosition p : board.getAdjacentPositions(cat)) board.blockTile(p);
+        assertEquals(EscapeDistanceField.UNREACHABLE, board.getEscapeField().distanceAt(cat));
+        assertFalse(new DistanceFieldCatMovement(board).hasPathToGoal(cat));
+    }
+
+    @Test
+    public void testIncrementalRepairMatchesFullRecompute() {
+        Random random = new Random(23);
+        for (int round = 0; round < 60; round++) {
+            int size = 2 + random.nextInt(12);
+            HexGameBoard board = new HexGameBoard(size);
+            EscapeDistanceField field = board.getEscapeField();
+            List<HexPosition> cells = board.getPositionsWhere(p -> true);
+            for (int turn = 0; turn < cells.size(); turn++) {
+                board.blockTile(cells.get(random.nextInt(cells.size())));
+                assertSame(field, board.getEscapeField());
+
+                EscapeDistanceField fresh = new EscapeDistanceField(board);
+                for (int cell = 0; cell < board.getCellCount(); cell++) {
+                    assertEquals(fresh.distanceAt(cell), field.distanceAt(cell),
+                            "radio " + size + ", turno " + turn + ", celda " + board.positionAt(cell));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testRepairOnlyTouchesAffectedCells() {
+        HexGameBoard board = new HexGameBoard(30);
+        EscapeDistanceField field = board.getEscapeField();
+
+        // Un muro en el borde no cambia la distancia de nadie: siempre hay otro borde al lado
+        board.blockTile(new HexPosition(30, 0));
+        assertTrue(field.getLastRepairSize() <= 1);
+
+        // Un muro cerca del centro afecta a pocas celdas, no a todo el tablero
+        board.blockTile(new HexPosition(0, 0));
+        assertTrue(field.getLastRepairSize() < board.getCellCount() / 10);
+    }
+
+    @Test
+    public void testStrategyMovesDownhill() {
+        HexGameBoard board = new HexGameBoard(6);
+        board.blockTile(new HexPosition(1, 0));
+        DistanceFieldCatMovement strategy = new DistanceFieldCatMovement(board);
+        HexPosition cat = new HexPosition(0, 0);
+
+        HexPosition next = strategy.findBestMove(cat, null).orElseThrow();
+        assertEquals(board.getEscapeField().distanceAt(cat) - 1, board.getEscapeField().distanceAt(next));
+        assertEquals(7, strategy.getFullPath(cat, null).size());
+        assertTrue(strategy.hasPathToGoal(cat));
+    }
+}
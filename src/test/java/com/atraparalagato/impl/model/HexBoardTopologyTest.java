@@ -0,0 +1,47 @@
+package com.atraparalagato.impl.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HexBoardTopologyTest {
+
+    @Test
+    void testSameSizeSharesOneInstance() {
+        assertSame(HexBoardTopology.forSize(9), HexBoardTopology.forSize(9));
+        assertSame(new HexGameBoard(9).getTopology(), new HexGameBoard(9).getTopology());
+        assertNotSame(HexBoardTopology.forSize(9), HexBoardTopology.forSize(8));
+    }
+
+    @Test
+    void testNeighborsMatchAdjacentPositions() {
+        HexGameBoard board = new HexGameBoard(4);
+        HexBoardTopology topology = board.getTopology();
+
+        for (int i = 0; i < topology.getCellCount(); i++) {
+            List<HexPosition> expected = board.getAdjacentPositions(topology.positionAt(i));
+            int start = topology.neighborsStart(i);
+            assertEquals(expected.size(), topology.neighborsEnd(i) - start);
+            for (int k = 0; k < expected.size(); k++) {
+                assertEquals(expected.get(k), topology.positionAt(topology.neighbor(start + k)));
+            }
+        }
+    }
+
+    @Test
+    void testBorderFlagsAndDistances() {
+        HexBoardTopology topology = HexBoardTopology.forSize(3);
+        int center = topology.indexOf(0, 0);
+        int corner = topology.indexOf(3, -3);
+
+        assertEquals(3, topology.distanceToBorder(center));
+        assertFalse(topology.isBorder(center));
+        assertEquals(6, topology.neighborsEnd(center) - topology.neighborsStart(center));
+
+        assertEquals(0, topology.distanceToBorder(corner));
+        assertTrue(topology.isBorder(corner));
+        assertEquals(3, topology.neighborsEnd(corner) - topology.neighborsStart(corner));
+    }
+}
@@ -45,4 +45,27 @@ class HexGameBoardTest {
         assertTrue(adj.contains(new HexPosition(1, 0)));
         assertTrue(adj.contains(new HexPosition(0, 1)));
     }
+
+    @Test
+    void testIndexOfAndPositionAtAreInverse() {
+        assertEquals(37, board.getCellCount());
+        for (int i = 0; i < board.getCellCount(); i++) {
+            HexPosition p = board.positionAt(i);
+            assertTrue(board.isPositionInBounds(p));
+            assertEquals(i, board.indexOf(p.getQ(), p.getR()));
+        }
+        assertEquals(-1, board.indexOf(4, -1));
+    }
+
+    @Test
+    void testBlockedPositionsReflectBitset() {
+        board.blockTile(pos);
+        board.blockTile(pos);
+        board.blockTile(new HexPosition(-3, 3));
+
+        assertEquals(2, board.getBlockedCount());
+        assertEquals(2, board.getBlockedPositions().size());
+        assertTrue(board.getBlockedPositions().contains(new HexPosition(-3, 3)));
+        assertFalse(board.isBlocked(new HexPosition(9, 9)));
+    }
 }
\ No newline at end of file
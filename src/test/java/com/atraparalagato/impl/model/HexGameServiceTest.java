@@ -1,9 +1,32 @@
 package com.atraparalagato.impl.model;
 
+import com.atraparalagato.base.model.GameState;
+import com.atraparalagato.impl.service.BatchMove;
+import com.atraparalagato.impl.service.BatchMoveResult;
+import com.atraparalagato.impl.service.CatComputePool;
+import com.atraparalagato.impl.service.CatMoveCache;
+import com.atraparalagato.impl.service.CatReplySpeculator;
+import com.atraparalagato.impl.service.GameEvent;
 import com.atraparalagato.impl.service.HexGameService;
 import com.atraparalagato.impl.model.HexGameState;
 import com.atraparalagato.impl.model.HexPosition;
+import com.atraparalagato.impl.strategy.AlphaBetaCatMovement;
+import com.atraparalagato.impl.strategy.CatStrategyType;
+import com.atraparalagato.impl.strategy.DistanceFieldCatMovement;
+import com.atraparalagato.impl.strategy.MonteCarloCatMovement;
 import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import static org.junit.jupiter.api.Assertions.*;
 
 public class HexGameServiceTest {
@@ -14,6 +37,25 @@ public class HexGameServiceTest {
         }
     }
 
+    /** Cuenta los movimientos del gato por partida y duerme entre el muro y la respuesta para que los pedidos se intercalen */
+    static class InterleavingHexGameService extends HexGameService {
+        final Map<String, AtomicInteger> catMoves = new ConcurrentHashMap<>();
+
+        @Override
+        protected void onGameStateChanged(GameState<HexPosition> state) {
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        protected void onCatMoved(GameState<HexPosition> state, HexPosition position) {
+            catMoves.computeIfAbsent(state.getGameId(), id -> new AtomicInteger()).incrementAndGet();
+        }
+    }
+
     @Test
     public void testExecuteCatMove_changesCatPosition() {
         TestableHexGameService service = new TestableHexGameService();
@@ -27,4 +69,506 @@ public class HexGameServiceTest {
         assertNotNull(newPos);
         assertNotEquals(initialPos, newPos);
     }
+
+    @Test
+    public void testEachGameKeepsItsOwnBoardSize() throws Exception {
+        HexGameService service = new HexGameService();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<GameState<HexPosition>>> games = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                int size = 3 + i % 5;
+                games.add(executor.submit(() -> service.startNewGame(size)));
+            }
+            for (int i = 0; i < games.size(); i++) {
+                HexGameState state = (HexGameState) games.get(i).get(5, TimeUnit.SECONDS);
+                assertEquals(3 + i % 5, state.getGameBoard().getBoardSize());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testStartRejectsBoardSizesOutOfRange() {
+        HexGameService service = new HexGameService();
+        assertThrows(IllegalArgumentException.class, () -> service.startNewGame(HexGameService.MAX_BOARD_SIZE + 1));
+        assertThrows(IllegalArgumentException.class, () -> service.startNewGame(HexGameService.MIN_BOARD_SIZE - 1));
+        assertThrows(IllegalArgumentException.class, () -> service.startNewGame(Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void testSpeculatedReplyAnswersWithoutSearch() throws InterruptedException {
+        HexGameService service = new HexGameService();
+        service.setCatStrategy(CatStrategyType.DISTANCE_FIELD);
+        CatReplySpeculator speculator = new CatReplySpeculator(1);
+        service.setSpeculator(speculator);
+        try {
+            HexGameState state = (HexGameState) service.startNewGame(7);
+            awaitSpeculation(speculator);
+
+            HexPosition wall = service.getSuggestedMove(state.getGameId()).orElseThrow();
+            HexGameBoard copy = new HexGameBoard(7);
+            copy.blockTile(wall);
+            HexPosition expected = new DistanceFieldCatMovement(copy).findBestMove(state.getCatPosition(), null).orElseThrow();
+
+            service.executePlayerMove(state.getGameId(), wall);
+            assertEquals(expected, state.getCatPosition());
+            assertEquals(Map.of("speculated", true, "tier", "distance-field"), state.getLastCatSearchStatistics());
+            assertEquals(1L, speculator.getStatistics().get("hits"));
+        } finally {
+            service.setSpeculator(null);
+        }
+    }
+
+    @Test
+    public void testSpeculationFromAnotherStrategyIsNotUsed() throws InterruptedException {
+        HexGameService service = new HexGameService();
+        service.setCatStrategy(CatStrategyType.DISTANCE_FIELD);
+        CatMoveCache cache = new CatMoveCache(1, 1024);
+        cache.setEnabled(false);
+        service.setMoveCache(cache);
+        CatReplySpeculator speculator = new CatReplySpeculator(1);
+        service.setSpeculator(speculator);
+        try {
+            HexGameState state = (HexGameState) service.startNewGame(7);
+            awaitSpeculation(speculator);
+
+            // El gato cambió de estrategia: la tabla calculada con la anterior no responde
+            service.setCatStrategy(CatStrategyType.ASTAR);
+            service.executePlayerMove(state.getGameId(), service.getSuggestedMove(state.getGameId()).orElseThrow());
+            assertEquals(0L, speculator.getStatistics().get("hits"));
+            assertEquals(1L, speculator.getStatistics().get("misses"));
+            assertEquals("astar", state.getLastCatSearchStatistics().get("tier"));
+        } finally {
+            service.setSpeculator(null);
+        }
+    }
+
+    @Test
+    public void testMonteCarloSpeculationRunsOnTheSpeculationThread() throws InterruptedException {
+        MonteCarloCatMovement.setDefaultParallelism(4);
+        HexGameService service = new HexGameService();
+        service.setCatStrategy(CatStrategyType.MONTE_CARLO);
+        CatReplySpeculator speculator = new CatReplySpeculator(1);
+        service.setSpeculator(speculator);
+        try {
+            service.startNewGame(7);
+            awaitSpeculation(speculator);
+
+            // Las simulaciones corren en el hilo de especulación (su CPU se cuenta ahí), no en el
+            // pool de todos los núcleos que usan las búsquedas en vivo
+            long computed = (long) speculator.getStatistics().get("computed");
+            assertTrue(computed > 0);
+            assertTrue((double) speculator.getStatistics().get("cpuMillisSpent") > 10.0 * computed);
+        } finally {
+            service.setSpeculator(null);
+            MonteCarloCatMovement.setDefaultParallelism(Runtime.getRuntime().availableProcessors());
+        }
+    }
+
+    @Test
+    public void testUnexpectedWallFallsBackToSearch() throws InterruptedException {
+        HexGameService service = new HexGameService();
+        service.setCatStrategy(CatStrategyType.DISTANCE_FIELD);
+        CatReplySpeculator speculator = new CatReplySpeculator(1);
+        service.setSpeculator(speculator);
+        try {
+            HexGameState state = (HexGameState) service.startNewGame(7);
+            awaitSpeculation(speculator);
+
+            // Una esquina lejana no está entre los candidatos
+            service.executePlayerMove(state.getGameId(), new HexPosition(7, -7));
+            assertNotEquals(new HexPosition(0, 0), state.getCatPosition());
+            assertEquals(0L, speculator.getStatistics().get("hits"));
+            assertEquals(1L, speculator.getStatistics().get("misses"));
+            assertTrue((double) speculator.getStatistics().get("cpuMillisWasted") > 0);
+        } finally {
+            service.setSpeculator(null);
+        }
+    }
+
+    @Test
+    public void testBatchMovesMatchSequentialMovesInInputOrder() {
+        HexGameService sequential = new HexGameService();
+        HexGameService batched = new HexGameService();
+        sequential.setCatStrategy(CatStrategyType.DISTANCE_FIELD);
+        batched.setCatStrategy(CatStrategyType.DISTANCE_FIELD);
+        batched.setBatchParallelism(3);
+        HexGameState small = (HexGameState) sequential.startNewGame(5);
+        HexGameState smallBatch = (HexGameState) batched.startNewGame(5);
+        HexGameState large = (HexGameState) sequential.startNewGame(9);
+        HexGameState largeBatch = (HexGameState) batched.startNewGame(9);
+
+        HexPosition a = new HexPosition(2, -1);
+        HexPosition b = new HexPosition(-1, 2);
+        HexPosition c = new HexPosition(0, 3);
+        sequential.executePlayerMove(large.getGameId(), a);
+        sequential.executePlayerMove(small.getGameId(), b);
+        sequential.executePlayerMove(large.getGameId(), c);
+
+        List<BatchMoveResult> results = batched.executePlayerMoves(List.of(
+                new BatchMove(largeBatch.getGameId(), a),
+                new BatchMove("no-existe", a),
+                new BatchMove(smallBatch.getGameId(), b),
+                new BatchMove(largeBatch.getGameId(), c),
+                new BatchMove(largeBatch.getGameId(), c)));
+
+        assertEquals(5, results.size());
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals(i, results.get(i).getIndex());
+        }
+        assertTrue(results.get(0).isSuccess());
+        assertFalse(results.get(1).isSuccess());
+        assertEquals("no-existe", results.get(1).getGameId());
+        assertTrue(results.get(2).isSuccess());
+        assertTrue(results.get(3).isSuccess());
+        assertFalse(results.get(4).isSuccess()); // la celda ya está bloqueada
+        assertEquals(1, results.get(0).getMoveCount());
+        assertEquals(2, results.get(3).getMoveCount());
+
+        assertEquals(large.getCatPosition(), results.get(3).getCatPosition());
+        assertEquals(small.getCatPosition(), results.get(2).getCatPosition());
+        assertEquals(large.getCatPosition(), largeBatch.getCatPosition());
+        assertEquals(large.getGameBoard().getBlockedPositions(), largeBatch.getGameBoard().getBlockedPositions());
+        assertSame(largeBatch, batched.getGameState(largeBatch.getGameId()).orElseThrow());
+    }
+
+    @Test
+    public void testConcurrentMovesAreSerializedPerGame() throws Exception {
+        int size = 21;
+        int hammers = 4;
+        InterleavingHexGameService service = new InterleavingHexGameService();
+        HexGameService reference = new HexGameService();
+        service.setCatStrategy(CatStrategyType.DISTANCE_FIELD);
+        reference.setCatStrategy(CatStrategyType.DISTANCE_FIELD);
+
+        // Muros lejos del centro: el gato tarda en escapar y las partidas duran
+        List<HexPosition> ring = new ArrayList<>();
+        HexGameBoard board = new HexGameBoard(size);
+        for (int i = 0; i < board.getCellCount(); i++) {
+            HexPosition pos = board.positionAt(i);
+            int distance = Math.max(Math.abs(pos.getQ()), Math.max(Math.abs(pos.getR()), Math.abs(pos.getS())));
+            if (distance >= size - 6) ring.add(pos);
+        }
+
+        HexGameState shared = (HexGameState) service.startNewGame(size);
+        List<HexGameState> own = new ArrayList<>();
+        List<HexGameState> expected = new ArrayList<>();
+        for (int t = 0; t < hammers; t++) {
+            own.add((HexGameState) service.startNewGame(size));
+            HexGameState replay = (HexGameState) reference.startNewGame(size);
+            for (HexPosition pos : script(ring, t)) {
+                reference.executePlayerMove(replay.getGameId(), pos);
+            }
+            expected.add(replay);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(2 * hammers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> tasks = new ArrayList<>();
+        for (int t = 0; t < hammers; t++) {
+            int thread = t;
+            // Partida compartida: cada hilo pone muros distintos, todos a la vez
+            tasks.add(executor.submit(() -> {
+                start.await();
+                for (int i = thread; i < ring.size(); i += hammers) {
+                    service.executePlayerMove(shared.getGameId(), ring.get(i));
+                    service.getGameStatistics(shared.getGameId());
+                }
+                return null;
+            }));
+            // Partida propia: nadie más la toca, tiene que terminar igual que en serie
+            tasks.add(executor.submit(() -> {
+                start.await();
+                for (HexPosition pos : script(ring, thread)) {
+                    service.executePlayerMove(own.get(thread).getGameId(), pos);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> task : tasks) {
+            task.get();
+        }
+        executor.shutdown();
+
+        // Cada muro aceptado cuenta un movimiento y, salvo el que encierra al gato, una respuesta
+        HexGameBoard sharedBoard = shared.getGameBoard();
+        assertTrue(shared.getMoveCount() > 0);
+        assertEquals(shared.getMoveCount(), sharedBoard.getBlockedCount());
+        int catMoves = service.catMoves.getOrDefault(shared.getGameId(), new AtomicInteger()).get();
+        assertEquals(shared.getMoveCount() - (shared.hasPlayerWon() ? 1 : 0), catMoves);
+        assertFalse(sharedBoard.isBlocked(shared.getCatPosition()));
+
+        for (int t = 0; t < hammers; t++) {
+            HexGameState actual = own.get(t);
+            assertEquals(expected.get(t).getMoveCount(), actual.getMoveCount());
+            assertEquals(expected.get(t).getCatPosition(), actual.getCatPosition());
+            assertEquals(expected.get(t).getStatus(), actual.getStatus());
+            assertEquals(expected.get(t).getGameBoard().getBlockedPositions(), actual.getGameBoard().getBlockedPositions());
+        }
+    }
+
+    @Test
+    public void testComputePoolPlaysLikeInlineSearch() {
+        HexGameService inline = new HexGameService();
+        HexGameService pooled = new HexGameService();
+        CatMoveCache cache = new CatMoveCache(1, 1024);
+        cache.setEnabled(false);
+        for (HexGameService service : List.of(inline, pooled)) {
+            service.setCatStrategy(CatStrategyType.ASTAR);
+            service.setMoveCache(cache);
+        }
+        pooled.setComputePool(new CatComputePool(1));
+        HexGameState a = (HexGameState) inline.startNewGame(9);
+        HexGameState b = (HexGameState) pooled.startNewGame(9);
+
+        for (HexPosition wall : List.of(new HexPosition(1, 0), new HexPosition(2, -2), new HexPosition(-1, 3))) {
+            inline.executePlayerMove(a.getGameId(), wall);
+            pooled.executePlayerMove(b.getGameId(), wall);
+            assertEquals(a.getCatPosition(), b.getCatPosition());
+        }
+        assertFalse(b.isGameFinished());
+
+        Map<String, Object> stats = pooled.getComputePool().orElseThrow().getStatistics();
+        assertEquals(3L, stats.get("computed"));
+        assertTrue(pooled.getGameStatistics(b.getGameId()).get("catCompute") instanceof Map);
+        pooled.setComputePool(null);
+        assertTrue(pooled.getComputePool().isEmpty());
+    }
+
+    @Test
+    public void testDeadlineFallbacksAreNotCached() {
+        AlphaBetaCatMovement.setDefaultBudgetMillis(5_000);
+        try {
+            HexGameService service = new HexGameService();
+            service.setCatStrategy(CatStrategyType.ALPHA_BETA);
+            CatMoveCache cache = new CatMoveCache(1024, 1024 * 1024);
+            service.setMoveCache(cache);
+            service.setCatDeadlineMillis(40);
+
+            // Tablero grande y presupuesto de 5 s: la búsqueda siempre la corta el plazo
+            HexGameState first = (HexGameState) service.startNewGame(40);
+            service.executePlayerMove(first.getGameId(), new HexPosition(1, 0));
+            assertEquals("anytime", first.getLastCatSearchStatistics().get("deadlineOutcome"));
+            assertEquals(0, cache.size());
+
+            // La misma posición en otra partida vuelve a buscar en vez de repetir el atajo
+            HexGameState second = (HexGameState) service.startNewGame(40);
+            service.executePlayerMove(second.getGameId(), new HexPosition(1, 0));
+            assertEquals(0L, cache.getHits());
+            assertEquals(2L, cache.getMisses());
+            assertEquals(2L, cache.getStatistics().get("uncacheable"));
+
+            // Sin plazo, la respuesta completa sí se guarda
+            AlphaBetaCatMovement.setDefaultBudgetMillis(AlphaBetaCatMovement.DEFAULT_BUDGET_MILLIS);
+            service.setCatStrategy(CatStrategyType.DISTANCE_FIELD);
+            service.setCatDeadlineMillis(1_000);
+            HexGameState third = (HexGameState) service.startNewGame(40);
+            service.executePlayerMove(third.getGameId(), new HexPosition(1, 0));
+            assertEquals("completed", third.getLastCatSearchStatistics().get("deadlineOutcome"));
+            assertEquals(1, cache.size());
+        } finally {
+            AlphaBetaCatMovement.setDefaultBudgetMillis(AlphaBetaCatMovement.DEFAULT_BUDGET_MILLIS);
+        }
+    }
+
+    @Test
+    public void testAsyncMoveCanBeCancelledBeforeItStarts() throws Exception {
+        HexGameService service = new HexGameService();
+        service.setCatStrategy(CatStrategyType.ASTAR);
+        CatComputePool compute = new CatComputePool(1);
+        CatComputePool moves = new CatComputePool(1, "cat-move");
+        service.setComputePool(compute);
+        service.setMovePool(moves);
+        HexGameState state = (HexGameState) service.startNewGame(9);
+        String id = state.getGameId();
+
+        // Ocupa el único hilo de movimientos para que los movimientos queden en cola
+        CountDownLatch release = new CountDownLatch(1);
+        moves.submit(() -> {
+            try {
+                return release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        CompletableFuture<Integer> discarded = service.withGameAsync(id, () -> {
+            service.executePlayerMove(id, new HexPosition(1, 0));
+            return state.getMoveCount();
+        });
+        CompletableFuture<Integer> played = service.withGameAsync(id, () -> {
+            service.executePlayerMove(id, new HexPosition(0, 1));
+            return state.getMoveCount();
+        });
+        assertFalse(played.isDone());
+        discarded.cancel(false);
+        release.countDown();
+
+        assertEquals(1, (int) played.get(5, TimeUnit.SECONDS));
+        assertTrue(discarded.isCancelled());
+        assertFalse(state.getGameBoard().isBlocked(new HexPosition(1, 0)));
+        assertNotEquals(new HexPosition(0, 0), state.getCatPosition());
+        assertEquals(1L, moves.getStatistics().get("cancelledBeforeStart"));
+        assertThrows(IllegalArgumentException.class, () -> service.setMovePool(compute));
+        service.setComputePool(null);
+        service.setMovePool(null);
+    }
+
+    @Test
+    public void testStartedAsyncMoveIsNotCancelled() throws Exception {
+        HexGameService service = new HexGameService();
+        service.setCatStrategy(CatStrategyType.ASTAR);
+        CatComputePool moves = new CatComputePool(1, "cat-move");
+        service.setMovePool(moves);
+        HexGameState state = (HexGameState) service.startNewGame(9);
+        String id = state.getGameId();
+
+        // El plazo vence con el movimiento ya empezado: cancelar no lo descarta a medias
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch timedOut = new CountDownLatch(1);
+        CompletableFuture<Integer> move = service.withGameAsync(id, () -> {
+            started.countDown();
+            try {
+                timedOut.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            service.executePlayerMove(id, new HexPosition(1, 0));
+            return state.getMoveCount();
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        assertFalse(move.cancel(false));
+        timedOut.countDown();
+
+        // El que pidió el movimiento recibe su resultado: el muro quedó puesto
+        assertEquals(1, (int) move.get(5, TimeUnit.SECONDS));
+        assertFalse(move.isCancelled());
+        assertTrue(state.getGameBoard().isBlocked(new HexPosition(1, 0)));
+        assertEquals(0L, moves.getStatistics().get("cancelledBeforeStart"));
+        service.setMovePool(null);
+    }
+
+    @Test
+    public void testSyncAndAsyncMovesOnTheSameGameDoNotDeadlock() throws Exception {
+        HexGameService service = new HexGameService();
+        service.setCatStrategy(CatStrategyType.ASTAR);
+        CatMoveCache cache = new CatMoveCache(1, 1024);
+        cache.setEnabled(false);
+        service.setMoveCache(cache);
+        CatComputePool compute = new CatComputePool(1);
+        CatComputePool moves = new CatComputePool(1, "cat-move");
+        service.setComputePool(compute);
+        service.setMovePool(moves);
+        HexGameState state = (HexGameState) service.startNewGame(9);
+        String id = state.getGameId();
+
+        // Un /block sincrónico tiene el lock de la partida mientras un /block-async espera
+        // ese lock; el gato del primero tiene que poder calcularse en el único hilo de cálculo
+        CompletableFuture<CompletableFuture<Integer>> sync = CompletableFuture.supplyAsync(() -> service.withGame(id, () -> {
+            CompletableFuture<Integer> async = service.withGameAsync(id, () -> {
+                service.executePlayerMove(id, new HexPosition(0, 1));
+                return state.getMoveCount();
+            });
+            while (!Integer.valueOf(1).equals(moves.getStatistics().get("busy"))) {
+                Thread.onSpinWait();
+            }
+            service.executePlayerMove(id, new HexPosition(1, 0));
+            return async;
+        }));
+
+        CompletableFuture<Integer> async = sync.get(5, TimeUnit.SECONDS);
+        assertEquals(2, (int) async.get(5, TimeUnit.SECONDS));
+        assertTrue(state.getGameBoard().isBlocked(new HexPosition(1, 0)));
+        assertTrue(state.getGameBoard().isBlocked(new HexPosition(0, 1)));
+        assertEquals(2L, compute.getStatistics().get("computed"));
+        service.setComputePool(null);
+        service.setMovePool(null);
+    }
+
+    @Test
+    public void testEventListenerReceivesOnlyDeltas() {
+        HexGameService service = new HexGameService();
+        service.setCatStrategy(CatStrategyType.ASTAR);
+        List<GameEvent> events = new ArrayList<>();
+        service.setEventListener(events::add);
+        HexGameState state = (HexGameState) service.startNewGame(5);
+        String id = state.getGameId();
+        service.watchEvents(state);
+        assertEquals(List.of(), events);
+
+        // Muros lejos del gato: escapa en pocos movimientos
+        List<HexPosition> walls = List.of(new HexPosition(-4, 4), new HexPosition(4, -4),
+                new HexPosition(-4, 0), new HexPosition(4, 0), new HexPosition(0, -4), new HexPosition(0, 4));
+        for (int i = 0; i < walls.size() && !state.isGameFinished(); i++) {
+            service.executePlayerMove(id, walls.get(i));
+            GameEvent wall = events.get(events.size() - (state.isGameFinished() ? 3 : 2));
+            assertEquals(GameEvent.WALL, wall.getType());
+            assertEquals(walls.get(i).getQ(), wall.getData().get("q"));
+            assertEquals(state.getMoveCount(), wall.getData().get("movesCount"));
+        }
+        assertTrue(state.isGameFinished());
+
+        int wallEvents = 0;
+        for (int i = 0; i < events.size(); i++) {
+            GameEvent event = events.get(i);
+            assertEquals(id, event.getGameId());
+            assertFalse(event.getData().containsKey("blockedCells"));
+            if (GameEvent.WALL.equals(event.getType())) {
+                wallEvents++;
+                assertEquals(GameEvent.CAT, events.get(i + 1).getType());
+            }
+        }
+        assertEquals(state.getMoveCount(), wallEvents);
+        GameEvent last = events.get(events.size() - 1);
+        assertEquals(GameEvent.STATUS, last.getType());
+        assertEquals(state.getStatus().toString(), last.getData().get("status"));
+        assertTrue(last.isFinal());
+        assertTrue(GameEvent.snapshot(state).getData().containsKey("blockedCells"));
+    }
+
+    @Test
+    public void testOnlyWatchedGamesPublishEvents() {
+        HexGameService service = new HexGameService();
+        service.setCatStrategy(CatStrategyType.ASTAR);
+        List<GameEvent> events = new ArrayList<>();
+        service.setEventListener(events::add);
+        HexGameState state = (HexGameState) service.startNewGame(9);
+        String id = state.getGameId();
+
+        service.executePlayerMove(id, new HexPosition(1, 0));
+        assertEquals(List.of(), events);
+
+        // Dos suscriptores a mitad de partida: sólo lo que pasa desde ahora
+        service.watchEvents(state);
+        service.watchEvents(state);
+        service.executePlayerMove(id, new HexPosition(2, -2));
+        assertEquals(List.of(GameEvent.WALL, GameEvent.CAT), events.stream().map(GameEvent::getType).toList());
+        assertEquals(2, events.get(0).getData().get("movesCount"));
+
+        service.unwatchEvents(id);
+        service.executePlayerMove(id, new HexPosition(-1, 3));
+        assertEquals(4, events.size());
+
+        service.unwatchEvents(id);
+        service.executePlayerMove(id, new HexPosition(0, -3));
+        assertEquals(4, events.size());
+    }
+
+    /** Muros de una partida propia: el anillo recorrido desde un desfase distinto por hilo */
+    private static List<HexPosition> script(List<HexPosition> ring, int thread) {
+        List<HexPosition> moves = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            moves.add(ring.get((thread * 97 + i * 13) % ring.size()));
+        }
+        return moves;
+    }
+
+    private static void awaitSpeculation(CatReplySpeculator speculator) throws InterruptedException {
+        for (int i = 0; i < 300 && ((long) speculator.getStatistics().get("computed") == 0
+                || (int) speculator.getStatistics().get("pending") > 0); i++) {
+            Thread.sleep(10);
+        }
+    }
 }
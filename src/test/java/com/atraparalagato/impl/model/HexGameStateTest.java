@@ -1,6 +1,11 @@
 package com.atraparalagato.impl.model;
 
+import com.atraparalagato.base.model.GameState;
+
 import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 public class HexGameStateTest {
@@ -29,4 +34,34 @@ public class HexGameStateTest {
         HexPosition freePos = new HexPosition(1, 0);
         assertTrue(board.isValidMove(freePos));
     }
+
+    @Test
+    public void testEnclosedRegionEndsGame() {
+        HexGameState state = new HexGameState("encierro", 4);
+        // Anillo de muros a distancia 2 del centro: el gato conserva vecinos libres
+        List<HexPosition> ring = new HexGameBoard(4).getPositionsWhere(p -> p.distanceTo(new HexPosition(0, 0)) == 2);
+
+        for (int i = 0; i < ring.size() - 1; i++) {
+            assertTrue(state.executeMove(ring.get(i)));
+            assertFalse(state.isCatEnclosed());
+            assertEquals(GameState.GameStatus.IN_PROGRESS, state.getStatus());
+        }
+        assertTrue(state.executeMove(ring.get(ring.size() - 1)));
+        assertTrue(state.isCatEnclosed());
+        assertEquals(GameState.GameStatus.PLAYER_WON, state.getStatus());
+        assertFalse(state.getGameBoard().getFreeNeighbors(state.getCatPosition()).isEmpty());
+
+        // Con la partida terminada no se aceptan más muros
+        assertFalse(state.executeMove(new HexPosition(3, 0)));
+    }
+
+    @Test
+    public void testWallOnCatCellIsRejected() {
+        HexGameState state = new HexGameState("muro-en-el-gato", 4);
+
+        assertFalse(state.executeMove(state.getCatPosition()));
+        assertFalse(state.getGameBoard().isBlocked(state.getCatPosition()));
+        assertEquals(0, state.getMoveCount());
+        assertEquals(GameState.GameStatus.IN_PROGRESS, state.getStatus());
+    }
 }
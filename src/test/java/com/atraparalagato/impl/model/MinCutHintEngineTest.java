@@ -0,0 +1,126 @@
+package com.atraparalagato.impl.model;
+
+import com.atraparalagato.impl.strategy.MinCutHintEngine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MinCutHintEngineTest {
+
+    @Test
+    public void testOpenBoardCutIsTheSixNeighbors() {
+        HexGameBoard board = new HexGameBoard(5);
+        int cat = board.indexOf(0, 0);
+        MinCutHintEngine engine = new MinCutHintEngine(board);
+        int wall = engine.suggestWall(cat);
+
+        assertEquals(6, engine.getCutSize());
+        assertTrue(board.positionAt(wall).isAdjacentTo(new HexPosition(0, 0)));
+    }
+
+    @Test
+    public void testCutIsMinimumAndEnclosesTheCat() {
+        Random random = new Random(13);
+        int checked = 0;
+        while (checked < 30) {
+            HexGameBoard board = new HexGameBoard(3);
+            int walls = 8 + random.nextInt(10);
+            for (int i = 0; i < walls; i++) {
+                board.blockTile(board.positionAt(random.nextInt(board.getCellCount())));
+            }
+            int cat = random.nextInt(board.getCellCount());
+            if (board.isBlockedIndex(cat) || !board.getEscapeField().canEscapeFrom(cat)) continue;
+            if (board.getTopology().isBorder(cat)) continue;
+
+            MinCutHintEngine engine = new MinCutHintEngine(board);
+            int suggestion = engine.suggestWall(cat);
+            int[] cut = engine.getCut();
+            assertTrue(contains(cut, suggestion));
+            assertTrue(encloses(board, cat, cut), "el corte debe encerrar al gato");
+            assertFalse(anySubsetEncloses(board, cat, cut.length - 1), "no debe haber un corte más chico");
+            checked++;
+        }
+    }
+
+    @Test
+    public void testSingleCellCutTrapsTheCat() {
+        // Bolsillo con una sola salida: (1,0) rodeado salvo por (2,0)
+        HexGameBoard board = new HexGameBoard(3);
+        HexPosition cat = new HexPosition(0, 0);
+        for (HexPosition p : board.getAdjacentPositions(cat)) {
+            if (!p.equals(new HexPosition(1, 0))) board.blockTile(p);
+        }
+        for (HexPosition p : board.getAdjacentPositions(new HexPosition(1, 0))) {
+            if (!p.equals(cat) && !p.equals(new HexPosition(2, 0))) board.blockTile(p);
+        }
+        MinCutHintEngine engine = new MinCutHintEngine(board);
+        int wall = engine.suggestWall(board.indexOf(0, 0));
+
+        assertEquals(1, engine.getCutSize());
+        board.blockTile(board.positionAt(wall));
+        assertFalse(board.getEscapeField().canEscapeFrom(board.indexOf(0, 0)));
+    }
+
+    @Test
+    public void testAnswersQuicklyOnLargeBoards() {
+        HexGameBoard board = new HexGameBoard(50);
+        Random random = new Random(1);
+        for (int i = 0; i < 2_000; i++) {
+            HexPosition p = board.positionAt(random.nextInt(board.getCellCount()));
+            if (p.getQ() != 0 || p.getR() != 0) board.blockTile(p);
+        }
+        int cat = board.indexOf(0, 0);
+        for (int i = 0; i < 20; i++) {
+            new MinCutHintEngine(board).suggestWall(cat); // calentamiento
+        }
+        long start = System.nanoTime();
+        int rounds = 50;
+        for (int i = 0; i < rounds; i++) {
+            new MinCutHintEngine(board).suggestWall(cat);
+        }
+        double millis = (System.nanoTime() - start) / 1e6 / rounds;
+        assertTrue(millis < 10, "sugerencia en radio 50: " + millis + " ms");
+    }
+
+    private static boolean contains(int[] cells, int cell) {
+        for (int c : cells) {
+            if (c == cell) return true;
+        }
+        return false;
+    }
+
+    private static boolean encloses(HexGameBoard board, int cat, int[] cells) {
+        HexGameBoard copy = copy(board);
+        for (int cell : cells) copy.blockTile(copy.positionAt(cell));
+        return !copy.getEscapeField().canEscapeFrom(cat);
+    }
+
+    private static boolean anySubsetEncloses(HexGameBoard board, int cat, int size) {
+        if (size <= 0) return false;
+        List<Integer> free = new ArrayList<>();
+        for (int cell = 0; cell < board.getCellCount(); cell++) {
+            if (!board.isBlockedIndex(cell) && cell != cat) free.add(cell);
+        }
+        return search(board, cat, free, 0, new int[size], 0);
+    }
+
+    private static boolean search(HexGameBoard board, int cat, List<Integer> free, int from, int[] chosen, int count) {
+        if (count == chosen.length) return encloses(board, cat, chosen);
+        for (int i = from; i < free.size(); i++) {
+            chosen[count] = free.get(i);
+            if (search(board, cat, free, i + 1, chosen, count + 1)) return true;
+        }
+        return false;
+    }
+
+    private static HexGameBoard copy(HexGameBoard board) {
+        HexGameBoard copy = new HexGameBoard(board.getBoardSize());
+        for (HexPosition p : board.getBlockedPositions()) copy.blockTile(p);
+        return copy;
+    }
+}
@@ -0,0 +1,92 @@
+package com.atraparalagato.impl.model;
+
+import com.atraparalagato.impl.strategy.MonteCarloCatMovement;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MonteCarloCatMovementTest {
+
+    @Test
+    public void testMovesAreLegal() {
+        Random random = new Random(11);
+        for (int round = 0; round < 20; round++) {
+            HexGameBoard board = new HexGameBoard(4 + random.nextInt(4));
+            for (HexPosition p : board.getPositionsWhere(p -> p.getQ() != 0 || p.getR() != 0)) {
+                if (random.nextInt(4) == 0) board.blockTile(p);
+            }
+            HexPosition cat = new HexPosition(0, 0);
+            MonteCarloCatMovement strategy = new MonteCarloCatMovement(board, 1_000, 400, 2, round);
+            strategy.findBestMove(cat, null).ifPresent(move -> {
+                assertTrue(move.isAdjacentTo(cat));
+                assertFalse(board.isBlocked(move));
+            });
+        }
+    }
+
+    @Test
+    public void testTakesImmediateEscape() {
+        HexGameBoard board = new HexGameBoard(5);
+        HexPosition cat = new HexPosition(4, 0);
+        MonteCarloCatMovement strategy = new MonteCarloCatMovement(board, 20, Long.MAX_VALUE, 2, 1);
+        HexPosition move = strategy.findBestMove(cat, null).orElseThrow();
+        assertTrue(board.getTopology().isBorder(board.indexOf(move.getQ(), move.getR())));
+    }
+
+    @Test
+    public void testAvoidsDeadEnd() {
+        // (2,0) es el vecino más cercano al borde pero está tapiado salvo por (1,0):
+        // si el gato entra, el jugador cierra (1,0) y lo encierra
+        HexGameBoard board = new HexGameBoard(3);
+        for (HexPosition wall : new HexPosition[]{new HexPosition(3, 0), new HexPosition(3, -1),
+                new HexPosition(2, -1), new HexPosition(2, 1), new HexPosition(1, 1)}) {
+            board.blockTile(wall);
+        }
+        HexPosition cat = new HexPosition(1, 0);
+
+        MonteCarloCatMovement strategy = new MonteCarloCatMovement(board, 2_000, 5_000, 2, 7);
+        assertNotEquals(new HexPosition(2, 0), strategy.findBestMove(cat, null).orElseThrow());
+    }
+
+    @Test
+    public void testSimulationBudgetIsExact() {
+        HexGameBoard board = new HexGameBoard(9);
+        MonteCarloCatMovement strategy = new MonteCarloCatMovement(board, 10_000, 1_001, 3, 42);
+        assertTrue(strategy.findBestMove(new HexPosition(0, 0), null).isPresent());
+
+        assertEquals(1_001, strategy.getLastSimulations());
+        assertTrue(strategy.getLastPlayoutsPerSecond() > 0);
+        assertEquals(3, strategy.getSearchStatistics().get("threads"));
+    }
+
+    @Test
+    public void testRespectsTimeBudget() {
+        HexGameBoard board = new HexGameBoard(40);
+        MonteCarloCatMovement strategy = new MonteCarloCatMovement(board, 30, 1_000_000_000L, 2, 3);
+        assertTrue(strategy.findBestMove(new HexPosition(0, 0), null).isPresent());
+
+        // La cortó el reloj de la búsqueda, no el tope de simulaciones (inalcanzable en 30 ms)
+        double elapsedMillis = (double) strategy.getSearchStatistics().get("elapsedMillis");
+        assertTrue(elapsedMillis >= 30, "la búsqueda debe usar su presupuesto: " + elapsedMillis + " ms");
+        assertTrue(strategy.getLastSimulations() > 0);
+        assertTrue(strategy.getLastSimulations() < 1_000_000_000L);
+    }
+
+    @Test
+    public void testStopEndsTheSearch() throws InterruptedException {
+        HexGameBoard board = new HexGameBoard(9);
+        MonteCarloCatMovement strategy = new MonteCarloCatMovement(board, 60_000, Long.MAX_VALUE, 2, 5);
+        HexPosition[] move = new HexPosition[1];
+        Thread search = new Thread(() -> move[0] = strategy.findBestMove(new HexPosition(0, 0), null).orElseThrow());
+        search.start();
+        strategy.stop();
+
+        // Sin stop() la búsqueda ocuparía el hilo un minuto
+        search.join(10_000);
+        assertFalse(search.isAlive());
+        assertTrue(move[0].isAdjacentTo(new HexPosition(0, 0)));
+    }
+}
@@ -0,0 +1,116 @@
+package com.atraparalagato.impl.model;
+
+import com.atraparalagato.impl.simulation.SimulatedGames;
+import com.atraparalagato.impl.simulation.EscapeSearch;
+import com.atraparalagato.impl.simulation.SimulationEngine;
+import com.atraparalagato.impl.simulation.SimulationGrid;
+import com.atraparalagato.impl.simulation.SimulationPolicies;
+import com.atraparalagato.impl.simulation.SimulationSummary;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SimulationEngineTest {
+
+    @Test
+    public void testResultsDoNotDependOnParallelism() {
+        SimulationSummary[] summaries = new SimulationSummary[2];
+        int[] threads = {1, 3};
+        for (int i = 0; i < threads.length; i++) {
+            try (SimulationEngine engine = new SimulationEngine(SimulationPolicies.blockingPlayer(0.4),
+                    SimulationPolicies.noisyCat(0.1), threads[i])) {
+                SimulatedGames games = new SimulatedGames(5, 5_000, 42);
+                engine.play(games);
+                summaries[i] = games.summarize();
+            }
+        }
+        assertEquals(5_000, summaries[0].getGames());
+        assertEquals(summaries[0].getPlayerWins(), summaries[1].getPlayerWins());
+        assertEquals(summaries[0].getMoves(), summaries[1].getMoves());
+        assertTrue(summaries[0].getPlayerWins() > 0 && summaries[0].getCatWins() > 0);
+    }
+
+    @Test
+    public void testFinalPositionsFollowGameRules() {
+        try (SimulationEngine engine = new SimulationEngine(SimulationPolicies.blockingPlayer(0.5),
+                SimulationPolicies.shortestPathCat(), 2)) {
+            SimulatedGames games = new SimulatedGames(4, 300, 7);
+            engine.play(games);
+            SimulationGrid grid = games.getGrid();
+            for (int game = 0; game < games.getCount(); game++) {
+                HexGameState state = new HexGameState("sim-" + game, 4);
+                for (int cell = 0; cell < grid.getBits(); cell++) {
+                    if (games.isWall(game, cell)) state.getGameBoard().blockTile(grid.positionAt(cell));
+                }
+                state.setCatPosition(grid.positionAt(games.getCatCell(game)));
+                assertEquals(games.getStatus(game) == SimulatedGames.PLAYER_WON, state.hasPlayerWon());
+                assertTrue(state.isGameFinished());
+                assertEquals(state.getGameBoard().getBlockedCount(), games.getMoveCount(game));
+            }
+        }
+    }
+
+    @Test
+    public void testBitParallelSearchMatchesEscapeField() {
+        Random random = new Random(3);
+        for (int size : new int[] {2, 7, 31, 40}) {
+            SimulationGrid grid = SimulationGrid.forSize(size);
+            EscapeSearch search = new EscapeSearch();
+            for (int round = 0; round < 20; round++) {
+                SimulatedGames games = new SimulatedGames(size, 1, round);
+                HexGameBoard board = new HexGameBoard(size);
+                double density = random.nextDouble() * 0.5;
+                for (int cell = 0; cell < grid.getBits(); cell++) {
+                    if (grid.isInBoard(cell) && cell != games.getCatCell(0) && random.nextDouble() < density) {
+                        games.addWall(0, cell);
+                        board.blockTile(grid.positionAt(cell));
+                    }
+                }
+                int cat = board.indexOf(0, 0);
+                int expected = board.getEscapeField().distanceAt(cat);
+                int distance = search.search(games, 0);
+                assertEquals(expected == EscapeDistanceField.UNREACHABLE ? -1 : expected, distance);
+                if (distance > 0) {
+                    HexPosition step = grid.positionAt(search.firstStep());
+                    assertTrue(step.isAdjacentTo(new HexPosition(0, 0)));
+                    assertEquals(distance - 1, board.getEscapeField().distanceAt(board.indexOf(step.getQ(), step.getR())));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testCatEscapesSmallestBoardInOneTurn() {
+        try (SimulationEngine engine = new SimulationEngine(SimulationPolicies.blockingPlayer(0),
+                SimulationPolicies.shortestPathCat(), 1)) {
+            SimulatedGames games = new SimulatedGames(1, 100, 1);
+            assertEquals(1, engine.play(games));
+            SimulationSummary summary = games.summarize();
+            assertEquals(100, summary.getCatWins());
+            assertEquals(1.0, summary.getAverageMoves(), 1e-9);
+        }
+    }
+
+    @Test
+    public void testStreamsOneCsvRowPerBatch() {
+        try (SimulationEngine engine = new SimulationEngine(SimulationPolicies.randomPlayer(),
+                SimulationPolicies.shortestPathCat(), 2)) {
+            StringWriter csv = new StringWriter();
+            Map<Integer, SimulationSummary> summaries = engine.simulate(new int[] {3, 4}, 2_500, 1_000, 1L, csv);
+
+            String[] lines = csv.toString().split("\n");
+            assertEquals(1 + 2 * 3, lines.length);
+            assertTrue(lines[0].startsWith("radio,tanda,partidas"));
+            assertTrue(lines[3].startsWith("3,2,500,"));
+            assertEquals(2_500, summaries.get(3).getGames());
+            assertEquals(2_500, summaries.get(4).getGames());
+            assertEquals((long) engine.getStatistics().get("turns"),
+                    summaries.get(3).getMoves() + summaries.get(4).getMoves());
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.atraparalagato.impl.model;
+
+import com.atraparalagato.impl.arena.ArenaContestant;
+import com.atraparalagato.impl.arena.ArenaPlayer;
+import com.atraparalagato.impl.arena.ArenaResult;
+import com.atraparalagato.impl.arena.StrategyArena;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StrategyArenaTest {
+
+    private static List<ArenaResult> run(int threads, long seed) {
+        List<ArenaContestant> cats = List.of(ArenaContestant.fromConfigName("simple"),
+                ArenaContestant.fromConfigName("distance-field"), ArenaContestant.fromConfigName("alphabeta"));
+        return new StrategyArena(cats, ArenaPlayer.all(), new int[] {3, 5}, 12, 0.15, seed, threads).run();
+    }
+
+    @Test
+    public void testSameSeedGivesSameResultsWithAnyParallelism() {
+        List<ArenaResult> sequential = run(1, 7);
+        List<ArenaResult> parallel = run(3, 7);
+
+        assertEquals(3 * 3 * 2, sequential.size());
+        for (int i = 0; i < sequential.size(); i++) {
+            ArenaResult a = sequential.get(i);
+            ArenaResult b = parallel.get(i);
+            assertEquals(a.getContestant(), b.getContestant());
+            assertEquals(a.getPlayer(), b.getPlayer());
+            assertEquals(a.getBoardSize(), b.getBoardSize());
+            assertEquals(a.getCatWins(), b.getCatWins());
+            assertEquals(a.getAverageWalls(), b.getAverageWalls(), 1e-12);
+            assertEquals(a.getCatMoves(), b.getCatMoves());
+        }
+        assertEquals("simple", sequential.get(0).getContestant());
+        assertEquals("random", sequential.get(0).getPlayer());
+        assertEquals(3, sequential.get(0).getBoardSize());
+        assertEquals(5, sequential.get(1).getBoardSize());
+    }
+
+    @Test
+    public void testReportsIntervalsAndCosts() {
+        for (ArenaResult result : run(2, 11)) {
+            double[] interval = result.getCatWinRateInterval();
+            assertEquals(12, result.getGames());
+            assertTrue(interval[0] <= result.getCatWinRate() && result.getCatWinRate() <= interval[1]);
+            assertTrue(interval[0] >= 0 && interval[1] <= 1 && interval[1] - interval[0] > 0.1);
+            assertTrue(result.getCatMoves() > 0);
+            assertTrue(result.getThinkMicrosPercentile(0.99) >= result.getThinkMicrosPercentile(0.5));
+        }
+        String report = StrategyArena.report(run(1, 11));
+        assertTrue(report.lines().count() == 1 + 18);
+        assertTrue(report.contains("distance-field  min-cut"));
+    }
+
+    @Test
+    public void testMonteCarloCostIsMeasuredOnTheArenaThread() {
+        List<ArenaResult> results = new StrategyArena(List.of(ArenaContestant.fromConfigName("mcts")),
+                List.of(ArenaPlayer.random()), new int[] {5}, 8, 0.15, 3, 2).run();
+        double bytes = results.get(0).getAllocatedBytesPerMove();
+
+        // Los árboles se arman en el hilo de la arena, así que su memoria se cuenta
+        assertTrue(bytes < 0 || bytes > 50_000);
+    }
+
+    @Test
+    public void testWilsonIntervalForExtremeRates() {
+        ArenaResult allWins = new StrategyArena(List.of(ArenaContestant.fromConfigName("distance-field")),
+                List.of(ArenaPlayer.random()), new int[] {2}, 40, 0.0, 1, 1).run().get(0);
+
+        // En radio 2 sin muros iniciales el gato llega al borde antes de que el azar lo encierre
+        assertEquals(40, allWins.getCatWins());
+        assertEquals(0.9124, allWins.getCatWinRateInterval()[0], 1e-4);
+        assertEquals(1.0, allWins.getCatWinRateInterval()[1], 1e-12);
+    }
+}
@@ -0,0 +1,89 @@
+package com.atraparalagato.impl.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ZobristHashTest {
+
+    @Test
+    public void testIncrementalHashMatchesKeysAndIgnoresOrder() {
+        HexGameBoard board = new HexGameBoard(5);
+        List<HexPosition> walls = board.getPositionsWhere(p -> (p.getQ() * 7 + p.getR() * 3) % 4 == 0);
+        ZobristKeys keys = ZobristKeys.forSize(5);
+
+        long expected = 0;
+        for (HexPosition p : walls) {
+            board.blockTile(p);
+            expected ^= keys.wallKey(board.indexOf(p.getQ(), p.getR()));
+        }
+        assertEquals(expected, board.getStateHash());
+
+        // Mismo conjunto en otro orden, con repetidos: mismo hash
+        Collections.shuffle(walls, new Random(1));
+        HexGameBoard other = new HexGameBoard(5);
+        for (HexPosition p : walls) {
+            other.blockTile(p);
+            other.blockTile(p);
+        }
+        assertEquals(board.getStateHash(), other.getStateHash());
+    }
+
+    @Test
+    public void testStateHashFollowsCat() {
+        HexGameState state = new HexGameState("hash", 5);
+        long initial = state.getStateHash();
+        assertEquals(ZobristKeys.forSize(5).catKey(state.getGameBoard().indexOf(0, 0)), initial);
+
+        state.executeMove(new HexPosition(2, -1));
+        long withWall = state.getStateHash();
+        assertNotEquals(initial, withWall);
+
+        state.setCatPosition(new HexPosition(1, 0));
+        assertNotEquals(withWall, state.getStateHash());
+        state.setCatPosition(new HexPosition(0, 0));
+        assertEquals(withWall, state.getStateHash());
+    }
+
+    @Test
+    public void testKeysAreStableAcrossRuns() {
+        // Claves fijas: si este valor cambia, se invalidan hashes ya guardados
+        ZobristKeys keys = ZobristKeys.forSize(5);
+        assertSame(keys, ZobristKeys.forSize(5));
+        assertEquals(0x16F4E73C6F80607DL, keys.wallKey(0) ^ keys.catKey(90));
+    }
+
+    @Test
+    public void testNoCollisionsAcrossMillionsOfPositions() {
+        // Radio 4: 61 celdas, cada configuración cabe en una máscara de 61 bits + gato
+        int size = 4;
+        int cellCount = HexBoardTopology.forSize(size).getCellCount();
+        ZobristKeys keys = ZobristKeys.forSize(size);
+        long cellMask = (1L << cellCount) - 1;
+
+        int samples = 2_000_000;
+        long[] hashes = new long[samples];
+        Random random = new Random(8);
+        for (int i = 0; i < samples; i++) {
+            long walls = random.nextLong() & random.nextLong() & cellMask;
+            int cat = random.nextInt(cellCount);
+            long hash = keys.catKey(cat);
+            for (long w = walls; w != 0; w &= w - 1) {
+                hash ^= keys.wallKey(Long.numberOfTrailingZeros(w));
+            }
+            hashes[i] = hash;
+        }
+        Arrays.sort(hashes);
+        int collisions = 0;
+        for (int i = 1; i < samples; i++) {
+            if (hashes[i] == hashes[i - 1]) collisions++;
+        }
+        // Con 2^67 configuraciones posibles, repetir una al azar es despreciable
+        assertEquals(0, collisions);
+    }
+}
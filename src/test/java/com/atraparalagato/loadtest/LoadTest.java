@@ -0,0 +1,100 @@
+package com.atraparalagato.loadtest;
+
+import com.atraparalagato.AtraparAlGatoApplication;
+import com.atraparalagato.impl.arena.ArenaPlayer;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Prueba de carga dentro del proceso: levanta la aplicación en un puerto al
+ * azar (con una base H2 en memoria, para no tocar la de desarrollo), juega las
+ * partidas con {@link LoadTestRunner} y escribe el reporte JSON.
+ *
+ * Argumentos clave=valor (todos opcionales):
+ *   players=1000 games=1 size=7 policy=greedy-adjacent seed=1
+ *   async=true               (muros por /block-async en vez de /block)
+ *   report=target/loadtest-report.json
+ *   url=http://host:puerto   (usa un servidor ya levantado en vez de arrancar uno)
+ *   game.*, server.*, spring.*=...   (propiedades de la aplicación, p. ej. game.cat-strategy=astar)
+ *
+ * Ejecutar con:
+ *   mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.atraparalagato.loadtest.LoadTest -Dexec.args="players=2000"
+ */
+public class LoadTest {
+
+    private static final List<String> SERVER_PROPERTIES = List.of(
+            "server.port=0",
+            "spring.datasource.url=jdbc:h2:mem:carga;DB_CLOSE_DELAY=-1",
+            "spring.jpa.hibernate.ddl-auto=create-drop",
+            "spring.h2.console.enabled=false",
+            "game.use-example-implementation=false",
+            "logging.level.root=WARN");
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        List<String> properties = new ArrayList<>(List.of("server.tomcat.threads.max=400"));
+        for (String arg : args) {
+            int equals = arg.indexOf('=');
+            if (equals < 0) {
+                throw new IllegalArgumentException("Se esperaba clave=valor: " + arg);
+            }
+            if (arg.startsWith("game.") || arg.startsWith("server.") || arg.startsWith("spring.")) {
+                properties.add(arg);
+            } else {
+                options.put(arg.substring(0, equals), arg.substring(equals + 1));
+            }
+        }
+
+        ConfigurableApplicationContext context = null;
+        URI baseUri;
+        if (options.containsKey("url")) {
+            baseUri = URI.create(options.get("url"));
+        } else {
+            context = startServer(properties);
+            baseUri = baseUri(context);
+        }
+
+        try {
+            LoadTestRunner runner = new LoadTestRunner(baseUri,
+                    Integer.parseInt(options.getOrDefault("players", "1000")),
+                    Integer.parseInt(options.getOrDefault("games", "1")),
+                    Integer.parseInt(options.getOrDefault("size", "7")),
+                    ArenaPlayer.fromConfigName(options.getOrDefault("policy", "greedy-adjacent")),
+                    Long.parseLong(options.getOrDefault("seed", "1")));
+            if (Boolean.parseBoolean(options.getOrDefault("async", "false"))) {
+                runner.setBlockPath("/api/game/block-async");
+            }
+            Map<String, Object> report = runner.run();
+            Path file = Path.of(options.getOrDefault("report", "target/loadtest-report.json"));
+            runner.writeReport(report, file);
+            System.out.print(LoadTestRunner.summary(report));
+            System.out.println("Reporte: " + file.toAbsolutePath());
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    /** Levanta la aplicación en un puerto al azar, con H2 en memoria y las propiedades dadas por encima */
+    public static ConfigurableApplicationContext startServer(List<String> properties) {
+        List<String> all = new ArrayList<>(SERVER_PROPERTIES);
+        all.addAll(properties);
+        return new SpringApplicationBuilder(AtraparAlGatoApplication.class)
+                .properties(all.toArray(new String[0]))
+                .run();
+    }
+
+    public static URI baseUri(ConfigurableApplicationContext context) {
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        return URI.create("http://localhost:" + port);
+    }
+}
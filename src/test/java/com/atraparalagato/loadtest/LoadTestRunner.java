@@ -0,0 +1,288 @@
+package com.atraparalagato.loadtest;
+
+import com.atraparalagato.impl.arena.ArenaPlayer;
+import com.atraparalagato.impl.model.HexGameBoard;
+import com.atraparalagato.impl.model.HexPosition;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Jugadores simultáneos que juegan partidas completas por HTTP contra un
+ * servidor ya levantado: /start, /block y /state en cada turno, y /save-score
+ * al terminar.
+ *
+ * Cada jugador elige sus muros con una política de la arena sobre una copia
+ * local del tablero, con una semilla derivada de la semilla de la corrida, el
+ * jugador y la partida: dos corridas con la misma configuración mandan los
+ * mismos pedidos (salvo que cambie el gato del servidor).
+ *
+ * Con Java 21 o más cada jugador es un hilo virtual; con Java 17 se usa un
+ * pool de hilos de plataforma, con lo que la concurrencia real queda acotada.
+ */
+public final class LoadTestRunner {
+
+    private static final List<String> ENDPOINTS = List.of("start", "block", "state", "save-score");
+    private static final int PLATFORM_THREADS = 256;
+
+    private final URI baseUri;
+    private final int players;
+    private final int gamesPerPlayer;
+    private final int boardSize;
+    private final ArenaPlayer policy;
+    private final long seed;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final Map<String, EndpointStats> stats = new LinkedHashMap<>();
+    private final LongAdder finishedGames = new LongAdder();
+    private final LongAdder playerWins = new LongAdder();
+    private final LongAdder failedGames = new LongAdder();
+    private String blockPath = "/api/game/block";
+    private String threadKind;
+
+    public LoadTestRunner(URI baseUri, int players, int gamesPerPlayer, int boardSize, ArenaPlayer policy, long seed) {
+        if (players <= 0 || gamesPerPlayer <= 0) {
+            throw new IllegalArgumentException("Se necesita al menos un jugador y una partida por jugador");
+        }
+        this.baseUri = baseUri;
+        this.players = players;
+        this.gamesPerPlayer = gamesPerPlayer;
+        this.boardSize = boardSize;
+        this.policy = policy;
+        this.seed = seed;
+        for (String endpoint : ENDPOINTS) {
+            stats.put(endpoint, new EndpointStats());
+        }
+    }
+
+    /** Ruta de los muros: /api/game/block (por defecto) o /api/game/block-async */
+    public void setBlockPath(String blockPath) {
+        this.blockPath = blockPath;
+    }
+
+    /** Juega todas las partidas y devuelve el reporte (ver {@link #writeReport}) */
+    public Map<String, Object> run() throws InterruptedException {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        long heapBefore = usedHeapAfterGc(memory);
+        long begin = System.nanoTime();
+        ExecutorService executor = newPlayerExecutor();
+        try {
+            for (int player = 0; player < players; player++) {
+                int id = player;
+                executor.execute(() -> {
+                    for (int game = 0; game < gamesPerPlayer; game++) {
+                        playGame(id, game);
+                    }
+                });
+            }
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.HOURS);
+        }
+        double seconds = (System.nanoTime() - begin) / 1e9;
+        long heapAfter = usedHeapAfterGc(memory);
+        return report(seconds, heapBefore, heapAfter);
+    }
+
+    private void playGame(int player, int game) {
+        SplittableRandom random = new SplittableRandom(seed * 1_000_003L + player * 7_919L + game);
+        JsonNode state = call("start", get("/api/game/start?boardSize=" + boardSize));
+        if (state == null) {
+            failedGames.increment();
+            return;
+        }
+        String gameId = state.path("gameId").asText();
+        HexGameBoard board = new HexGameBoard(boardSize);
+        while ("IN_PROGRESS".equals(state.path("status").asText())) {
+            JsonNode cat = state.path("catPosition");
+            int wall = policy.chooseWall(board, board.indexOf(cat.path("q").asInt(), cat.path("r").asInt()), random);
+            if (wall < 0) {
+                break;
+            }
+            HexPosition pos = board.positionAt(wall);
+            board.blockTile(pos);
+            state = call("block", post(blockPath + "?gameId=" + encode(gameId)
+                    + "&q=" + pos.getQ() + "&r=" + pos.getR()));
+            if (state == null || call("state", get("/api/game/state/" + encode(gameId))) == null) {
+                failedGames.increment();
+                return;
+            }
+        }
+        if ("PLAYER_WON".equals(state.path("status").asText())) {
+            playerWins.increment();
+        }
+        if (call("save-score", post("/api/game/save-score?gameId=" + encode(gameId)
+                + "&playerName=" + encode("carga-" + player))) == null) {
+            failedGames.increment();
+            return;
+        }
+        finishedGames.increment();
+    }
+
+    /** Manda el pedido y registra su latencia; null si falló o no respondió 2xx */
+    private JsonNode call(String endpoint, HttpRequest request) {
+        EndpointStats endpointStats = stats.get(endpoint);
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            endpointStats.latency.recordNanos(System.nanoTime() - start);
+            if (response.statusCode() / 100 != 2) {
+                endpointStats.errors.increment();
+                return null;
+            }
+            return mapper.readTree(response.body());
+        } catch (IOException e) {
+            endpointStats.latency.recordNanos(System.nanoTime() - start);
+            endpointStats.errors.increment();
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            endpointStats.errors.increment();
+            return null;
+        }
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path)).GET().build();
+    }
+
+    private HttpRequest post(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path)).POST(HttpRequest.BodyPublishers.noBody()).build();
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    /** Hilos virtuales si la JVM los tiene (se buscan por reflexión: el proyecto compila con Java 17) */
+    private ExecutorService newPlayerExecutor() {
+        try {
+            ExecutorService executor = (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            threadKind = "virtual";
+            return executor;
+        } catch (ReflectiveOperationException e) {
+            int threads = Math.min(players, PLATFORM_THREADS);
+            threadKind = "platform(" + threads + ")";
+            return Executors.newFixedThreadPool(threads);
+        }
+    }
+
+    private static long usedHeapAfterGc(MemoryMXBean memory) {
+        memory.gc();
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    private Map<String, Object> report(double seconds, long heapBefore, long heapAfter) {
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("baseUri", baseUri.toString());
+        config.put("players", players);
+        config.put("gamesPerPlayer", gamesPerPlayer);
+        config.put("boardSize", boardSize);
+        config.put("policy", policy.getName());
+        config.put("blockPath", blockPath);
+        config.put("seed", seed);
+        config.put("threads", threadKind);
+
+        long requests = 0;
+        long errors = 0;
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        for (Map.Entry<String, EndpointStats> entry : stats.entrySet()) {
+            LatencyHistogram latency = entry.getValue().latency;
+            long endpointErrors = entry.getValue().errors.sum();
+            long count = Math.max(latency.getCount(), endpointErrors);
+            requests += count;
+            errors += endpointErrors;
+            Map<String, Object> endpoint = new LinkedHashMap<>();
+            endpoint.put("requests", count);
+            endpoint.put("errors", endpointErrors);
+            endpoint.put("errorRate", count == 0 ? 0.0 : (double) endpointErrors / count);
+            endpoint.put("requestsPerSecond", count / seconds);
+            endpoint.put("meanMillis", latency.getMeanMicros() / 1_000.0);
+            endpoint.put("p50Millis", latency.percentileMicros(0.50) / 1_000.0);
+            endpoint.put("p99Millis", latency.percentileMicros(0.99) / 1_000.0);
+            endpoint.put("p999Millis", latency.percentileMicros(0.999) / 1_000.0);
+            endpoint.put("maxMillis", latency.getMaxMicros() / 1_000.0);
+            endpoints.put(entry.getKey(), endpoint);
+        }
+
+        Map<String, Object> games = new LinkedHashMap<>();
+        games.put("finished", finishedGames.sum());
+        games.put("failed", failedGames.sum());
+        games.put("playerWins", playerWins.sum());
+
+        Map<String, Object> heap = new LinkedHashMap<>();
+        heap.put("usedBeforeMb", heapBefore / (1024.0 * 1024.0));
+        heap.put("usedAfterMb", heapAfter / (1024.0 * 1024.0));
+        heap.put("growthMb", (heapAfter - heapBefore) / (1024.0 * 1024.0));
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("config", config);
+        report.put("durationSeconds", seconds);
+        report.put("requests", requests);
+        report.put("requestsPerSecond", requests / seconds);
+        report.put("errorRate", requests == 0 ? 0.0 : (double) errors / requests);
+        report.put("games", games);
+        report.put("endpoints", endpoints);
+        report.put("heap", heap);
+        return report;
+    }
+
+    /** Escribe el reporte como JSON, para comparar corridas */
+    public void writeReport(Map<String, Object> report, Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        mapper.writerWithDefaultPrettyPrinter().writeValue(file.toFile(), report);
+    }
+
+    /** Tabla de una línea por endpoint */
+    @SuppressWarnings("unchecked")
+    public static String summary(Map<String, Object> report) {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format("%-12s %9s %8s %10s %9s %9s %9s %9s%n",
+                "endpoint", "pedidos", "errores", "pedidos/s", "p50 ms", "p99 ms", "p999 ms", "max ms"));
+        Map<String, Object> endpoints = (Map<String, Object>) report.get("endpoints");
+        for (Map.Entry<String, Object> entry : endpoints.entrySet()) {
+            Map<String, Object> e = (Map<String, Object>) entry.getValue();
+            out.append(String.format("%-12s %9d %8d %10.1f %9.2f %9.2f %9.2f %9.2f%n", entry.getKey(),
+                    (Long) e.get("requests"), (Long) e.get("errors"), (Double) e.get("requestsPerSecond"),
+                    (Double) e.get("p50Millis"), (Double) e.get("p99Millis"),
+                    (Double) e.get("p999Millis"), (Double) e.get("maxMillis")));
+        }
+        Map<String, Object> heap = (Map<String, Object>) report.get("heap");
+        out.append(String.format("%.1f pedidos/s en %.1f s, partidas %s, heap %+.1f MB%n",
+                (Double) report.get("requestsPerSecond"), (Double) report.get("durationSeconds"),
+                report.get("games"), (Double) heap.get("growthMb")));
+        return out.toString();
+    }
+
+    private static final class EndpointStats {
+        final LatencyHistogram latency = new LatencyHistogram();
+        final LongAdder errors = new LongAdder();
+    }
+}